@@ -1,26 +1,46 @@
 package heavenboards.user.service.authentication.controller;
 
+import heavenboards.user.service.authentication.refresh.IssuedTokens;
+import heavenboards.user.service.authentication.refresh.RefreshTokenService;
 import heavenboards.user.service.authentication.service.AuthenticationUseCase;
 import heavenboards.user.service.authentication.service.RegistrationUseCase;
+import heavenboards.user.service.authentication.service.TokenRefreshUseCase;
+import heavenboards.user.service.authentication.throttling.ClientAddressResolver;
+import heavenboards.user.service.authentication.throttling.LoginThrottle;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+import transfer.contract.domain.common.OperationStatus;
 import transfer.contract.domain.user.UserTo;
 
 /**
  * Контроллер для регистрации и аутентификации.
  */
 @RestController
-@CrossOrigin
+@CrossOrigin(exposedHeaders = AuthenticationController.REFRESH_TOKEN_HEADER)
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
 public class AuthenticationController {
+    /**
+     * Заголовок, в котором передается refresh-токен.
+     */
+    public static final String REFRESH_TOKEN_HEADER = "X-Refresh-Token";
+
+    /**
+     * Заголовок запроса, которым клиент запрашивает выдачу refresh-токена при входе
+     * или регистрации. Без него refresh-токен не выпускается и в базу не записывается.
+     */
+    public static final String REQUEST_REFRESH_TOKEN_HEADER = "X-Request-Refresh-Token";
+
     /**
      * Use case для аутентификации пользователей.
      */
@@ -31,27 +51,123 @@ public class AuthenticationController {
      */
     private final RegistrationUseCase registrationUseCase;
 
+    /**
+     * Ограничение попыток входа.
+     */
+    private final LoginThrottle loginThrottle;
+
+    /**
+     * Определение адреса клиента за прокси.
+     */
+    private final ClientAddressResolver clientAddressResolver;
+
+    /**
+     * Use case для обновления access-токена.
+     */
+    private final TokenRefreshUseCase tokenRefreshUseCase;
+
+    /**
+     * Сервис refresh-токенов.
+     */
+    private final RefreshTokenService refreshTokenService;
+
     /**
      * Запрос на регистрацию пользователя.
      *
-     * @param user - данные пользователя для регистрации
-     * @return результат операции с токеном
+     * @param user                  - данные пользователя для регистрации
+     * @param refreshTokenRequested - запрошен ли refresh-токен
+     * @return результат операции с токеном и, если запрошен,
+     * refresh-токен в заголовке X-Refresh-Token
      */
     @PostMapping("/register")
     @Operation(summary = "Запрос на регистрацию пользователя")
-    public AuthenticationOperationResultTo register(final @Valid @RequestBody UserTo user) {
-        return registrationUseCase.register(user);
+    public ResponseEntity<AuthenticationOperationResultTo> register(
+        final @Valid @RequestBody UserTo user,
+        final @RequestHeader(value = REQUEST_REFRESH_TOKEN_HEADER, defaultValue = "false")
+        boolean refreshTokenRequested
+    ) {
+        return withRefreshToken(registrationUseCase.register(user), refreshTokenRequested);
     }
 
     /**
      * Запрос на аутентификацию пользователя.
+     * Попытки сверх лимита по username или адресу клиента отклоняются
+     * до проверки пароля и обращения к базе. Успешный вход сбрасывает лимит username.
      *
-     * @param user - данные пользователя для аутентификации
-     * @return результат операции с токеном
+     * @param user                  - данные пользователя для аутентификации
+     * @param refreshTokenRequested - запрошен ли refresh-токен
+     * @param request               - http-запрос для определения адреса клиента
+     * @return результат операции с токеном и, если запрошен,
+     * refresh-токен в заголовке X-Refresh-Token
      */
     @PostMapping("/authenticate")
     @Operation(summary = "Запрос на аутентификацию пользователя")
-    public AuthenticationOperationResultTo authenticate(final @Valid @RequestBody UserTo user) {
-        return authenticationUseCase.authenticate(user);
+    public ResponseEntity<AuthenticationOperationResultTo> authenticate(
+        final @Valid @RequestBody UserTo user,
+        final @RequestHeader(value = REQUEST_REFRESH_TOKEN_HEADER, defaultValue = "false")
+        boolean refreshTokenRequested,
+        final HttpServletRequest request
+    ) {
+        String address = clientAddressResolver.resolve(request);
+        loginThrottle.check(user.getUsername(), address);
+        AuthenticationOperationResultTo result = authenticationUseCase.authenticate(user);
+        if (result.getStatus() == OperationStatus.OK) {
+            loginThrottle.succeeded(user.getUsername(), address);
+        }
+        return withRefreshToken(result, refreshTokenRequested);
+    }
+
+    /**
+     * Запрос на обновление access-токена по refresh-токену.
+     * Предъявленный refresh-токен отзывается, новый возвращается в заголовке.
+     *
+     * @param refreshToken - refresh-токен
+     * @return результат операции с новым токеном, новый refresh-токен в заголовке X-Refresh-Token
+     */
+    @PostMapping("/refresh")
+    @Operation(summary = "Запрос на обновление access-токена по refresh-токену")
+    public ResponseEntity<AuthenticationOperationResultTo> refresh(
+        final @RequestHeader(REFRESH_TOKEN_HEADER) String refreshToken
+    ) {
+        IssuedTokens tokens = tokenRefreshUseCase.refresh(refreshToken);
+        return ResponseEntity.ok()
+            .header(REFRESH_TOKEN_HEADER, tokens.refreshToken())
+            .body(tokens.result());
+    }
+
+    /**
+     * Запрос на отзыв refresh-токена вместе со всеми токенами, выпущенными его ротацией.
+     *
+     * @param refreshToken - refresh-токен
+     * @return пустой ответ
+     */
+    @PostMapping("/revoke")
+    @Operation(summary = "Запрос на отзыв refresh-токена")
+    public ResponseEntity<Void> revoke(
+        final @RequestHeader(REFRESH_TOKEN_HEADER) String refreshToken
+    ) {
+        refreshTokenService.revoke(refreshToken);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Добавить к успешному результату новый refresh-токен, если клиент его запросил.
+     *
+     * @param result                - результат регистрации или аутентификации
+     * @param refreshTokenRequested - запрошен ли refresh-токен
+     * @return ответ с результатом и refresh-токеном в заголовке, если он выпущен
+     */
+    private ResponseEntity<AuthenticationOperationResultTo> withRefreshToken(
+        final AuthenticationOperationResultTo result,
+        final boolean refreshTokenRequested
+    ) {
+        if (!refreshTokenRequested || result.getStatus() != OperationStatus.OK
+            || result.getUserId() == null) {
+            return ResponseEntity.ok(result);
+        }
+
+        return ResponseEntity.ok()
+            .header(REFRESH_TOKEN_HEADER, refreshTokenService.issue(result.getUserId()))
+            .body(result);
     }
 }
@@ -0,0 +1,67 @@
+package heavenboards.user.service.authentication.controller;
+
+import heavenboards.user.service.authentication.hashing.PasswordHashingRejectedException;
+import heavenboards.user.service.authentication.refresh.InvalidRefreshTokenException;
+import heavenboards.user.service.authentication.throttling.LoginThrottledException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Обработчик отказов в регистрации и аутентификации: при нагрузке клиент сразу
+ * получает ответ с заголовком Retry-After, при недействительном refresh-токене - 401.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AuthenticationExceptionHandler {
+    /**
+     * Через сколько секунд клиенту стоит повторить запрос после отказа в хэшировании.
+     */
+    private static final String HASHING_RETRY_AFTER_SECONDS = "1";
+
+    /**
+     * Ответ на отказ в хэшировании пароля.
+     *
+     * @param exception - исключение
+     * @return ответ 503 Service Unavailable
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Void> handlePasswordHashingRejected(
+        final PasswordHashingRejectedException exception
+    ) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, HASHING_RETRY_AFTER_SECONDS)
+            .build();
+    }
+
+    /**
+     * Ответ на превышение лимита попыток входа.
+     *
+     * @param exception - исключение
+     * @return ответ 429 Too Many Requests
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<Void> handleLoginThrottled(final LoginThrottledException exception) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, exception.getRetryAfter().toSeconds())))
+            .build();
+    }
+
+    /**
+     * Ответ на недействительный refresh-токен.
+     *
+     * @param exception - исключение
+     * @return ответ 401 Unauthorized
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<Void> handleInvalidRefreshToken(
+        final InvalidRefreshTokenException exception
+    ) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+}
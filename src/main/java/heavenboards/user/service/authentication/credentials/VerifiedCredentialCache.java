@@ -0,0 +1,203 @@
+package heavenboards.user.service.authentication.credentials;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import heavenboards.user.service.user.cache.UserInvalidatedEvent;
+import heavenboards.user.service.user.domain.UserEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Кэш недавно проверенных учетных данных по username.
+ * Для пользователя хранится HMAC-SHA256 пароля, прошедшего проверку по хэшу, на ключе,
+ * который генерируется при старте и не покидает память процесса. Повторный вход с тем же
+ * паролем в пределах времени жизни записи не вычисляет bcrypt и не загружает пользователя.
+ * Запись удаляется при любом изменении пользователя через {@link UserInvalidatedEvent},
+ * в том числе при смене пароля и флагов статуса аккаунта. Вход, начавшийся до изменения,
+ * не может вернуть устаревшую запись: поколение username запоминается до загрузки
+ * пользователя, инвалидация увеличивает его, и запись кладется только при неизменном
+ * поколении.
+ * Статистика публикуется в метриках cache.* с тегом auth.verified-credentials.
+ */
+@Component
+public class VerifiedCredentialCache {
+    /**
+     * Алгоритм дайджеста пароля.
+     */
+    private static final String DIGEST_ALGORITHM = "HmacSHA256";
+
+    /**
+     * Длина ключа дайджеста в байтах.
+     */
+    private static final int KEY_LENGTH = 32;
+
+    /**
+     * Количество счетчиков поколений. Username с одинаковым счетчиком делят поколение,
+     * поэтому инвалидация одного из них лишь пропускает запись другого.
+     */
+    private static final int GENERATION_STRIPES = 1024;
+
+    /**
+     * Включен ли кэш. Выключенный кэш ничего не хранит.
+     */
+    private final boolean enabled;
+
+    /**
+     * Ключ дайджеста паролей, уникальный для процесса.
+     */
+    private final SecretKeySpec digestKey;
+
+    /**
+     * Проверенные учетные данные по username.
+     */
+    private final Cache<String, VerifiedCredential> credentials;
+
+    /**
+     * Поколения username, увеличиваются при каждой инвалидации.
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    /**
+     * Конструктор.
+     *
+     * @param properties    - настройки кэша
+     * @param meterRegistry - реестр метрик
+     */
+    public VerifiedCredentialCache(final VerifiedCredentialCacheProperties properties,
+                                   final MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        byte[] key = new byte[KEY_LENGTH];
+        new SecureRandom().nextBytes(key);
+        this.digestKey = new SecretKeySpec(key, DIGEST_ALGORITHM);
+        this.credentials = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, credentials, "auth.verified-credentials");
+    }
+
+    /**
+     * Найти пользователя, если такой пароль для него недавно прошел проверку.
+     *
+     * @param username    - username
+     * @param rawPassword - введенный пароль
+     * @return пользователь на момент проверки или пустота
+     */
+    public Optional<UserEntity> findVerified(final String username,
+                                             final CharSequence rawPassword) {
+        if (!enabled || username == null || rawPassword == null) {
+            return Optional.empty();
+        }
+
+        VerifiedCredential credential = credentials.getIfPresent(username);
+        if (credential == null
+            || !MessageDigest.isEqual(credential.passwordDigest(), digest(rawPassword))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(credential.user());
+    }
+
+    /**
+     * Текущее поколение username. Запоминается до загрузки пользователя из базы
+     * и передается в {@link #put(UserEntity, CharSequence, long)}.
+     *
+     * @param username - username
+     * @return поколение
+     */
+    public long generation(final String username) {
+        return generations.get(stripe(username));
+    }
+
+    /**
+     * Запомнить пароль, прошедший проверку, и пользователя, для которого выпускается токен.
+     * Сохраняется копия пользователя без ленивых коллекций. Если после получения поколения
+     * пользователь был инвалидирован, прочитанные данные могли устареть, и запись
+     * не сохраняется.
+     *
+     * @param user        - пользователь, прошедший проверку пароля и статуса аккаунта
+     * @param rawPassword - проверенный пароль
+     * @param generation  - поколение username, полученное до загрузки пользователя
+     */
+    public void put(final UserEntity user, final CharSequence rawPassword,
+                    final long generation) {
+        if (!enabled) {
+            return;
+        }
+
+        UserEntity detached = user.toBuilder()
+            .invitations(new ArrayList<>())
+            .sentInvitations(new ArrayList<>())
+            .build();
+        VerifiedCredential credential = new VerifiedCredential(digest(rawPassword), detached);
+        int stripe = stripe(user.getUsername());
+        // Проверка под блокировкой ключа: evict увеличивает поколение до удаления записи
+        credentials.asMap().compute(user.getUsername(), (username, current) ->
+            generations.get(stripe) == generation ? credential : current);
+    }
+
+    /**
+     * Удалить учетные данные измененного пользователя.
+     *
+     * @param event - событие изменения пользователя
+     */
+    @EventListener
+    public void evict(final UserInvalidatedEvent event) {
+        if (event.username() != null) {
+            generations.incrementAndGet(stripe(event.username()));
+            credentials.invalidate(event.username());
+        }
+    }
+
+    /**
+     * Номер счетчика поколения для username.
+     *
+     * @param username - username
+     * @return номер счетчика
+     */
+    private static int stripe(final String username) {
+        return Math.floorMod(Objects.hashCode(username), GENERATION_STRIPES);
+    }
+
+    /**
+     * Вычислить дайджест пароля.
+     *
+     * @param rawPassword - пароль
+     * @return HMAC-SHA256 пароля в UTF-8
+     */
+    private byte[] digest(final CharSequence rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(DIGEST_ALGORITHM);
+            mac.init(digestKey);
+            mac.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(rawPassword)));
+            return mac.doFinal();
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Не удалось вычислить дайджест пароля", exception);
+        }
+    }
+
+    /**
+     * Проверенные учетные данные.
+     *
+     * @param passwordDigest - дайджест проверенного пароля
+     * @param user           - пользователь на момент проверки
+     */
+    private record VerifiedCredential(byte[] passwordDigest, UserEntity user) {
+    }
+}
@@ -0,0 +1,30 @@
+package heavenboards.user.service.authentication.credentials;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки кэша проверенных учетных данных.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.credential-cache")
+public class VerifiedCredentialCacheProperties {
+    /**
+     * Включен ли кэш. По умолчанию выключен: каждый вход проверяет пароль по хэшу.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Время жизни записи после успешной проверки пароля.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * Максимальное количество пользователей в кэше.
+     */
+    private long maxSize = 10_000;
+}
@@ -0,0 +1,96 @@
+package heavenboards.user.service.authentication.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Refresh-токен пользователя. В базе хранится только SHA-256 хэш токена.
+ * Токены, выпущенные ротацией одного входа, образуют семейство: повторное
+ * использование отозванного токена отзывает все семейство.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Accessors(chain = true)
+@Entity
+@Table(name = "refresh_token")
+public class RefreshTokenEntity {
+    /**
+     * Идентификатор.
+     */
+    @Id
+    @UuidGenerator
+    private UUID id;
+
+    /**
+     * SHA-256 хэш токена в шестнадцатеричном виде.
+     */
+    private String tokenHash;
+
+    /**
+     * Идентификатор владельца токена.
+     */
+    private UUID userId;
+
+    /**
+     * Идентификатор семейства токенов одного входа.
+     */
+    private UUID familyId;
+
+    /**
+     * Время истечения токена.
+     */
+    private ZonedDateTime expiresAt;
+
+    /**
+     * Время выпуска токена.
+     */
+    private ZonedDateTime createdAt;
+
+    /**
+     * Время отзыва токена после ротации или выхода.
+     */
+    private ZonedDateTime revokedAt;
+
+    /**
+     * Сравнение по идентификатору.
+     *
+     * @param another - объект для сравнения
+     * @return равны ли объекты по идентификатору
+     */
+    @Override
+    public boolean equals(final Object another) {
+        if (this == another) {
+            return true;
+        }
+
+        if (another == null || getClass() != another.getClass()) {
+            return false;
+        }
+
+        RefreshTokenEntity entity = (RefreshTokenEntity) another;
+        return Objects.equals(id, entity.id);
+    }
+
+    /**
+     * Хеш код идентификатора.
+     *
+     * @return хеш код идентификатора
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
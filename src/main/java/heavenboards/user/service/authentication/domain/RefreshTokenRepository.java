@@ -0,0 +1,38 @@
+package heavenboards.user.service.authentication.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Репозиторий для refresh-токенов.
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, UUID>,
+    RefreshTokenRotationRepository {
+    /**
+     * Отозвать все действующие токены семейства, к которому относится токен.
+     *
+     * @param tokenHash - хэш любого токена семейства
+     * @return количество отозванных токенов
+     */
+    @Modifying
+    @Query(value = "UPDATE refresh_token SET revoked_at = now() "
+        + "WHERE revoked_at IS NULL AND family_id = "
+        + "(SELECT family_id FROM refresh_token WHERE token_hash = :tokenHash)",
+        nativeQuery = true)
+    int revokeFamilyByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Удалить истекшие токены.
+     *
+     * @param before - время, до которого токены истекли
+     * @return количество удаленных токенов
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.expiresAt < :before")
+    int deleteExpired(@Param("before") ZonedDateTime before);
+}
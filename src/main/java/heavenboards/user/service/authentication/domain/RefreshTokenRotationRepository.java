@@ -0,0 +1,24 @@
+package heavenboards.user.service.authentication.domain;
+
+import heavenboards.user.service.user.domain.UserEntity;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * Ротация refresh-токенов. Вынесена в отдельный фрагмент репозитория, потому что
+ * запрос возвращает владельца токена, а не {@link RefreshTokenEntity}.
+ */
+public interface RefreshTokenRotationRepository {
+    /**
+     * Ротировать refresh-токен одним запросом по уникальному индексу хэша:
+     * действующий токен отзывается, вместо него в том же семействе выпускается новый,
+     * и возвращается владелец токена.
+     *
+     * @param tokenHash    - хэш предъявленного токена
+     * @param newTokenHash - хэш нового токена
+     * @param expiresAt    - время истечения нового токена
+     * @return владелец токена или пустота, если токен не найден, истек или отозван
+     */
+    Optional<UserEntity> rotate(String tokenHash, String newTokenHash, ZonedDateTime expiresAt);
+}
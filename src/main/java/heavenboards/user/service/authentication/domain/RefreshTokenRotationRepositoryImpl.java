@@ -0,0 +1,54 @@
+package heavenboards.user.service.authentication.domain;
+
+import heavenboards.user.service.user.domain.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Реализация ротации refresh-токенов нативным запросом с результатом {@link UserEntity}.
+ */
+public class RefreshTokenRotationRepositoryImpl implements RefreshTokenRotationRepository {
+    /**
+     * Отзыв предъявленного токена, выпуск нового в том же семействе и загрузка владельца.
+     */
+    private static final String ROTATE_QUERY = "WITH used AS ("
+        + "UPDATE refresh_token SET revoked_at = now() "
+        + "WHERE token_hash = :tokenHash AND revoked_at IS NULL AND expires_at > now() "
+        + "RETURNING user_id, family_id), "
+        + "issued AS ("
+        + "INSERT INTO refresh_token (id, token_hash, user_id, family_id, expires_at, created_at) "
+        + "SELECT gen_random_uuid(), :newTokenHash, user_id, family_id, :expiresAt, now() "
+        + "FROM used RETURNING user_id) "
+        + "SELECT u.* FROM user_entity u JOIN issued i ON i.user_id = u.id";
+
+    /**
+     * EntityManager текущей транзакции.
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Ротировать refresh-токен одним запросом по уникальному индексу хэша.
+     *
+     * @param tokenHash    - хэш предъявленного токена
+     * @param newTokenHash - хэш нового токена
+     * @param expiresAt    - время истечения нового токена
+     * @return владелец токена или пустота, если токен не найден, истек или отозван
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<UserEntity> rotate(final String tokenHash,
+                                       final String newTokenHash,
+                                       final ZonedDateTime expiresAt) {
+        List<UserEntity> owners = entityManager.createNativeQuery(ROTATE_QUERY, UserEntity.class)
+            .setParameter("tokenHash", tokenHash)
+            .setParameter("newTokenHash", newTokenHash)
+            .setParameter("expiresAt", expiresAt)
+            .getResultList();
+        return owners.stream().findFirst();
+    }
+}
@@ -0,0 +1,47 @@
+package heavenboards.user.service.authentication.hashing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки пула для хэширования паролей.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperties {
+    /**
+     * Количество потоков. 0 - по количеству доступных процессоров.
+     */
+    private int threads = 0;
+
+    /**
+     * Сколько потоков пула могут одновременно занимать пакетные задачи, например импорт.
+     * 0 - половина потоков пула, но не меньше одного. Остальные потоки остаются
+     * входам и регистрациям.
+     */
+    private int bulkThreads = 0;
+
+    /**
+     * Размер очереди задач, ожидающих свободного потока.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Максимальное время ожидания результата хэширования.
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    /**
+     * Целевая стоимость BCrypt (log2 количества раундов).
+     */
+    private int targetCost = 10;
+
+    /**
+     * Перехэшировать ли пароли с устаревшими параметрами после успешного входа.
+     */
+    private boolean upgradeEnabled = true;
+}
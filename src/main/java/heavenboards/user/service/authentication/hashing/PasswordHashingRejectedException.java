@@ -0,0 +1,16 @@
+package heavenboards.user.service.authentication.hashing;
+
+/**
+ * Исключение при отказе в хэшировании пароля из-за перегрузки пула.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+    /**
+     * Конструктор.
+     *
+     * @param message - сообщение
+     * @param cause   - причина
+     */
+    public PasswordHashingRejectedException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
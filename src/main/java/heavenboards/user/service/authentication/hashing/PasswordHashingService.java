@@ -0,0 +1,270 @@
+package heavenboards.user.service.authentication.hashing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Хэширование и проверка паролей в отдельном пуле потоков.
+ * Пул ограничен количеством процессоров и очередью фиксированного размера,
+ * поэтому всплеск аутентификаций не занимает потоки Tomcat вычислениями
+ * и не вытесняет остальные запросы. При заполненной очереди запрос
+ * сразу отклоняется {@link PasswordHashingRejectedException}.
+ * Пакетные задачи, например импорт, хэшируют в том же пуле, но занимают не больше
+ * bulk-threads потоков одновременно, поэтому процессор не делится между несколькими пулами.
+ * Загрузка пула публикуется в метриках executor.* с тегом name=password-hashing.
+ */
+@Service
+public class PasswordHashingService {
+    /**
+     * Название пула в метриках.
+     */
+    private static final String POOL_NAME = "password-hashing";
+
+    /**
+     * Бин для кодирования пароля.
+     */
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Пул потоков для хэширования.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Настройки пула.
+     */
+    private final PasswordHashingProperties properties;
+
+    /**
+     * Количество потоков пула, доступных пакетным задачам.
+     */
+    private final int bulkThreads;
+
+    /**
+     * Разрешения на одновременные пакетные задачи во всех пакетных вызовах.
+     */
+    private final Semaphore bulkPermits;
+
+    /**
+     * Время ожидания задачи в очереди.
+     */
+    private final Timer queueWaitTimer;
+
+    /**
+     * Количество отклоненных задач.
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * Конструктор.
+     *
+     * @param passwordEncoder - бин для кодирования пароля
+     * @param properties      - настройки пула
+     * @param meterRegistry   - реестр метрик
+     */
+    public PasswordHashingService(final PasswordEncoder passwordEncoder,
+                                  final PasswordHashingProperties properties,
+                                  final MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+
+        int threads = properties.getThreads() > 0
+            ? properties.getThreads()
+            : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            new CustomizableThreadFactory(POOL_NAME + "-"),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.bulkThreads = properties.getBulkThreads() > 0
+            ? Math.min(properties.getBulkThreads(), threads)
+            : Math.max(1, threads / 2);
+        this.bulkPermits = new Semaphore(bulkThreads);
+
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+            .description("Время ожидания задачи хэширования в очереди")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+            .description("Задачи хэширования, отклоненные из-за заполненной очереди")
+            .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, POOL_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Захэшировать пароль.
+     *
+     * @param rawPassword - пароль
+     * @return хэш пароля
+     * @throws PasswordHashingRejectedException - если пул перегружен
+     */
+    public String encode(final CharSequence rawPassword) throws PasswordHashingRejectedException {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Проверить пароль по хэшу.
+     *
+     * @param rawPassword     - пароль
+     * @param encodedPassword - хэш пароля
+     * @return совпадает ли пароль
+     * @throws PasswordHashingRejectedException - если пул перегружен
+     */
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword)
+        throws PasswordHashingRejectedException {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Захэшировать пароль в фоне, если пул не нагружен: очередь заполнена
+     * меньше чем наполовину. Фоновые задачи не должны вытеснять входы пользователей.
+     *
+     * @param rawPassword - пароль
+     * @return будущий хэш пароля или пустота, если пул нагружен
+     */
+    public Optional<CompletableFuture<String>> tryEncodeAsync(final CharSequence rawPassword) {
+        if (executor.getQueue().size() * 2 >= properties.getQueueCapacity()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(CompletableFuture
+                .supplyAsync(() -> passwordEncoder.encode(rawPassword), executor));
+        } catch (RejectedExecutionException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Захэшировать пароли пакетной задачи. Пароли делятся на части по количеству
+     * bulk-threads, каждая часть хэшируется одной задачей пула. Если пул не принимает задачу,
+     * часть хэшируется в вызывающем потоке: пакетная задача замедляется, но не падает.
+     *
+     * @param rawPasswords - пароли в открытом виде
+     * @return хэши в том же порядке
+     * @throws PasswordHashingRejectedException - если ожидание разрешения прервано
+     */
+    public List<String> encodeAll(final List<String> rawPasswords)
+        throws PasswordHashingRejectedException {
+        int slices = Math.min(bulkThreads, rawPasswords.size());
+        if (slices == 0) {
+            return List.of();
+        }
+
+        int sliceSize = (rawPasswords.size() + slices - 1) / slices;
+        List<CompletableFuture<List<String>>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < rawPasswords.size(); from += sliceSize) {
+            List<String> slice = rawPasswords.subList(from,
+                Math.min(from + sliceSize, rawPasswords.size()));
+            try {
+                bulkPermits.acquire();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new PasswordHashingRejectedException("Ожидание хэширования прервано",
+                    exception);
+            }
+            futures.add(submitBulk(slice));
+        }
+
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        futures.forEach(future -> hashes.addAll(future.join()));
+        return hashes;
+    }
+
+    /**
+     * Отправить часть паролей пакетной задачи в пул. Разрешение освобождается
+     * после хэширования части.
+     *
+     * @param slice - часть паролей
+     * @return будущие хэши части
+     */
+    private CompletableFuture<List<String>> submitBulk(final List<String> slice) {
+        Supplier<List<String>> task = () -> {
+            try {
+                return slice.stream()
+                    .map(passwordEncoder::encode)
+                    .toList();
+            } finally {
+                bulkPermits.release();
+            }
+        };
+
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException ignored) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    /**
+     * Выполнить задачу в пуле и дождаться результата.
+     *
+     * @param task - задача
+     * @param <T>  - тип результата
+     * @return результат задачи
+     * @throws PasswordHashingRejectedException - если очередь заполнена
+     *                                          или результат не получен за maxWait
+     */
+    private <T> T execute(final Callable<T> task) throws PasswordHashingRejectedException {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException exception) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("Очередь хэширования паролей заполнена",
+                exception);
+        }
+
+        try {
+            return future.get(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("Превышено время ожидания хэширования",
+                exception);
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("Ожидание хэширования прервано",
+                exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    /**
+     * Остановка пула потоков при остановке приложения.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,163 @@
+package heavenboards.user.service.authentication.hashing;
+
+import heavenboards.user.service.config.PasswordEncoderConfiguration;
+import heavenboards.user.service.user.cache.UserCacheInvalidator;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Перехэширование паролей с устаревшими параметрами после успешного входа.
+ * Новый хэш считается в пуле хэширования после ответа пользователю и сохраняется,
+ * только если хэш в базе не изменился с момента входа.
+ * Количество хэшей с устаревшими параметрами публикуется в метрике password.hashes.outdated.
+ */
+@Service
+public class PasswordUpgradeService {
+    /**
+     * Кодировщик паролей.
+     */
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Сервис хэширования паролей.
+     */
+    private final PasswordHashingService passwordHashingService;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Шаблон для коротких транзакций вокруг работы с базой.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Инвалидация закэшированных данных пользователя.
+     */
+    private final UserCacheInvalidator userCacheInvalidator;
+
+    /**
+     * Настройки хэширования паролей.
+     */
+    private final PasswordHashingProperties properties;
+
+    /**
+     * Количество перехэшированных паролей.
+     */
+    private final Counter upgradedCounter;
+
+    /**
+     * Количество пропущенных перехэширований из-за нагрузки или ошибки.
+     */
+    private final Counter skippedCounter;
+
+    /**
+     * Количество хэшей с устаревшими параметрами на момент последнего подсчета.
+     */
+    private final AtomicLong outdated = new AtomicLong();
+
+    /**
+     * Конструктор.
+     *
+     * @param passwordEncoder        - кодировщик паролей
+     * @param passwordHashingService - сервис хэширования паролей
+     * @param userRepository         - репозиторий для пользователей
+     * @param transactionTemplate    - шаблон для коротких транзакций
+     * @param userCacheInvalidator   - инвалидация закэшированных данных пользователя
+     * @param properties             - настройки хэширования паролей
+     * @param meterRegistry          - реестр метрик
+     */
+    public PasswordUpgradeService(final PasswordEncoder passwordEncoder,
+                                  final PasswordHashingService passwordHashingService,
+                                  final UserRepository userRepository,
+                                  final TransactionTemplate transactionTemplate,
+                                  final UserCacheInvalidator userCacheInvalidator,
+                                  final PasswordHashingProperties properties,
+                                  final MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.userCacheInvalidator = userCacheInvalidator;
+        this.properties = properties;
+
+        this.upgradedCounter = Counter.builder("password.hashes.upgraded")
+            .description("Пароли, перехэшированные с целевыми параметрами")
+            .register(meterRegistry);
+        this.skippedCounter = Counter.builder("password.hashes.upgrade.skipped")
+            .description("Перехэширования, пропущенные из-за нагрузки или ошибки")
+            .register(meterRegistry);
+        Gauge.builder("password.hashes.outdated", outdated, AtomicLong::get)
+            .description("Хэши паролей с устаревшими параметрами")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Перехэшировать пароль пользователя в фоне, если его хэш устарел.
+     *
+     * @param user        - пользователь, успешно прошедший проверку пароля
+     * @param rawPassword - проверенный пароль
+     * @return будущее завершение перехэширования или пустота, если оно не нужно или пропущено
+     */
+    public Optional<CompletableFuture<Void>> upgradeIfNeeded(final UserEntity user,
+                                                             final CharSequence rawPassword) {
+        String oldPassword = user.getPassword();
+        if (!properties.isUpgradeEnabled() || !passwordEncoder.upgradeEncoding(oldPassword)) {
+            return Optional.empty();
+        }
+
+        Optional<CompletableFuture<String>> newPassword =
+            passwordHashingService.tryEncodeAsync(rawPassword);
+        if (newPassword.isEmpty()) {
+            skippedCounter.increment();
+            return Optional.empty();
+        }
+
+        return Optional.of(newPassword.get()
+            .thenAccept(encoded -> {
+                Integer updated = transactionTemplate.execute(status -> {
+                    int count = userRepository
+                        .updatePasswordIfUnchanged(user.getId(), oldPassword, encoded);
+                    if (count > 0) {
+                        // Массовое обновление не вызывает UserEntityListener
+                        userCacheInvalidator.invalidate(user.getId(), user.getUsername());
+                    }
+                    return count;
+                });
+                if (updated != null && updated > 0) {
+                    upgradedCounter.increment();
+                    outdated.updateAndGet(count -> Math.max(0, count - 1));
+                }
+            })
+            .exceptionally(exception -> {
+                skippedCounter.increment();
+                return null;
+            }));
+    }
+
+    /**
+     * Пересчитать количество хэшей с устаревшими параметрами.
+     */
+    @Scheduled(
+        initialDelayString = "${password.hashing.outdated-refresh-millis:300000}",
+        fixedDelayString = "${password.hashing.outdated-refresh-millis:300000}"
+    )
+    public void refreshOutdatedCount() {
+        String currentPattern = String.format("{%s}$2_$%02d$%%",
+            PasswordEncoderConfiguration.ENCODING_ID, properties.getTargetCost());
+        outdated.set(userRepository.countByPasswordNotLike(currentPattern));
+    }
+}
@@ -0,0 +1,55 @@
+package heavenboards.user.service.authentication.hashing;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt с целевой стоимостью хэширования. В отличие от
+ * {@link BCryptPasswordEncoder#upgradeEncoding(String)}, требует перехэширования
+ * не только более слабых, но и более сильных хэшей, чтобы стоимость входа
+ * можно было как поднимать, так и снижать под железо.
+ */
+public class TargetCostBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    /**
+     * Формат хэша BCrypt со стоимостью в первой группе.
+     */
+    private static final Pattern BCRYPT_PATTERN =
+        Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    /**
+     * Целевая стоимость хэширования.
+     */
+    private final int targetCost;
+
+    /**
+     * Конструктор.
+     *
+     * @param targetCost - целевая стоимость хэширования (log2 количества раундов)
+     */
+    public TargetCostBCryptPasswordEncoder(final int targetCost) {
+        super(targetCost);
+        this.targetCost = targetCost;
+    }
+
+    /**
+     * Нужно ли перехэшировать пароль: стоимость хэша отличается от целевой.
+     *
+     * @param encodedPassword - хэш пароля
+     * @return true, если стоимость хэша отличается от целевой
+     */
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+
+        return Integer.parseInt(matcher.group(1)) != targetCost;
+    }
+}
@@ -0,0 +1,139 @@
+package heavenboards.user.service.authentication.jwt;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+import transfer.contract.domain.user.UserTo;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Фильтр, определяющий пользователя по claims JWT-токена до цепочки Spring Security.
+ * Аутентификация сохраняется в атрибут запроса, откуда ее загружает SecurityContextHolderFilter,
+ * поэтому JWT-фильтр security-service видит аутентифицированный контекст и не запрашивает
+ * пользователя. Токены без claims пользователя и токены с неверной подписью пропускаются
+ * без изменений и обрабатываются JWT-фильтром security-service как раньше.
+ * Подпись токена проверяется только при первом предъявлении, см. {@link VerifiedTokenCache}.
+ * Время работы фильтра публикуется в метрике auth.principal.resolution.
+ */
+public class JwtClaimsAuthenticationFilter extends OncePerRequestFilter {
+    /**
+     * Префикс токена в заголовке Authorization.
+     */
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * Кэш токенов с проверенной подписью.
+     */
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * Выборочная проверка пользователя по базе.
+     */
+    private final PrincipalRevalidator principalRevalidator;
+
+    /**
+     * Хранилище security-контекста в атрибутах запроса.
+     */
+    private final SecurityContextRepository securityContextRepository =
+        new RequestAttributeSecurityContextRepository();
+
+    /**
+     * Реестр метрик.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Конструктор.
+     *
+     * @param verifiedTokenCache   - кэш токенов с проверенной подписью
+     * @param principalRevalidator - выборочная проверка пользователя по базе
+     * @param meterRegistry        - реестр метрик
+     */
+    public JwtClaimsAuthenticationFilter(final VerifiedTokenCache verifiedTokenCache,
+                                         final PrincipalRevalidator principalRevalidator,
+                                         final MeterRegistry meterRegistry) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.principalRevalidator = principalRevalidator;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Определить пользователя по claims токена.
+     *
+     * @param request     - запрос
+     * @param response    - ответ
+     * @param filterChain - цепочка фильтров
+     * @throws ServletException - ошибка обработки запроса
+     * @throws IOException      - ошибка ввода-вывода
+     */
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain)
+        throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = resolve(header.substring(BEARER_PREFIX.length()), request, response);
+        sample.stop(meterRegistry.timer("auth.principal.resolution", "result", result));
+        if ("rejected".equals(result)) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Определить пользователя и сохранить аутентификацию в атрибутах запроса.
+     *
+     * @param token    - токен
+     * @param request  - запрос
+     * @param response - ответ
+     * @return результат для метрики: claims, skipped или rejected
+     */
+    private String resolve(final String token,
+                           final HttpServletRequest request,
+                           final HttpServletResponse response) {
+        Optional<UserTo> principal;
+        try {
+            principal = verifiedTokenCache.resolvePrincipal(token);
+        } catch (JwtException | IllegalArgumentException ignored) {
+            return "skipped";
+        }
+
+        if (principal.isEmpty()) {
+            return "skipped";
+        }
+
+        if (!principalRevalidator.isValid(principal.get())) {
+            return "rejected";
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+            principal.get(), null,
+            List.of(new SimpleGrantedAuthority(principal.get().getRole().name()))));
+        securityContextRepository.saveContext(context, request, response);
+        return "claims";
+    }
+}
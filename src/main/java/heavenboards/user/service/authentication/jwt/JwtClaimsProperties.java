@@ -0,0 +1,45 @@
+package heavenboards.user.service.authentication.jwt;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки определения пользователя по claims JWT-токена.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.jwt-claims")
+public class JwtClaimsProperties {
+    /**
+     * Определять ли пользователя по claims без обращения к базе.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Как долго пользователь считается проверенным по базе.
+     */
+    private Duration revalidationInterval = Duration.ofMinutes(5);
+
+    /**
+     * Доля запросов проверенного пользователя, которые все равно проверяются по базе.
+     */
+    private double revalidationSampleRate = 0.01;
+
+    /**
+     * Максимальное количество пользователей, время проверки которых хранится в памяти.
+     */
+    private long maxTrackedUsers = 100_000;
+
+    /**
+     * Включен ли кэш токенов с проверенной подписью.
+     */
+    private boolean tokenCacheEnabled = true;
+
+    /**
+     * Максимальное количество токенов в кэше.
+     */
+    private long tokenCacheMaxSize = 10_000;
+}
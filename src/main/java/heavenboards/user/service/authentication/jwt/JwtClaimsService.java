@@ -0,0 +1,123 @@
+package heavenboards.user.service.authentication.jwt;
+
+import heavenboards.user.service.user.domain.UserEntity;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import transfer.contract.domain.user.UserRole;
+import transfer.contract.domain.user.UserTo;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Выпуск JWT-токенов с данными пользователя в claims и восстановление пользователя из них.
+ * Токены подписываются тем же ключом jwt.secret и содержат тот же subject, что и токены
+ * {@link security.service.jwt.JwtTokenGenerator}, поэтому остаются валидными для остальных
+ * сервисов. Дополнительные claims позволяют не загружать пользователя на каждый запрос.
+ * Подпись и разбор выполняются здесь, а не через JwtTokenGenerator и JwtTokenExtractor:
+ * их перегрузки с дополнительными claims не подтверждены в используемой версии
+ * security-service.
+ */
+@Service
+public class JwtClaimsService {
+    /**
+     * Claim с идентификатором пользователя.
+     */
+    public static final String USER_ID_CLAIM = "uid";
+
+    /**
+     * Claim с ролью пользователя.
+     */
+    public static final String ROLE_CLAIM = "role";
+
+    /**
+     * Claim с именем пользователя.
+     */
+    public static final String FIRST_NAME_CLAIM = "firstName";
+
+    /**
+     * Claim с фамилией пользователя.
+     */
+    public static final String LAST_NAME_CLAIM = "lastName";
+
+    /**
+     * Ключ подписи, построенный из jwt.secret один раз при создании сервиса.
+     */
+    private final SecretKey signingKey;
+
+    /**
+     * Разборщик и проверщик подписи токенов с уже построенным ключом.
+     */
+    private final JwtParser parser;
+
+    /**
+     * Время жизни токена в миллисекундах.
+     */
+    private final long expirationMillis;
+
+    /**
+     * Конструктор.
+     *
+     * @param secret                - секрет подписи в base64
+     * @param expirationTimeSeconds - время жизни токена в секундах
+     */
+    public JwtClaimsService(final @Value("${jwt.secret}") String secret,
+                            final @Value("${jwt.expiration-time-seconds}")
+                            long expirationTimeSeconds) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.expirationMillis = expirationTimeSeconds * 1000;
+    }
+
+    /**
+     * Выпустить токен пользователя.
+     *
+     * @param user - пользователь
+     * @return подписанный токен
+     */
+    public String generate(final UserEntity user) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+            .setSubject(user.getUsername())
+            .claim(USER_ID_CLAIM, user.getId().toString())
+            .claim(ROLE_CLAIM, user.getRole().name())
+            .claim(FIRST_NAME_CLAIM, user.getFirstName())
+            .claim(LAST_NAME_CLAIM, user.getLastName())
+            .setIssuedAt(new Date(now))
+            .setExpiration(new Date(now + expirationMillis))
+            .signWith(signingKey)
+            .compact();
+    }
+
+    /**
+     * Проверить подпись токена и восстановить пользователя из его claims.
+     *
+     * @param token - токен без префикса Bearer
+     * @return проверенный токен или пустота, если в токене нет данных пользователя
+     * @throws JwtException - если подпись неверна или токен истек
+     */
+    public Optional<VerifiedToken> verify(final String token) throws JwtException {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null || claims.getExpiration() == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new VerifiedToken(UserTo.builder()
+            .id(UUID.fromString(userId))
+            .username(claims.getSubject())
+            .role(UserRole.valueOf(role))
+            .firstName(claims.get(FIRST_NAME_CLAIM, String.class))
+            .lastName(claims.get(LAST_NAME_CLAIM, String.class))
+            .build(), claims.getExpiration().toInstant()));
+    }
+}
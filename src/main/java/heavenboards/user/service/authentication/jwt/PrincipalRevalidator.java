@@ -0,0 +1,129 @@
+package heavenboards.user.service.authentication.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import heavenboards.user.service.user.cache.UserInvalidatedEvent;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import transfer.contract.domain.user.UserTo;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Выборочная проверка пользователя из claims токена по базе.
+ * Пользователь проверяется при первом запросе после истечения интервала проверки
+ * и дополнительно в доле запросов revalidation-sample-rate. Изменение пользователя
+ * сбрасывает время проверки, и следующий запрос проверяется по базе.
+ */
+@Component
+public class PrincipalRevalidator {
+    /**
+     * Репозиторий для пользователей.
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Доля запросов, проверяемых по базе независимо от интервала.
+     */
+    private final double sampleRate;
+
+    /**
+     * Идентификаторы пользователей, проверенных в пределах интервала.
+     */
+    private final Cache<UUID, Boolean> validatedUsers;
+
+    /**
+     * Количество успешных проверок по базе.
+     */
+    private final Counter validCounter;
+
+    /**
+     * Количество отклоненных проверок по базе.
+     */
+    private final Counter invalidCounter;
+
+    /**
+     * Конструктор.
+     *
+     * @param userRepository - репозиторий для пользователей
+     * @param properties     - настройки определения пользователя по claims
+     * @param meterRegistry  - реестр метрик
+     */
+    public PrincipalRevalidator(final UserRepository userRepository,
+                                final JwtClaimsProperties properties,
+                                final MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.sampleRate = properties.getRevalidationSampleRate();
+        this.validatedUsers = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxTrackedUsers())
+            .expireAfterWrite(properties.getRevalidationInterval())
+            .build();
+
+        this.validCounter = Counter.builder("auth.principal.revalidated")
+            .description("Проверки пользователя из токена по базе")
+            .tag("result", "valid")
+            .register(meterRegistry);
+        this.invalidCounter = Counter.builder("auth.principal.revalidated")
+            .description("Проверки пользователя из токена по базе")
+            .tag("result", "invalid")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Проверить, что пользователь из токена существует, активен и не изменил username и роль.
+     *
+     * @param principal - пользователь из claims
+     * @return действителен ли пользователь
+     */
+    public boolean isValid(final UserTo principal) {
+        if (validatedUsers.getIfPresent(principal.getId()) != null
+            && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return true;
+        }
+
+        boolean valid = userRepository.findById(principal.getId())
+            .filter(user -> matches(user, principal))
+            .isPresent();
+        if (valid) {
+            validatedUsers.put(principal.getId(), Boolean.TRUE);
+            validCounter.increment();
+        } else {
+            validatedUsers.invalidate(principal.getId());
+            invalidCounter.increment();
+        }
+        return valid;
+    }
+
+    /**
+     * Сбросить время проверки измененного пользователя.
+     *
+     * @param event - событие изменения пользователя
+     */
+    @EventListener
+    public void evict(final UserInvalidatedEvent event) {
+        if (event.id() != null) {
+            validatedUsers.invalidate(event.id());
+        }
+    }
+
+    /**
+     * Соответствует ли пользователь из базы пользователю из токена.
+     *
+     * @param user      - пользователь из базы
+     * @param principal - пользователь из claims
+     * @return совпадают ли username и роль и активен ли аккаунт
+     */
+    private boolean matches(final UserEntity user, final UserTo principal) {
+        return Objects.equals(user.getUsername(), principal.getUsername())
+            && user.getRole() == principal.getRole()
+            && user.isEnabled()
+            && user.isAccountNonLocked()
+            && user.isAccountNonExpired();
+    }
+}
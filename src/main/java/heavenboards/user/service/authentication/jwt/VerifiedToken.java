@@ -0,0 +1,14 @@
+package heavenboards.user.service.authentication.jwt;
+
+import transfer.contract.domain.user.UserTo;
+
+import java.time.Instant;
+
+/**
+ * Токен с проверенной подписью и пользователем из его claims.
+ *
+ * @param principal - пользователь из claims
+ * @param expiresAt - время истечения токена
+ */
+public record VerifiedToken(UserTo principal, Instant expiresAt) {
+}
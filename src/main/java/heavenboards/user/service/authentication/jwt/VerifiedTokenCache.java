@@ -0,0 +1,155 @@
+package heavenboards.user.service.authentication.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import transfer.contract.domain.user.UserTo;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Кэш токенов с уже проверенной подписью по SHA-256 дайджесту токена.
+ * Запись живет не дольше, чем сам токен, поэтому истекший токен всегда проверяется заново
+ * и отклоняется. Повторные запросы с тем же токеном не проверяют подпись и не разбирают claims.
+ * Статистика попаданий публикуется в метриках cache.* с тегом auth.verified-tokens.
+ */
+@Component
+public class VerifiedTokenCache {
+    /**
+     * Сервис claims JWT-токенов.
+     */
+    private final JwtClaimsService jwtClaimsService;
+
+    /**
+     * Включен ли кэш. Выключенный кэш проверяет каждый токен.
+     */
+    private final boolean enabled;
+
+    /**
+     * Проверенные токены по дайджесту.
+     */
+    private final Cache<ByteBuffer, VerifiedToken> tokens;
+
+    /**
+     * Конструктор.
+     *
+     * @param jwtClaimsService - сервис claims JWT-токенов
+     * @param properties       - настройки определения пользователя по claims
+     * @param meterRegistry    - реестр метрик
+     */
+    public VerifiedTokenCache(final JwtClaimsService jwtClaimsService,
+                              final JwtClaimsProperties properties,
+                              final MeterRegistry meterRegistry) {
+        this.jwtClaimsService = jwtClaimsService;
+        this.enabled = properties.isTokenCacheEnabled();
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(properties.getTokenCacheMaxSize())
+            .expireAfter(new UntilTokenExpiry())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "auth.verified-tokens");
+    }
+
+    /**
+     * Найти пользователя по токену, проверяя подпись только при первом предъявлении.
+     *
+     * @param token - токен без префикса Bearer
+     * @return пользователь из claims или пустота, если в токене нет данных пользователя
+     * @throws JwtException - если подпись неверна или токен истек
+     */
+    public Optional<UserTo> resolvePrincipal(final String token) throws JwtException {
+        if (!enabled) {
+            return jwtClaimsService.verify(token).map(VerifiedToken::principal);
+        }
+
+        ByteBuffer key = digest(token);
+        VerifiedToken cached = tokens.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached.principal());
+        }
+
+        Optional<VerifiedToken> verified = jwtClaimsService.verify(token);
+        verified.ifPresent(value -> tokens.put(key, value));
+        return verified.map(VerifiedToken::principal);
+    }
+
+    /**
+     * Дайджест токена для ключа кэша.
+     *
+     * @param token - токен
+     * @return SHA-256 токена
+     */
+    private ByteBuffer digest(final String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 недоступен", exception);
+        }
+    }
+
+    /**
+     * Время жизни записи до истечения токена.
+     */
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+        /**
+         * Время жизни новой записи.
+         *
+         * @param key         - дайджест токена
+         * @param value       - проверенный токен
+         * @param currentTime - текущее время в наносекундах
+         * @return время до истечения токена в наносекундах
+         */
+        @Override
+        public long expireAfterCreate(final ByteBuffer key,
+                                      final VerifiedToken value,
+                                      final long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        /**
+         * Время жизни записи после замены.
+         *
+         * @param key             - дайджест токена
+         * @param value           - проверенный токен
+         * @param currentTime     - текущее время в наносекундах
+         * @param currentDuration - оставшееся время жизни в наносекундах
+         * @return время до истечения токена в наносекундах
+         */
+        @Override
+        public long expireAfterUpdate(final ByteBuffer key,
+                                      final VerifiedToken value,
+                                      final long currentTime,
+                                      final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        /**
+         * Время жизни записи после чтения не меняется.
+         *
+         * @param key             - дайджест токена
+         * @param value           - проверенный токен
+         * @param currentTime     - текущее время в наносекундах
+         * @param currentDuration - оставшееся время жизни в наносекундах
+         * @return оставшееся время жизни в наносекундах
+         */
+        @Override
+        public long expireAfterRead(final ByteBuffer key,
+                                    final VerifiedToken value,
+                                    final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
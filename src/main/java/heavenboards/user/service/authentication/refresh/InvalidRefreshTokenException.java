@@ -0,0 +1,15 @@
+package heavenboards.user.service.authentication.refresh;
+
+/**
+ * Исключение при предъявлении неизвестного, истекшего или отозванного refresh-токена.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+    /**
+     * Конструктор.
+     *
+     * @param message - сообщение
+     */
+    public InvalidRefreshTokenException(final String message) {
+        super(message);
+    }
+}
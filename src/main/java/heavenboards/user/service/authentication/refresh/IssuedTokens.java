@@ -0,0 +1,12 @@
+package heavenboards.user.service.authentication.refresh;
+
+import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+
+/**
+ * Результат аутентификации вместе с новым refresh-токеном.
+ *
+ * @param result       - результат операции с access-токеном
+ * @param refreshToken - новый refresh-токен
+ */
+public record IssuedTokens(AuthenticationOperationResultTo result, String refreshToken) {
+}
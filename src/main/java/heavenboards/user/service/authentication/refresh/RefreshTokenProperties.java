@@ -0,0 +1,20 @@
+package heavenboards.user.service.authentication.refresh;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки refresh-токенов.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.refresh-token")
+public class RefreshTokenProperties {
+    /**
+     * Время жизни токена.
+     */
+    private Duration ttl = Duration.ofDays(30);
+}
@@ -0,0 +1,199 @@
+package heavenboards.user.service.authentication.refresh;
+
+import heavenboards.user.service.authentication.domain.RefreshTokenEntity;
+import heavenboards.user.service.authentication.domain.RefreshTokenRepository;
+import heavenboards.user.service.user.domain.UserEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Выпуск, ротация и отзыв refresh-токенов.
+ * Токен - 256 случайных бит, в базе хранится только его SHA-256 хэш. Каждая ротация
+ * отзывает предъявленный токен и выпускает новый в том же семействе; повторное
+ * предъявление уже отозванного токена считается утечкой и отзывает все семейство.
+ */
+@Service
+public class RefreshTokenService {
+    /**
+     * Длина токена в байтах.
+     */
+    private static final int TOKEN_LENGTH = 32;
+
+    /**
+     * Источник случайных байтов для токенов.
+     */
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Репозиторий для refresh-токенов.
+     */
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * Шаблон для коротких транзакций вокруг работы с базой.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Настройки refresh-токенов.
+     */
+    private final RefreshTokenProperties properties;
+
+    /**
+     * Количество успешных ротаций.
+     */
+    private final Counter rotatedCounter;
+
+    /**
+     * Количество отклоненных токенов.
+     */
+    private final Counter rejectedCounter;
+
+    /**
+     * Количество повторных предъявлений отозванных токенов.
+     */
+    private final Counter reuseCounter;
+
+    /**
+     * Конструктор.
+     *
+     * @param refreshTokenRepository - репозиторий для refresh-токенов
+     * @param transactionTemplate    - шаблон для коротких транзакций
+     * @param properties             - настройки refresh-токенов
+     * @param meterRegistry          - реестр метрик
+     */
+    public RefreshTokenService(final RefreshTokenRepository refreshTokenRepository,
+                               final TransactionTemplate transactionTemplate,
+                               final RefreshTokenProperties properties,
+                               final MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+
+        this.rotatedCounter = Counter.builder("auth.refresh-token.rotated")
+            .description("Успешные ротации refresh-токенов")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.refresh-token.rejected")
+            .description("Неизвестные, истекшие или отозванные refresh-токены")
+            .register(meterRegistry);
+        this.reuseCounter = Counter.builder("auth.refresh-token.reuse")
+            .description("Повторные предъявления отозванных refresh-токенов")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Выпустить refresh-токен нового семейства.
+     *
+     * @param userId - идентификатор владельца
+     * @return refresh-токен
+     */
+    public String issue(final UUID userId) {
+        String token = generateToken();
+        ZonedDateTime now = ZonedDateTime.now();
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+            .tokenHash(hash(token))
+            .userId(userId)
+            .familyId(UUID.randomUUID())
+            .expiresAt(now.plus(properties.getTtl()))
+            .createdAt(now)
+            .build());
+        return token;
+    }
+
+    /**
+     * Ротировать refresh-токен.
+     *
+     * @param refreshToken - предъявленный токен
+     * @return владелец и новый токен
+     * @throws InvalidRefreshTokenException - если токен не найден, истек или отозван
+     */
+    public RotatedRefreshToken rotate(final String refreshToken)
+        throws InvalidRefreshTokenException {
+        String tokenHash = hash(refreshToken);
+        String newToken = generateToken();
+        Optional<UserEntity> user = transactionTemplate.execute(status -> refreshTokenRepository
+            .rotate(tokenHash, hash(newToken), ZonedDateTime.now().plus(properties.getTtl())));
+        if (user == null || user.isEmpty()) {
+            rejectedCounter.increment();
+            if (revokeFamily(tokenHash) > 0) {
+                reuseCounter.increment();
+            }
+            throw new InvalidRefreshTokenException("Refresh-токен недействителен");
+        }
+
+        rotatedCounter.increment();
+        return new RotatedRefreshToken(user.get(), newToken);
+    }
+
+    /**
+     * Отозвать токен вместе со всем его семейством.
+     *
+     * @param refreshToken - токен
+     */
+    public void revoke(final String refreshToken) {
+        revokeFamily(hash(refreshToken));
+    }
+
+    /**
+     * Удалить истекшие токены.
+     */
+    @Scheduled(
+        initialDelayString = "${auth.refresh-token.purge-interval-millis:3600000}",
+        fixedDelayString = "${auth.refresh-token.purge-interval-millis:3600000}"
+    )
+    public void purgeExpired() {
+        transactionTemplate.executeWithoutResult(status ->
+            refreshTokenRepository.deleteExpired(ZonedDateTime.now()));
+    }
+
+    /**
+     * Отозвать все действующие токены семейства.
+     *
+     * @param tokenHash - хэш любого токена семейства
+     * @return количество отозванных токенов
+     */
+    private int revokeFamily(final String tokenHash) {
+        Integer revoked = transactionTemplate.execute(status -> refreshTokenRepository
+            .revokeFamilyByTokenHash(tokenHash));
+        return revoked == null ? 0 : revoked;
+    }
+
+    /**
+     * Сгенерировать новый токен.
+     *
+     * @return токен в base64url без выравнивания
+     */
+    private String generateToken() {
+        byte[] bytes = new byte[TOKEN_LENGTH];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Хэш токена для хранения и поиска.
+     *
+     * @param token - токен
+     * @return SHA-256 токена в шестнадцатеричном виде
+     */
+    private String hash(final String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 недоступен", exception);
+        }
+    }
+}
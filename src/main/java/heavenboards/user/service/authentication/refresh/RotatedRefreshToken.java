@@ -0,0 +1,12 @@
+package heavenboards.user.service.authentication.refresh;
+
+import heavenboards.user.service.user.domain.UserEntity;
+
+/**
+ * Результат ротации refresh-токена.
+ *
+ * @param user         - владелец токена
+ * @param refreshToken - новый refresh-токен, выпущенный вместо предъявленного
+ */
+public record RotatedRefreshToken(UserEntity user, String refreshToken) {
+}
@@ -1,12 +1,16 @@
 package heavenboards.user.service.authentication.service;
 
+import heavenboards.user.service.authentication.credentials.VerifiedCredentialCache;
+import heavenboards.user.service.authentication.hashing.PasswordHashingService;
+import heavenboards.user.service.authentication.hashing.PasswordUpgradeService;
+import heavenboards.user.service.authentication.jwt.JwtClaimsService;
+import heavenboards.user.service.user.domain.UserEntity;
 import heavenboards.user.service.user.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.AccountStatusException;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import security.service.jwt.JwtTokenGenerator;
 import transfer.contract.domain.authentication.AuthenticationOperationErrorCode;
 import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
 import transfer.contract.domain.common.OperationStatus;
@@ -15,6 +19,7 @@ import transfer.contract.exception.BaseErrorCode;
 import transfer.contract.exception.ClientApplicationException;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Use case для аутентификации пользователей.
@@ -22,65 +27,106 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class AuthenticationUseCase {
+    /**
+     * Проверка статуса аккаунта: заблокирован, выключен, истек срок действия
+     * аккаунта или пароля. Те же проверки выполняет DaoAuthenticationProvider.
+     */
+    private static final UserDetailsChecker ACCOUNT_STATUS_CHECKER =
+        new AccountStatusUserDetailsChecker();
+
     /**
      * Репозиторий для пользователей.
      */
     private final UserRepository userRepository;
 
     /**
-     * Класс для генерации JWT-токенов.
+     * Сервис выпуска JWT-токенов с данными пользователя в claims.
+     */
+    private final JwtClaimsService jwtClaimsService;
+
+    /**
+     * Сервис проверки пароля в отдельном пуле потоков.
      */
-    private final JwtTokenGenerator tokenGenerator;
+    private final PasswordHashingService passwordHashingService;
 
     /**
-     * AuthenticationManager.
+     * Сервис перехэширования паролей с устаревшими параметрами.
      */
-    private final AuthenticationManager authenticationManager;
+    private final PasswordUpgradeService passwordUpgradeService;
+
+    /**
+     * Кэш недавно проверенных учетных данных.
+     */
+    private final VerifiedCredentialCache verifiedCredentialCache;
 
     /**
      * Аутентифицировать пользователя.
+     * Пользователь загружается одним запросом, пароль и статус аккаунта проверяются
+     * по загруженной сущности, из нее же выпускается токен. Транзакция не открывается,
+     * чтобы соединение не удерживалось во время проверки пароля. Устаревший хэш
+     * пароля перехэшируется в фоне. Если включен кэш проверенных учетных данных и тот же
+     * пароль недавно прошел проверку, токен выпускается без загрузки пользователя и хэширования.
      *
      * @param user - данные пользователя для аутентификации
      * @return результат операции с токеном
+     * @throws ClientApplicationException - если username не найден
      */
-    @Transactional(readOnly = true)
-    public AuthenticationOperationResultTo authenticate(final UserTo user) {
-        checkUsernameExists(user.getUsername());
+    public AuthenticationOperationResultTo authenticate(final UserTo user)
+        throws ClientApplicationException {
+        Optional<UserEntity> verified = verifiedCredentialCache
+            .findVerified(user.getUsername(), user.getPassword());
+        if (verified.isPresent()) {
+            return successfulResult(verified.get());
+        }
 
-        try {
-            var authenticationToken = new UsernamePasswordAuthenticationToken(
-                user.getUsername(), user.getPassword()
-            );
+        // Поколение берется до чтения, чтобы изменение во время проверки пароля не закэшировалось
+        long generation = verifiedCredentialCache.generation(user.getUsername());
+        UserEntity entity = userRepository.findByUsername(user.getUsername())
+            .orElseThrow(() -> new ClientApplicationException(BaseErrorCode.NOT_FOUND,
+                String.format("Пользователь с username %s не найден", user.getUsername())));
 
-            authenticationManager.authenticate(authenticationToken);
-            return userRepository.findByUsername(user.getUsername())
-                .map(entity -> AuthenticationOperationResultTo.builder()
-                    .userId(entity.getId())
-                    .token(tokenGenerator.generate(entity))
-                    .build())
-                .orElseThrow(() -> new ClientApplicationException(BaseErrorCode.NOT_FOUND,
-                    String.format("Пользователь с username %s не найден", user.getUsername())));
-        } catch (Exception ignored) {
-            return AuthenticationOperationResultTo.builder()
-                .status(OperationStatus.FAILED)
-                .errors(List.of(AuthenticationOperationResultTo.AuthenticationOperationErrorTo
-                    .builder()
-                    .errorCode(AuthenticationOperationErrorCode.INVALID_USERNAME_PASSWORD)
-                    .build()))
-                .build();
+        if (user.getPassword() == null
+            || !passwordHashingService.matches(user.getPassword(), entity.getPassword())) {
+            return invalidUsernamePassword();
         }
+
+        try {
+            ACCOUNT_STATUS_CHECKER.check(entity);
+        } catch (AccountStatusException ignored) {
+            return invalidUsernamePassword();
+        }
+
+        // Запись кладется до перехэширования, чтобы его инвалидация не опередила запись
+        verifiedCredentialCache.put(entity, user.getPassword(), generation);
+        passwordUpgradeService.upgradeIfNeeded(entity, user.getPassword());
+        return successfulResult(entity);
     }
 
     /**
-     * Проверить наличие пользователя по username.
+     * Результат успешной аутентификации с новым токеном.
      *
-     * @param username - username
-     * @throws ClientApplicationException - если username не найден
+     * @param entity - аутентифицированный пользователь
+     * @return результат с идентификатором пользователя и токеном
      */
-    private void checkUsernameExists(final String username) throws ClientApplicationException {
-        if (!userRepository.existsByUsername(username)) {
-            throw new ClientApplicationException(BaseErrorCode.NOT_FOUND,
-                String.format("Пользователь с username %s не найден", username));
-        }
+    private AuthenticationOperationResultTo successfulResult(final UserEntity entity) {
+        return AuthenticationOperationResultTo.builder()
+            .userId(entity.getId())
+            .token(jwtClaimsService.generate(entity))
+            .build();
+    }
+
+    /**
+     * Результат с ошибкой неверного username или пароля.
+     *
+     * @return результат с ошибкой INVALID_USERNAME_PASSWORD
+     */
+    private AuthenticationOperationResultTo invalidUsernamePassword() {
+        return AuthenticationOperationResultTo.builder()
+            .status(OperationStatus.FAILED)
+            .errors(List.of(AuthenticationOperationResultTo.AuthenticationOperationErrorTo
+                .builder()
+                .errorCode(AuthenticationOperationErrorCode.INVALID_USERNAME_PASSWORD)
+                .build()))
+            .build();
     }
 }
@@ -1,12 +1,15 @@
 package heavenboards.user.service.authentication.service;
 
+import heavenboards.user.service.authentication.jwt.JwtClaimsService;
+import heavenboards.user.service.project.client.ServiceCredentialProperties;
+import heavenboards.user.service.user.cache.UserCacheInvalidator;
 import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserProjection;
 import heavenboards.user.service.user.domain.UserRepository;
 import heavenboards.user.service.user.mapping.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import security.service.jwt.JwtTokenGenerator;
+import org.springframework.transaction.support.TransactionTemplate;
 import transfer.contract.domain.authentication.AuthenticationOperationErrorCode;
 import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
 import transfer.contract.domain.common.OperationStatus;
@@ -14,6 +17,7 @@ import transfer.contract.domain.user.UserTo;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Use case для регистрации пользователей.
@@ -32,35 +36,72 @@ public class RegistrationUseCase {
     private final UserMapper userMapper;
 
     /**
-     * Класс для генерации JWT-токенов.
+     * Сервис выпуска JWT-токенов с данными пользователя в claims.
      */
-    private final JwtTokenGenerator tokenGenerator;
+    private final JwtClaimsService jwtClaimsService;
+
+    /**
+     * Шаблон для коротких транзакций вокруг работы с базой.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Инвалидация закэшированных данных пользователя.
+     */
+    private final UserCacheInvalidator userCacheInvalidator;
+
+    /**
+     * Настройки учетных данных сервиса с зарезервированным username.
+     */
+    private final ServiceCredentialProperties serviceCredentialProperties;
 
     /**
      * Зарегистрировать пользователя.
+     * Пароль хэшируется до обращения к базе, пользователь вставляется одним запросом
+     * INSERT ... ON CONFLICT DO NOTHING. Занятый username, в том числе параллельной
+     * регистрацией, возвращается как USERNAME_ALREADY_EXIST. Так же возвращается
+     * username служебного пользователя: от его имени выполняются вызовы других сервисов.
      *
      * @param user - данные пользователя для регистрации
      * @return результат операции с токеном
      */
-    @Transactional
     public AuthenticationOperationResultTo register(final UserTo user) {
-        Optional<UserEntity> existingUser = userRepository.findByUsername(user.getUsername());
-        if (existingUser.isPresent()) {
-            return AuthenticationOperationResultTo.builder()
-                .status(OperationStatus.FAILED)
-                .errors(List.of(AuthenticationOperationResultTo.AuthenticationOperationErrorTo
-                    .builder()
-                    .failedUserId(existingUser.get().getId())
-                    .errorCode(AuthenticationOperationErrorCode.USERNAME_ALREADY_EXIST)
-                    .build()))
-                .build();
+        UserEntity entity = userMapper.mapForRegistration(user).setId(UUID.randomUUID());
+        if (entity.getUsername() != null
+            && entity.getUsername().equalsIgnoreCase(serviceCredentialProperties.getUsername())) {
+            return usernameAlreadyExist(entity.getUsername());
         }
 
-        UserEntity entity = userMapper.mapForRegistration(user);
-        userRepository.save(entity);
+        Optional<UUID> insertedId = transactionTemplate.execute(status -> userRepository
+            .insertIfUsernameAbsent(entity));
+        if (insertedId == null || insertedId.isEmpty()) {
+            return usernameAlreadyExist(entity.getUsername());
+        }
+
+        // Вставка мимо persistence context не вызывает UserEntityListener
+        userCacheInvalidator.invalidate(entity.getId(), entity.getUsername());
         return AuthenticationOperationResultTo.builder()
             .userId(entity.getId())
-            .token(tokenGenerator.generate(entity))
+            .token(jwtClaimsService.generate(entity))
+            .build();
+    }
+
+    /**
+     * Результат с ошибкой занятого username.
+     *
+     * @param username - занятый username
+     * @return результат с ошибкой USERNAME_ALREADY_EXIST и идентификатором владельца username
+     */
+    private AuthenticationOperationResultTo usernameAlreadyExist(final String username) {
+        return AuthenticationOperationResultTo.builder()
+            .status(OperationStatus.FAILED)
+            .errors(List.of(AuthenticationOperationResultTo.AuthenticationOperationErrorTo
+                .builder()
+                .failedUserId(userRepository.findProjectionByUsername(username)
+                    .map(UserProjection::getId)
+                    .orElse(null))
+                .errorCode(AuthenticationOperationErrorCode.USERNAME_ALREADY_EXIST)
+                .build()))
             .build();
     }
 }
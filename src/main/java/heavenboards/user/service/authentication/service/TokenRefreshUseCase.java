@@ -0,0 +1,61 @@
+package heavenboards.user.service.authentication.service;
+
+import heavenboards.user.service.authentication.jwt.JwtClaimsService;
+import heavenboards.user.service.authentication.refresh.InvalidRefreshTokenException;
+import heavenboards.user.service.authentication.refresh.IssuedTokens;
+import heavenboards.user.service.authentication.refresh.RefreshTokenService;
+import heavenboards.user.service.authentication.refresh.RotatedRefreshToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AccountStatusException;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.stereotype.Service;
+import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+
+/**
+ * Use case для обновления access-токена по refresh-токену.
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenRefreshUseCase {
+    /**
+     * Проверка статуса аккаунта: заблокирован, выключен, истек срок действия
+     * аккаунта или пароля.
+     */
+    private static final UserDetailsChecker ACCOUNT_STATUS_CHECKER =
+        new AccountStatusUserDetailsChecker();
+
+    /**
+     * Сервис refresh-токенов.
+     */
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * Сервис выпуска JWT-токенов с данными пользователя в claims.
+     */
+    private final JwtClaimsService jwtClaimsService;
+
+    /**
+     * Обновить access-токен. Refresh-токен проверяется и ротируется одним запросом,
+     * пароль не проверяется. Если аккаунт с момента входа заблокирован или выключен,
+     * семейство токенов отзывается.
+     *
+     * @param refreshToken - предъявленный refresh-токен
+     * @return результат операции с новым access-токеном и новый refresh-токен
+     * @throws InvalidRefreshTokenException - если токен недействителен или аккаунт неактивен
+     */
+    public IssuedTokens refresh(final String refreshToken) throws InvalidRefreshTokenException {
+        RotatedRefreshToken rotated = refreshTokenService.rotate(refreshToken);
+        try {
+            ACCOUNT_STATUS_CHECKER.check(rotated.user());
+        } catch (AccountStatusException exception) {
+            refreshTokenService.revoke(rotated.refreshToken());
+            throw new InvalidRefreshTokenException("Аккаунт пользователя неактивен");
+        }
+
+        return new IssuedTokens(AuthenticationOperationResultTo.builder()
+            .userId(rotated.user().getId())
+            .token(jwtClaimsService.generate(rotated.user()))
+            .build(), rotated.refreshToken());
+    }
+}
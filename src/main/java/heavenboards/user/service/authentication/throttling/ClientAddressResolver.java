@@ -0,0 +1,49 @@
+package heavenboards.user.service.authentication.throttling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Определение адреса клиента для ограничения попыток входа.
+ * За прокси адрес соединения принадлежит прокси, поэтому в запросах от доверенных прокси
+ * адрес берется из настроенного заголовка: последний адрес цепочки, не являющийся
+ * доверенным прокси. Адреса левее него мог записать сам клиент.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientAddressResolver {
+    /**
+     * Настройки ограничения попыток входа.
+     */
+    private final LoginThrottlingProperties properties;
+
+    /**
+     * Определить адрес клиента.
+     *
+     * @param request - http-запрос
+     * @return адрес клиента
+     */
+    public String resolve(final HttpServletRequest request) {
+        String remoteAddress = request.getRemoteAddr();
+        if (!StringUtils.hasText(properties.getForwardedHeader())
+            || !properties.getTrustedProxies().contains(remoteAddress)) {
+            return remoteAddress;
+        }
+
+        String forwarded = request.getHeader(properties.getForwardedHeader());
+        if (!StringUtils.hasText(forwarded)) {
+            return remoteAddress;
+        }
+
+        String[] chain = forwarded.split(",");
+        for (int i = chain.length - 1; i >= 0; i--) {
+            String address = chain[i].trim();
+            if (!address.isEmpty() && !properties.getTrustedProxies().contains(address)) {
+                return address;
+            }
+        }
+        return remoteAddress;
+    }
+}
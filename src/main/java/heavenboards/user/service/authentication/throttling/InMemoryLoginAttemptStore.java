@@ -0,0 +1,128 @@
+package heavenboards.user.service.authentication.throttling;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Хранилище счетчиков попыток входа в памяти.
+ * Скользящее окно приближается двумя фиксированными окнами: количество попыток
+ * в предыдущем окне учитывается с весом оставшейся доли текущего окна.
+ * Счетчик обновляется через CAS без блокировок, неиспользуемые ключи вытесняются
+ * после двух окон без обращений.
+ */
+@Component
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+    /**
+     * Счетчики по ключу.
+     */
+    private final Cache<String, SlidingWindow> windows;
+
+    /**
+     * Конструктор.
+     *
+     * @param properties - настройки ограничения попыток входа
+     */
+    public InMemoryLoginAttemptStore(final LoginThrottlingProperties properties) {
+        this.windows = Caffeine.newBuilder()
+            .expireAfterAccess(properties.getWindow().multipliedBy(2))
+            .maximumSize(properties.getMaxKeys())
+            .build();
+    }
+
+    /**
+     * Учесть попытку входа, если лимит в окне еще не исчерпан.
+     *
+     * @param key    - ключ счетчика
+     * @param limit  - максимальное количество попыток в окне
+     * @param window - длина окна
+     * @return true, если попытка учтена, false - если лимит исчерпан
+     */
+    @Override
+    public boolean tryAcquire(final String key, final int limit, final Duration window) {
+        return windows.get(key, ignored -> new SlidingWindow())
+            .tryAcquire(limit, window.toNanos(), System.nanoTime());
+    }
+
+    /**
+     * Сбросить все учтенные попытки по ключу.
+     *
+     * @param key - ключ счетчика
+     */
+    @Override
+    public void reset(final String key) {
+        windows.invalidate(key);
+    }
+
+    /**
+     * Счетчик попыток в скользящем окне.
+     */
+    private static final class SlidingWindow {
+        /**
+         * Текущее состояние счетчика.
+         */
+        private final AtomicReference<State> state = new AtomicReference<>(new State(0, 0, 0));
+
+        /**
+         * Учесть попытку, если оценка количества попыток в окне меньше лимита.
+         *
+         * @param limit       - лимит попыток
+         * @param windowNanos - длина окна в наносекундах
+         * @param now         - текущее время в наносекундах
+         * @return true, если попытка учтена
+         */
+        private boolean tryAcquire(final int limit, final long windowNanos, final long now) {
+            while (true) {
+                State current = state.get();
+                State rolled = current.rollTo(now, windowNanos);
+                double elapsed = (double) (now - rolled.windowStart()) / windowNanos;
+                double estimate = rolled.previous() * (1 - elapsed) + rolled.current();
+                if (estimate >= limit) {
+                    if (rolled == current || state.compareAndSet(current, rolled)) {
+                        return false;
+                    }
+                    continue;
+                }
+
+                State next = new State(rolled.windowStart(), rolled.previous(),
+                    rolled.current() + 1);
+                if (state.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Неизменяемое состояние счетчика.
+     *
+     * @param windowStart - начало текущего окна в наносекундах
+     * @param previous    - количество попыток в предыдущем окне
+     * @param current     - количество попыток в текущем окне
+     */
+    private record State(long windowStart, int previous, int current) {
+        /**
+         * Сдвинуть окно к текущему времени.
+         *
+         * @param now         - текущее время в наносекундах
+         * @param windowNanos - длина окна в наносекундах
+         * @return состояние с окном, содержащим текущее время
+         */
+        private State rollTo(final long now, final long windowNanos) {
+            if (windowStart == 0) {
+                return new State(now, 0, 0);
+            }
+
+            long windowsPassed = (now - windowStart) / windowNanos;
+            if (windowsPassed == 0) {
+                return this;
+            }
+
+            long start = windowStart + windowsPassed * windowNanos;
+            return new State(start, windowsPassed == 1 ? current : 0, 0);
+        }
+    }
+}
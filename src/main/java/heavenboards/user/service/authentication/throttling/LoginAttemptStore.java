@@ -0,0 +1,27 @@
+package heavenboards.user.service.authentication.throttling;
+
+import java.time.Duration;
+
+/**
+ * Хранилище счетчиков попыток входа в скользящем окне.
+ * Реализация в памяти работает в пределах одного экземпляра сервиса,
+ * общее хранилище может заменить ее без изменения вызывающего кода.
+ */
+public interface LoginAttemptStore {
+    /**
+     * Учесть попытку входа, если лимит в окне еще не исчерпан.
+     *
+     * @param key    - ключ счетчика
+     * @param limit  - максимальное количество попыток в окне
+     * @param window - длина окна
+     * @return true, если попытка учтена, false - если лимит исчерпан
+     */
+    boolean tryAcquire(String key, int limit, Duration window);
+
+    /**
+     * Сбросить все учтенные попытки по ключу.
+     *
+     * @param key - ключ счетчика
+     */
+    void reset(String key);
+}
@@ -0,0 +1,123 @@
+package heavenboards.user.service.authentication.throttling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Ограничение неудачных попыток входа по username и адресу клиента.
+ * Проверяется до проверки пароля и до обращения к базе. Попытка учитывается сразу,
+ * чтобы параллельные запросы не обходили лимит. Успешный вход сбрасывает счетчик
+ * username, но остается учтенным в лимите адреса: иначе вход в свой аккаунт
+ * возвращал бы адресу попытки, потраченные на подбор паролей к чужим.
+ */
+@Component
+public class LoginThrottle {
+    /**
+     * Хранилище счетчиков попыток.
+     */
+    private final LoginAttemptStore attemptStore;
+
+    /**
+     * Настройки ограничения.
+     */
+    private final LoginThrottlingProperties properties;
+
+    /**
+     * Количество отклоненных попыток по username.
+     */
+    private final Counter usernameThrottledCounter;
+
+    /**
+     * Количество отклоненных попыток по адресу.
+     */
+    private final Counter addressThrottledCounter;
+
+    /**
+     * Конструктор.
+     *
+     * @param attemptStore  - хранилище счетчиков попыток
+     * @param properties    - настройки ограничения
+     * @param meterRegistry - реестр метрик
+     */
+    public LoginThrottle(final LoginAttemptStore attemptStore,
+                         final LoginThrottlingProperties properties,
+                         final MeterRegistry meterRegistry) {
+        this.attemptStore = attemptStore;
+        this.properties = properties;
+        this.usernameThrottledCounter = Counter.builder("login.throttled")
+            .description("Попытки входа, отклоненные из-за превышения лимита")
+            .tag("key", "username")
+            .register(meterRegistry);
+        this.addressThrottledCounter = Counter.builder("login.throttled")
+            .description("Попытки входа, отклоненные из-за превышения лимита")
+            .tag("key", "address")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Учесть попытку входа или отклонить ее.
+     *
+     * @param username - username из запроса
+     * @param address  - адрес клиента
+     * @throws LoginThrottledException - если лимит попыток исчерпан
+     */
+    public void check(final String username, final String address)
+        throws LoginThrottledException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        if (address != null && !attemptStore.tryAcquire(addressKey(address),
+            properties.getAddressLimit(), properties.getWindow())) {
+            addressThrottledCounter.increment();
+            throw new LoginThrottledException("Слишком много попыток входа с этого адреса",
+                properties.getWindow());
+        }
+
+        if (username != null && !attemptStore.tryAcquire(usernameKey(username),
+            properties.getUsernameLimit(), properties.getWindow())) {
+            usernameThrottledCounter.increment();
+            throw new LoginThrottledException("Слишком много попыток входа под этим username",
+                properties.getWindow());
+        }
+    }
+
+    /**
+     * Сбросить счетчик username после успешного входа. Лимит адреса не возвращается.
+     *
+     * @param username - username из запроса
+     * @param address  - адрес клиента
+     */
+    public void succeeded(final String username, final String address) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        if (username != null) {
+            attemptStore.reset(usernameKey(username));
+        }
+    }
+
+    /**
+     * Ключ счетчика по адресу клиента.
+     *
+     * @param address - адрес клиента
+     * @return ключ
+     */
+    private String addressKey(final String address) {
+        return "address:" + address;
+    }
+
+    /**
+     * Ключ счетчика по username без учета регистра.
+     *
+     * @param username - username
+     * @return ключ
+     */
+    private String usernameKey(final String username) {
+        return "username:" + username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,27 @@
+package heavenboards.user.service.authentication.throttling;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Исключение при превышении лимита попыток входа.
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+    /**
+     * Через сколько можно повторить попытку.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * Конструктор.
+     *
+     * @param message    - сообщение
+     * @param retryAfter - через сколько можно повторить попытку
+     */
+    public LoginThrottledException(final String message, final Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
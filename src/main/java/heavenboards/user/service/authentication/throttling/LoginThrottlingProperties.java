@@ -0,0 +1,53 @@
+package heavenboards.user.service.authentication.throttling;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Настройки ограничения попыток входа.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.throttling")
+public class LoginThrottlingProperties {
+    /**
+     * Включено ли ограничение.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Длина скользящего окна.
+     */
+    private Duration window = Duration.ofMinutes(1);
+
+    /**
+     * Максимальное количество попыток входа под одним username в окне.
+     */
+    private int usernameLimit = 10;
+
+    /**
+     * Максимальное количество попыток входа с одного адреса в окне.
+     */
+    private int addressLimit = 100;
+
+    /**
+     * Максимальное количество отслеживаемых ключей в памяти.
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * Заголовок, в котором доверенный прокси передает адрес клиента,
+     * например X-Forwarded-For. Если не задан, используется адрес соединения.
+     */
+    private String forwardedHeader;
+
+    /**
+     * Адреса доверенных прокси. Заголовок с адресом клиента учитывается только
+     * в запросах от них, иначе клиент мог бы подменить адрес и обойти лимит.
+     */
+    private Set<String> trustedProxies = Set.of();
+}
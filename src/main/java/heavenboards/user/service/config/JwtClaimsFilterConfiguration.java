@@ -0,0 +1,40 @@
+package heavenboards.user.service.config;
+
+import heavenboards.user.service.authentication.jwt.JwtClaimsAuthenticationFilter;
+import heavenboards.user.service.authentication.jwt.PrincipalRevalidator;
+import heavenboards.user.service.authentication.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Регистрация фильтра, определяющего пользователя по claims JWT-токена,
+ * непосредственно перед цепочкой Spring Security.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "auth.jwt-claims", name = "enabled", matchIfMissing = true)
+public class JwtClaimsFilterConfiguration {
+    /**
+     * Регистрация фильтра.
+     *
+     * @param verifiedTokenCache   - кэш токенов с проверенной подписью
+     * @param principalRevalidator - выборочная проверка пользователя по базе
+     * @param meterRegistry        - реестр метрик
+     * @return регистрация фильтра
+     */
+    @Bean
+    public FilterRegistrationBean<JwtClaimsAuthenticationFilter> jwtClaimsAuthenticationFilter(
+        final VerifiedTokenCache verifiedTokenCache,
+        final PrincipalRevalidator principalRevalidator,
+        final MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<JwtClaimsAuthenticationFilter> registration =
+            new FilterRegistrationBean<>(new JwtClaimsAuthenticationFilter(verifiedTokenCache,
+                principalRevalidator, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,39 @@
+package heavenboards.user.service.config;
+
+import heavenboards.user.service.authentication.hashing.PasswordHashingProperties;
+import heavenboards.user.service.authentication.hashing.TargetCostBCryptPasswordEncoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Конфигурация кодирования паролей.
+ */
+@Configuration
+public class PasswordEncoderConfiguration {
+    /**
+     * Идентификатор алгоритма, которым кодируются новые пароли.
+     */
+    public static final String ENCODING_ID = "bcrypt";
+
+    /**
+     * Делегирующий кодировщик паролей. Новые хэши пишутся с префиксом {bcrypt}
+     * и целевой стоимостью, хэши без префикса проверяются как BCrypt и считаются
+     * устаревшими, как и хэши с другой стоимостью.
+     *
+     * @param properties - настройки хэширования паролей
+     * @return кодировщик паролей
+     */
+    @Bean
+    @Primary
+    public PasswordEncoder upgradingPasswordEncoder(final PasswordHashingProperties properties) {
+        var bcrypt = new TargetCostBCryptPasswordEncoder(properties.getTargetCost());
+        var encoder = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+}
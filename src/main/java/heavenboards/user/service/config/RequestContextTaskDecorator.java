@@ -0,0 +1,38 @@
+package heavenboards.user.service.config;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Декоратор, переносящий security-контекст и атрибуты запроса в поток пула.
+ * Нужен для того, чтобы feign-клиенты в потоках пула передавали авторизацию
+ * так же, как и в потоке запроса.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+    /**
+     * Обернуть задачу так, чтобы она выполнялась с контекстом вызывающего потока.
+     *
+     * @param task - исходная задача
+     * @return задача с перенесенным контекстом
+     */
+    @Override
+    public Runnable decorate(final Runnable task) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return () -> {
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+            try {
+                SecurityContextHolder.setContext(securityContext);
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                task.run();
+            } finally {
+                SecurityContextHolder.setContext(previousSecurityContext);
+                RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+            }
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package heavenboards.user.service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Включение фоновых задач по расписанию.
+ * В тестах расписание выключено, фоновые задачи вызываются явно.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "scheduling", name = "enabled", matchIfMissing = true)
+public class SchedulingConfiguration {
+}
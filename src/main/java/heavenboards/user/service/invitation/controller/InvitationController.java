@@ -1,9 +1,16 @@
 package heavenboards.user.service.invitation.controller;
 
 import heavenboards.user.service.invitation.servce.InvitationAcceptUseCase;
+import heavenboards.user.service.invitation.servce.InvitationBatchAcceptUseCase;
+import heavenboards.user.service.invitation.servce.InvitationBatchCreateUseCase;
+import heavenboards.user.service.invitation.servce.InvitationBatchRejectUseCase;
 import heavenboards.user.service.invitation.servce.InvitationCreateUseCase;
 import heavenboards.user.service.invitation.servce.InvitationFindUseCase;
 import heavenboards.user.service.invitation.servce.InvitationRejectUseCase;
+import heavenboards.user.service.invitation.transfer.InvitationBatchCreateResultTo;
+import heavenboards.user.service.invitation.transfer.InvitationBatchCreateTo;
+import heavenboards.user.service.invitation.transfer.InvitationBatchTo;
+import heavenboards.user.service.invitation.transfer.InvitationPageTo;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +19,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import transfer.contract.domain.invitation.InvitationOperationResultTo;
 import transfer.contract.domain.invitation.InvitationTo;
@@ -31,6 +39,11 @@ public class InvitationController {
      */
     private final InvitationCreateUseCase invitationCreateUseCase;
 
+    /**
+     * Use case пакетного создания приглашений пользователей в проект.
+     */
+    private final InvitationBatchCreateUseCase invitationBatchCreateUseCase;
+
     /**
      * Use case поиска приглашений пользователя в проекты.
      */
@@ -46,6 +59,16 @@ public class InvitationController {
      */
     private final InvitationRejectUseCase invitationRejectUseCase;
 
+    /**
+     * Use case пакетного подтверждения приглашений пользователя в проекты.
+     */
+    private final InvitationBatchAcceptUseCase invitationBatchAcceptUseCase;
+
+    /**
+     * Use case пакетного отклонения приглашений пользователя в проекты.
+     */
+    private final InvitationBatchRejectUseCase invitationBatchRejectUseCase;
+
     /**
      * Найти все приглашения, которые пришли этому пользователю в проекты.
      *
@@ -69,6 +92,40 @@ public class InvitationController {
         return invitationFindUseCase.findAllSentInvitations();
     }
 
+    /**
+     * Найти страницу приглашений, которые пришли этому пользователю в проекты.
+     *
+     * @param cursor - курсор из предыдущей страницы, для первой страницы не передается
+     * @param limit  - размер страницы
+     * @return страница приглашений и курсор следующей страницы
+     */
+    @GetMapping("/received/page")
+    @Operation(summary = "Запрос на получение страницы входящих приглашений "
+        + "пользователя в проекты")
+    public InvitationPageTo findReceivedInvitationsPage(
+        final @RequestParam(required = false) String cursor,
+        final @RequestParam(defaultValue = "20") int limit
+    ) {
+        return invitationFindUseCase.findReceivedInvitationsPage(cursor, limit);
+    }
+
+    /**
+     * Найти страницу приглашений, которые присылал этот пользователь другим пользователям.
+     *
+     * @param cursor - курсор из предыдущей страницы, для первой страницы не передается
+     * @param limit  - размер страницы
+     * @return страница приглашений и курсор следующей страницы
+     */
+    @GetMapping("/sent/page")
+    @Operation(summary = "Запрос на получение страницы приглашений, "
+        + "которые присылал этот пользователь другим пользователям")
+    public InvitationPageTo findSentInvitationsPage(
+        final @RequestParam(required = false) String cursor,
+        final @RequestParam(defaultValue = "20") int limit
+    ) {
+        return invitationFindUseCase.findSentInvitationsPage(cursor, limit);
+    }
+
     /**
      * Запрос на создание приглашения пользователя в проект.
      *
@@ -83,6 +140,20 @@ public class InvitationController {
         return invitationCreateUseCase.createInvitation(invitation);
     }
 
+    /**
+     * Запрос на пакетное создание приглашений пользователей в проект.
+     *
+     * @param batch - проект и идентификаторы приглашаемых пользователей
+     * @return результат создания для каждого пользователя в порядке запроса
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Запрос на пакетное создание приглашений пользователей в проект")
+    public List<InvitationBatchCreateResultTo> createInvitations(
+        final @Valid @RequestBody InvitationBatchCreateTo batch
+    ) {
+        return invitationBatchCreateUseCase.createInvitations(batch);
+    }
+
     /**
      * Запрос на подтверждение приглашения пользователя в проект.
      *
@@ -110,4 +181,32 @@ public class InvitationController {
     ) {
         return invitationRejectUseCase.rejectInvitation(invitation);
     }
+
+    /**
+     * Запрос на подтверждение нескольких приглашений пользователя в проекты.
+     *
+     * @param batch - идентификаторы приглашений
+     * @return общий результат подтверждения с ошибками по отдельным приглашениям
+     */
+    @PostMapping("/accept/batch")
+    @Operation(summary = "Запрос на подтверждение нескольких приглашений пользователя в проекты")
+    public InvitationOperationResultTo acceptInvitations(
+        final @Valid @RequestBody InvitationBatchTo batch
+    ) {
+        return invitationBatchAcceptUseCase.acceptInvitations(batch);
+    }
+
+    /**
+     * Запрос на отклонение нескольких приглашений пользователя в проекты.
+     *
+     * @param batch - идентификаторы приглашений
+     * @return общий результат отклонения с ошибками по отдельным приглашениям
+     */
+    @PostMapping("/reject/batch")
+    @Operation(summary = "Запрос на отклонение нескольких приглашений пользователя в проекты")
+    public InvitationOperationResultTo rejectInvitations(
+        final @Valid @RequestBody InvitationBatchTo batch
+    ) {
+        return invitationBatchRejectUseCase.rejectInvitations(batch);
+    }
 }
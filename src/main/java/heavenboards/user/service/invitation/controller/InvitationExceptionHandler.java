@@ -0,0 +1,29 @@
+package heavenboards.user.service.invitation.controller;
+
+import heavenboards.user.service.invitation.paging.InvalidInvitationCursorException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Обработчик ошибок запросов к приглашениям.
+ */
+@RestControllerAdvice(assignableTypes = InvitationController.class)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class InvitationExceptionHandler {
+    /**
+     * Ответ на поврежденный курсор страницы.
+     *
+     * @param exception - исключение
+     * @return ответ 400 Bad Request
+     */
+    @ExceptionHandler(InvalidInvitationCursorException.class)
+    public ResponseEntity<Void> handleInvalidCursor(
+        final InvalidInvitationCursorException exception
+    ) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+}
@@ -0,0 +1,55 @@
+package heavenboards.user.service.invitation.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Репозиторий для пакетной записи приглашений через JDBC batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InvitationBatchRepository {
+    /**
+     * Размер одного JDBC batch.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Вставка приглашения, пропускающая дубликаты по уникальному индексу.
+     */
+    private static final String INSERT_IF_ABSENT = "INSERT INTO invitation_entity "
+        + "(id, invited_user_id, invitation_sender, project_id) VALUES (?, ?, ?, ?) "
+        + "ON CONFLICT (project_id, invited_user_id) DO NOTHING";
+
+    /**
+     * JdbcTemplate, работающий в текущей транзакции.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Вставить приглашения пачками, пропуская уже существующие.
+     *
+     * @param invitations - приглашения с проставленными идентификаторами и пользователями
+     * @return для каждого приглашения по порядку: true, если строка вставлена
+     */
+    public boolean[] insertAllIfAbsent(final List<InvitationEntity> invitations) {
+        int[][] updateCounts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, invitations, BATCH_SIZE,
+            (statement, invitation) -> {
+                statement.setObject(1, invitation.getId());
+                statement.setObject(2, invitation.getInvitedUser().getId());
+                statement.setObject(3, invitation.getInvitationSender().getId());
+                statement.setObject(4, invitation.getProjectId());
+            });
+
+        int[] flatCounts = Arrays.stream(updateCounts).flatMapToInt(Arrays::stream).toArray();
+        boolean[] inserted = new boolean[flatCounts.length];
+        for (int i = 0; i < flatCounts.length; i++) {
+            inserted[i] = flatCounts[i] != 0;
+        }
+        return inserted;
+    }
+}
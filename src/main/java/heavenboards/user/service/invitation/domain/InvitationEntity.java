@@ -1,6 +1,7 @@
 package heavenboards.user.service.invitation.domain;
 
 import heavenboards.user.service.user.domain.UserEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -13,6 +14,7 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import org.hibernate.annotations.UuidGenerator;
 
+import java.time.ZonedDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -53,6 +55,13 @@ public class InvitationEntity {
      */
     private UUID projectId;
 
+    /**
+     * Дата и время создания. Заполняется базой при вставке,
+     * вместе с id задает порядок постраничной выдачи.
+     */
+    @Column(insertable = false, updatable = false)
+    private ZonedDateTime createdAt;
+
     /**
      * Сравнение по идентификатору.
      *
@@ -0,0 +1,29 @@
+package heavenboards.user.service.invitation.domain;
+
+import java.util.UUID;
+
+/**
+ * Проекция приглашения с идентификатором, приглашенным пользователем и проектом.
+ */
+public interface InvitationKeyProjection {
+    /**
+     * Идентификатор приглашения.
+     *
+     * @return идентификатор
+     */
+    UUID getId();
+
+    /**
+     * Идентификатор приглашенного пользователя.
+     *
+     * @return идентификатор пользователя
+     */
+    UUID getInvitedUserId();
+
+    /**
+     * Идентификатор проекта.
+     *
+     * @return идентификатор проекта
+     */
+    UUID getProjectId();
+}
@@ -1,7 +1,13 @@
 package heavenboards.user.service.invitation.domain;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,12 +25,75 @@ public interface InvitationRepository extends JpaRepository<InvitationEntity, UU
      */
     Optional<InvitationEntity> findByProjectIdAndInvitedUserId(UUID projectId, UUID invitedUserId);
 
+    /**
+     * Найти идентификаторы приглашений пользователей в проект одним запросом.
+     *
+     * @param projectId      - идентификатор проекта
+     * @param invitedUserIds - идентификаторы приглашенных пользователей
+     * @return идентификаторы найденных приглашений и приглашенных пользователей
+     */
+    @Query("SELECT i.id AS id, i.invitedUser.id AS invitedUserId, i.projectId AS projectId "
+        + "FROM InvitationEntity i "
+        + "WHERE i.projectId = :projectId AND i.invitedUser.id IN :invitedUserIds")
+    List<InvitationKeyProjection> findKeysByProjectIdAndInvitedUserIds(
+        @Param("projectId") UUID projectId,
+        @Param("invitedUserIds") Collection<UUID> invitedUserIds
+    );
+
+    /**
+     * Найти идентификаторы, приглашенных пользователей и проекты приглашений одним запросом.
+     *
+     * @param ids - идентификаторы приглашений
+     * @return найденные приглашения
+     */
+    @Query("SELECT i.id AS id, i.invitedUser.id AS invitedUserId, i.projectId AS projectId "
+        + "FROM InvitationEntity i WHERE i.id IN :ids")
+    List<InvitationKeyProjection> findKeysByIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Создать приглашение, если приглашения этого пользователя в этот проект еще нет.
+     * Дубликат определяется уникальным индексом (project_id, invited_user_id),
+     * поэтому параллельные запросы не создадут два приглашения.
+     *
+     * @param id                 - идентификатор нового приглашения
+     * @param invitedUserId      - идентификатор приглашаемого пользователя
+     * @param invitationSenderId - идентификатор пользователя, отправившего приглашение
+     * @param projectId          - идентификатор проекта
+     * @return идентификатор созданного приглашения или пустота, если приглашение уже есть
+     */
+    @Query(value = "INSERT INTO invitation_entity "
+        + "(id, invited_user_id, invitation_sender, project_id) "
+        + "VALUES (:id, :invitedUserId, :invitationSenderId, :projectId) "
+        + "ON CONFLICT (project_id, invited_user_id) DO NOTHING "
+        + "RETURNING id", nativeQuery = true)
+    Optional<UUID> insertIfAbsent(@Param("id") UUID id,
+                                  @Param("invitedUserId") UUID invitedUserId,
+                                  @Param("invitationSenderId") UUID invitationSenderId,
+                                  @Param("projectId") UUID projectId);
+
+    /**
+     * Подтвердить приглашения: удалить их и в том же запросе записать в outbox
+     * добавление приглашенных пользователей в проекты.
+     * Приглашения, которые уже удалил параллельный запрос, в результат не попадают.
+     *
+     * @param ids - идентификаторы приглашений
+     * @return идентификаторы подтвержденных приглашений
+     */
+    @Query(value = "WITH accepted AS ("
+        + "DELETE FROM invitation_entity WHERE id IN (:ids) "
+        + "RETURNING id, project_id, invited_user_id) "
+        + "INSERT INTO project_membership_outbox (id, project_id, user_id, invitation_id) "
+        + "SELECT gen_random_uuid(), project_id, invited_user_id, id FROM accepted "
+        + "RETURNING invitation_id", nativeQuery = true)
+    List<UUID> moveToMembershipOutbox(@Param("ids") Collection<UUID> ids);
+
     /**
      * Найти все приглашения, которые пришли этому пользователю в проекты.
      *
      * @param invitedUserId - идентификатор пользователя, приглашения которого в проекты мы ищем
      * @return все входящие приглашения пользователя
      */
+    @EntityGraph(attributePaths = {"invitedUser", "invitationSender"})
     List<InvitationEntity> findAllByInvitedUserId(UUID invitedUserId);
 
     /**
@@ -33,5 +102,70 @@ public interface InvitationRepository extends JpaRepository<InvitationEntity, UU
      * @param invitationSenderId - идентификатор пользователя, приглашения от которого мы ищем
      * @return все исходящие приглашения пользователя
      */
+    @EntityGraph(attributePaths = {"invitedUser", "invitationSender"})
     List<InvitationEntity> findAllByInvitationSenderId(UUID invitationSenderId);
+
+    /**
+     * Первая страница входящих приглашений пользователя, от новых к старым.
+     *
+     * @param invitedUserId - идентификатор приглашенного пользователя
+     * @param limit         - размер страницы
+     * @return приглашения страницы
+     */
+    @EntityGraph(attributePaths = {"invitedUser", "invitationSender"})
+    @Query("SELECT i FROM InvitationEntity i WHERE i.invitedUser.id = :invitedUserId "
+        + "ORDER BY i.createdAt DESC, i.id DESC")
+    List<InvitationEntity> findReceivedPage(@Param("invitedUserId") UUID invitedUserId,
+                                            Limit limit);
+
+    /**
+     * Страница входящих приглашений пользователя после позиции курсора.
+     * Сравнение пары (created_at, id) выполняется по индексу
+     * (invited_user_id, created_at, id) без пропуска строк через OFFSET.
+     *
+     * @param invitedUserId - идентификатор приглашенного пользователя
+     * @param createdAt     - время создания последнего приглашения предыдущей страницы
+     * @param id            - идентификатор последнего приглашения предыдущей страницы
+     * @param limit         - размер страницы
+     * @return приглашения страницы
+     */
+    @EntityGraph(attributePaths = {"invitedUser", "invitationSender"})
+    @Query("SELECT i FROM InvitationEntity i WHERE i.invitedUser.id = :invitedUserId "
+        + "AND (i.createdAt, i.id) < (:createdAt, :id) "
+        + "ORDER BY i.createdAt DESC, i.id DESC")
+    List<InvitationEntity> findReceivedPageAfter(@Param("invitedUserId") UUID invitedUserId,
+                                                 @Param("createdAt") ZonedDateTime createdAt,
+                                                 @Param("id") UUID id,
+                                                 Limit limit);
+
+    /**
+     * Первая страница исходящих приглашений пользователя, от новых к старым.
+     *
+     * @param invitationSenderId - идентификатор пользователя, отправившего приглашения
+     * @param limit              - размер страницы
+     * @return приглашения страницы
+     */
+    @EntityGraph(attributePaths = {"invitedUser", "invitationSender"})
+    @Query("SELECT i FROM InvitationEntity i WHERE i.invitationSender.id = :invitationSenderId "
+        + "ORDER BY i.createdAt DESC, i.id DESC")
+    List<InvitationEntity> findSentPage(@Param("invitationSenderId") UUID invitationSenderId,
+                                        Limit limit);
+
+    /**
+     * Страница исходящих приглашений пользователя после позиции курсора.
+     *
+     * @param invitationSenderId - идентификатор пользователя, отправившего приглашения
+     * @param createdAt          - время создания последнего приглашения предыдущей страницы
+     * @param id                 - идентификатор последнего приглашения предыдущей страницы
+     * @param limit              - размер страницы
+     * @return приглашения страницы
+     */
+    @EntityGraph(attributePaths = {"invitedUser", "invitationSender"})
+    @Query("SELECT i FROM InvitationEntity i WHERE i.invitationSender.id = :invitationSenderId "
+        + "AND (i.createdAt, i.id) < (:createdAt, :id) "
+        + "ORDER BY i.createdAt DESC, i.id DESC")
+    List<InvitationEntity> findSentPageAfter(@Param("invitationSenderId") UUID invitationSenderId,
+                                             @Param("createdAt") ZonedDateTime createdAt,
+                                             @Param("id") UUID id,
+                                             Limit limit);
 }
@@ -1,23 +1,29 @@
 package heavenboards.user.service.invitation.mapping;
 
 import heavenboards.user.service.invitation.domain.InvitationEntity;
+import heavenboards.user.service.project.client.ProjectBatchClient;
 import heavenboards.user.service.user.domain.UserEntity;
 import heavenboards.user.service.user.domain.UserRepository;
 import heavenboards.user.service.user.mapping.UserMapper;
 import lombok.Getter;
 import org.mapstruct.AfterMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
-import transfer.contract.api.ProjectApi;
 import transfer.contract.domain.invitation.InvitationTo;
+import transfer.contract.domain.project.ProjectTo;
 import transfer.contract.domain.user.UserTo;
 import transfer.contract.exception.BaseErrorCode;
 import transfer.contract.exception.ClientApplicationException;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Маппер для приглашений.
@@ -31,26 +37,47 @@ public abstract class InvitationMapper {
     private UserRepository userRepository;
 
     /**
-     * Api-клиент для сервиса проектов.
+     * Клиент для пакетного получения проектов.
      */
-    private ProjectApi projectApi;
+    private ProjectBatchClient projectBatchClient;
 
     /**
      * Маппер для пользователей.
      */
     private UserMapper userMapper;
 
+    /**
+     * Маппинг списка entity в to. Проекты всех приглашений запрашиваются
+     * один раз на каждый уникальный идентификатор проекта.
+     *
+     * @param entities - сущности приглашений
+     * @return to-модели приглашений в том же порядке
+     */
+    public List<InvitationTo> mapFromEntities(final List<InvitationEntity> entities) {
+        Set<UUID> projectIds = entities.stream()
+            .map(InvitationEntity::getProjectId)
+            .collect(Collectors.toSet());
+        Map<UUID, ProjectTo> projects = projectBatchClient.findProjectsByIds(projectIds);
+
+        return entities.stream()
+            .map(entity -> mapFromEntity(new InvitationTo(), entity, projects))
+            .collect(Collectors.toList());
+    }
+
     /**
      * Маппинг из entity в to.
      *
-     * @param to     - to-модель приглашения, которой мы проставляем поля
-     * @param entity - сущность
+     * @param to       - to-модель приглашения, которой мы проставляем поля
+     * @param entity   - сущность
+     * @param projects - заранее полученные проекты по идентификаторам
      * @return to с проставленными полями
      */
+    @Mapping(target = "project", ignore = true)
     @Mapping(target = "invitedUser", ignore = true)
     @Mapping(target = "invitationSender", ignore = true)
     public abstract InvitationTo mapFromEntity(@MappingTarget InvitationTo to,
-                                               InvitationEntity entity);
+                                               InvitationEntity entity,
+                                               @Context Map<UUID, ProjectTo> projects);
 
     /**
      * Маппинг из to в entity.
@@ -60,6 +87,7 @@ public abstract class InvitationMapper {
      * @return сущность с проставленными полями
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "invitedUser", ignore = true)
     @Mapping(target = "invitationSender", ignore = true)
     @Mapping(target = "projectId", source = "project.id")
@@ -67,16 +95,18 @@ public abstract class InvitationMapper {
                                                InvitationTo to);
 
     /**
-     * После маппинга из entity в to - проставляем пользователей.
+     * После маппинга из entity в to - проставляем проект и пользователей.
      *
-     * @param to     - to-модель приглашения, которой мы проставляем поля
-     * @param entity - сущность приглашения
+     * @param to       - to-модель приглашения, которой мы проставляем поля
+     * @param entity   - сущность приглашения
+     * @param projects - заранее полученные проекты по идентификаторам
      */
     @AfterMapping
     @SuppressWarnings("unused")
     public void afterMappingFromEntity(final @MappingTarget InvitationTo to,
-                                       final InvitationEntity entity) {
-        to.setProject(projectApi.findProjectById(entity.getProjectId()));
+                                       final InvitationEntity entity,
+                                       final @Context Map<UUID, ProjectTo> projects) {
+        to.setProject(projects.get(entity.getProjectId()));
         to.setInvitedUser(userMapper.mapFromEntity(entity.getInvitedUser()));
         to.setInvitationSender(userMapper.mapFromEntity(entity.getInvitationSender()));
     }
@@ -108,8 +138,6 @@ public abstract class InvitationMapper {
 
         invitation.setInvitedUser(invitedUser);
         invitation.setInvitationSender(invitationSenderEntity);
-        invitedUser.getInvitations().add(invitation);
-        invitationSenderEntity.getSentInvitations().add(invitation);
     }
 
     /**
@@ -123,13 +151,13 @@ public abstract class InvitationMapper {
     }
 
     /**
-     * Внедрение бина api-клиента для сервиса проектов.
+     * Внедрение бина клиента для пакетного получения проектов.
      *
-     * @param api - бин ProjectApi
+     * @param client - бин ProjectBatchClient
      */
     @Autowired
-    public void setProjectApi(final ProjectApi api) {
-        this.projectApi = api;
+    public void setProjectBatchClient(final ProjectBatchClient client) {
+        this.projectBatchClient = client;
     }
 
     /**
@@ -0,0 +1,15 @@
+package heavenboards.user.service.invitation.paging;
+
+/**
+ * Исключение при предъявлении курсора страницы, который не удалось разобрать.
+ */
+public class InvalidInvitationCursorException extends RuntimeException {
+    /**
+     * Конструктор.
+     *
+     * @param message - сообщение
+     */
+    public InvalidInvitationCursorException(final String message) {
+        super(message);
+    }
+}
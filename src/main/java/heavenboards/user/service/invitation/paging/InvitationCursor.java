@@ -0,0 +1,70 @@
+package heavenboards.user.service.invitation.paging;
+
+import heavenboards.user.service.invitation.domain.InvitationEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Позиция в списке приглашений, отсортированном по убыванию (created_at, id).
+ * Следующая страница начинается с приглашений строго после этой позиции,
+ * поэтому новые приглашения не сдвигают уже просмотренные страницы.
+ * Клиенту курсор передается непрозрачной base64url-строкой.
+ *
+ * @param createdAt - время создания последнего приглашения страницы
+ * @param id        - идентификатор последнего приглашения страницы
+ */
+public record InvitationCursor(Instant createdAt, UUID id) {
+    /**
+     * Разделитель полей в закодированном курсоре.
+     */
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Курсор, указывающий на позицию после приглашения.
+     *
+     * @param invitation - последнее приглашение страницы
+     * @return курсор
+     */
+    public static InvitationCursor after(final InvitationEntity invitation) {
+        return new InvitationCursor(invitation.getCreatedAt().toInstant(), invitation.getId());
+    }
+
+    /**
+     * Разобрать курсор, полученный от клиента.
+     *
+     * @param token - закодированный курсор
+     * @return курсор
+     * @throws InvalidInvitationCursorException - если курсор поврежден
+     */
+    public static InvitationCursor decode(final String token)
+        throws InvalidInvitationCursorException {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token),
+                StandardCharsets.US_ASCII);
+            int separator = value.indexOf(SEPARATOR);
+            long micros = Long.parseLong(value.substring(0, separator));
+            return new InvitationCursor(Instant.EPOCH.plus(micros, ChronoUnit.MICROS),
+                UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException exception) {
+            throw new InvalidInvitationCursorException(
+                String.format("Некорректный курсор страницы приглашений: %s", token));
+        }
+    }
+
+    /**
+     * Закодировать курсор для клиента. Время хранится в микросекундах,
+     * с точностью timestamp в PostgreSQL.
+     *
+     * @return закодированный курсор
+     */
+    public String encode() {
+        String value = ChronoUnit.MICROS.between(Instant.EPOCH, createdAt) + SEPARATOR
+            + id.toString();
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -5,13 +5,11 @@ import heavenboards.user.service.invitation.domain.InvitationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import transfer.contract.api.ProjectApi;
+import org.springframework.transaction.support.TransactionTemplate;
 import transfer.contract.domain.common.OperationStatus;
 import transfer.contract.domain.invitation.InvitationOperationErrorCode;
 import transfer.contract.domain.invitation.InvitationOperationResultTo;
 import transfer.contract.domain.invitation.InvitationTo;
-import transfer.contract.domain.project.ProjectTo;
 import transfer.contract.domain.user.UserTo;
 import transfer.contract.exception.BaseErrorCode;
 import transfer.contract.exception.ClientApplicationException;
@@ -19,10 +17,14 @@ import transfer.contract.exception.ClientApplicationException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Use case подтверждения приглашения пользователя в проект.
+ * Добавление пользователя в проект записывается в outbox в одной транзакции
+ * с удалением приглашения и доставляется в сервис проектов
+ * {@link heavenboards.user.service.project.outbox.ProjectMembershipDispatcher}.
  */
 @Service
 @RequiredArgsConstructor
@@ -33,9 +35,9 @@ public class InvitationAcceptUseCase {
     private final InvitationRepository invitationRepository;
 
     /**
-     * Api-клиент для сервиса проектов.
+     * Шаблон для коротких транзакций вокруг работы с базой.
      */
-    private final ProjectApi projectApi;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Запрос на подтверждение приглашения пользователя в проект.
@@ -43,14 +45,12 @@ public class InvitationAcceptUseCase {
      * @param invitation - to-модель приглашения пользователя в проект
      * @return результат подтверждения приглашения
      */
-    @Transactional
     @SuppressWarnings("Duplicates")
     public InvitationOperationResultTo acceptInvitation(final InvitationTo invitation) {
         Optional<InvitationEntity> invitationEntity =
             invitationRepository.findById(invitation.getId());
         if (invitationEntity.isEmpty()) {
-            throw new ClientApplicationException(BaseErrorCode.NOT_FOUND,
-                String.format("Приглашение с идентификатором %s не найдено", invitation.getId()));
+            throw invitationNotFound(invitation.getId());
         }
 
         var user = (UserTo) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -65,31 +65,24 @@ public class InvitationAcceptUseCase {
                 .build();
         }
 
-        ProjectTo project = getProjectByIdWithCheck(invitation.getProject().getId());
-        invitationRepository.delete(invitationEntity.get());
+        // Приглашение уже подтвердил или отклонил параллельный запрос
+        List<UUID> acceptedIds = transactionTemplate.execute(status ->
+            invitationRepository.moveToMembershipOutbox(Set.of(invitation.getId())));
+        if (acceptedIds == null || acceptedIds.isEmpty()) {
+            throw invitationNotFound(invitation.getId());
+        }
 
-        project.getUsers().add(user);
-        projectApi.updateProject(project);
         return InvitationOperationResultTo.builder().build();
     }
 
     /**
-     * Проверить существование проекта по идентификатору и получить проект.
+     * Ошибка отсутствующего приглашения.
      *
-     * @param projectId - идентификатор проекта
-     * @return проект по идентификатору
+     * @param invitationId - идентификатор приглашения
+     * @return исключение с кодом NOT_FOUND
      */
-    private ProjectTo getProjectByIdWithCheck(final UUID projectId) {
-        try {
-            ProjectTo project = projectApi.findProjectById(projectId);
-            if (!Objects.equals(project.getId(), projectId)) {
-                throw new RuntimeException();
-            }
-
-            return project;
-        } catch (Exception ignored) {
-            throw new ClientApplicationException(BaseErrorCode.NOT_FOUND,
-                String.format("Проект с идентификатором %s не найден", projectId));
-        }
+    private ClientApplicationException invitationNotFound(final UUID invitationId) {
+        return new ClientApplicationException(BaseErrorCode.NOT_FOUND,
+            String.format("Приглашение с идентификатором %s не найдено", invitationId));
     }
 }
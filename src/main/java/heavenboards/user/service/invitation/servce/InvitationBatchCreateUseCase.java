@@ -0,0 +1,216 @@
+package heavenboards.user.service.invitation.servce;
+
+import heavenboards.user.service.invitation.domain.InvitationBatchRepository;
+import heavenboards.user.service.invitation.domain.InvitationEntity;
+import heavenboards.user.service.invitation.domain.InvitationKeyProjection;
+import heavenboards.user.service.invitation.domain.InvitationRepository;
+import heavenboards.user.service.invitation.transfer.InvitationBatchCreateResultTo;
+import heavenboards.user.service.invitation.transfer.InvitationBatchCreateTo;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserProjection;
+import heavenboards.user.service.user.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import transfer.contract.api.ProjectApi;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.invitation.InvitationOperationErrorCode;
+import transfer.contract.domain.invitation.InvitationOperationResultTo;
+import transfer.contract.domain.project.ProjectTo;
+import transfer.contract.domain.user.UserTo;
+import transfer.contract.exception.BaseErrorCode;
+import transfer.contract.exception.ClientApplicationException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Use case пакетного создания приглашений пользователей в проект.
+ */
+@Service
+@RequiredArgsConstructor
+public class InvitationBatchCreateUseCase {
+    /**
+     * Репозиторий для приглашений.
+     */
+    private final InvitationRepository invitationRepository;
+
+    /**
+     * Репозиторий для пакетной записи приглашений.
+     */
+    private final InvitationBatchRepository invitationBatchRepository;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Api-клиент для сервиса проектов.
+     */
+    private final ProjectApi projectApi;
+
+    /**
+     * Шаблон для коротких транзакций вокруг работы с базой.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Запрос на создание приглашений пользователей в проект.
+     * Проект проверяется один раз до открытия транзакции, пользователи и существующие
+     * приглашения загружаются одним запросом каждые, новые приглашения вставляются JDBC batch.
+     *
+     * @param batch - проект и идентификаторы приглашаемых пользователей
+     * @return результат создания для каждого пользователя в порядке запроса без повторов
+     */
+    public List<InvitationBatchCreateResultTo> createInvitations(
+        final InvitationBatchCreateTo batch
+    ) {
+        checkProjectExist(batch.getProject().getId());
+        return transactionTemplate.execute(status -> insertInvitations(batch));
+    }
+
+    /**
+     * Создать в базе приглашения, которых еще нет.
+     *
+     * @param batch - проект и идентификаторы приглашаемых пользователей
+     * @return результат создания для каждого пользователя в порядке запроса без повторов
+     */
+    private List<InvitationBatchCreateResultTo> insertInvitations(
+        final InvitationBatchCreateTo batch
+    ) {
+        UUID projectId = batch.getProject().getId();
+        var invitationSender = (UserTo) SecurityContextHolder.getContext()
+            .getAuthentication().getPrincipal();
+        List<UUID> invitedUserIds = batch.getInvitedUserIds().stream().distinct().toList();
+        checkUsersExist(invitedUserIds, invitationSender.getId());
+
+        Map<UUID, UUID> existingInvitationIds = findExistingInvitationIds(projectId,
+            invitedUserIds);
+        Map<UUID, InvitationOperationResultTo> results = new LinkedHashMap<>();
+        List<InvitationEntity> newInvitations = new ArrayList<>();
+        for (UUID invitedUserId : invitedUserIds) {
+            UUID existingInvitationId = existingInvitationIds.get(invitedUserId);
+            if (existingInvitationId != null) {
+                results.put(invitedUserId, alreadyCreatedResult(existingInvitationId));
+                continue;
+            }
+
+            results.put(invitedUserId, null);
+            newInvitations.add(InvitationEntity.builder()
+                .id(UUID.randomUUID())
+                .invitedUser(UserEntity.builder().id(invitedUserId).build())
+                .invitationSender(UserEntity.builder().id(invitationSender.getId()).build())
+                .projectId(projectId)
+                .build());
+        }
+
+        boolean[] inserted = invitationBatchRepository.insertAllIfAbsent(newInvitations);
+        List<UUID> conflictedUserIds = new ArrayList<>();
+        for (int i = 0; i < newInvitations.size(); i++) {
+            InvitationEntity invitation = newInvitations.get(i);
+            if (inserted[i]) {
+                results.put(invitation.getInvitedUser().getId(), InvitationOperationResultTo
+                    .builder()
+                    .invitationId(invitation.getId())
+                    .build());
+            } else {
+                conflictedUserIds.add(invitation.getInvitedUser().getId());
+            }
+        }
+
+        // Приглашения, созданные параллельным запросом между чтением и вставкой
+        if (!conflictedUserIds.isEmpty()) {
+            findExistingInvitationIds(projectId, conflictedUserIds).forEach((userId, id) ->
+                results.put(userId, alreadyCreatedResult(id)));
+        }
+
+        List<InvitationBatchCreateResultTo> orderedResults = new ArrayList<>(results.size());
+        results.forEach((invitedUserId, result) -> orderedResults.add(
+            InvitationBatchCreateResultTo.builder()
+                .invitedUserId(invitedUserId)
+                .result(result)
+                .build()));
+        return orderedResults;
+    }
+
+    /**
+     * Проверить существование приглашаемых пользователей и отправителя одним запросом.
+     *
+     * @param invitedUserIds     - идентификаторы приглашаемых пользователей
+     * @param invitationSenderId - идентификатор отправителя приглашений
+     * @throws ClientApplicationException - если хотя бы один пользователь не найден
+     */
+    private void checkUsersExist(final List<UUID> invitedUserIds,
+                                 final UUID invitationSenderId) throws ClientApplicationException {
+        Set<UUID> requestedIds = new HashSet<>(invitedUserIds);
+        requestedIds.add(invitationSenderId);
+
+        Set<UUID> foundIds = userRepository.findProjectionsByIdIn(requestedIds).stream()
+            .map(UserProjection::getId)
+            .collect(Collectors.toSet());
+        requestedIds.removeAll(foundIds);
+        if (!requestedIds.isEmpty()) {
+            throw new ClientApplicationException(BaseErrorCode.NOT_FOUND,
+                String.format("Пользователи с идентификаторами %s не найдены", requestedIds));
+        }
+    }
+
+    /**
+     * Найти существующие приглашения пользователей в проект.
+     *
+     * @param projectId      - идентификатор проекта
+     * @param invitedUserIds - идентификаторы приглашенных пользователей
+     * @return идентификаторы приглашений по идентификатору приглашенного пользователя
+     */
+    private Map<UUID, UUID> findExistingInvitationIds(final UUID projectId,
+                                                      final List<UUID> invitedUserIds) {
+        return invitationRepository
+            .findKeysByProjectIdAndInvitedUserIds(projectId, invitedUserIds).stream()
+            .collect(Collectors.toMap(InvitationKeyProjection::getInvitedUserId,
+                InvitationKeyProjection::getId));
+    }
+
+    /**
+     * Результат для уже существующего приглашения.
+     *
+     * @param invitationId - идентификатор существующего приглашения
+     * @return результат с ошибкой INVITATION_ALREADY_CREATED
+     */
+    private InvitationOperationResultTo alreadyCreatedResult(final UUID invitationId) {
+        return InvitationOperationResultTo.builder()
+            .status(OperationStatus.FAILED)
+            .errors(List.of(InvitationOperationResultTo.InvitationOperationErrorTo.builder()
+                .errorCode(InvitationOperationErrorCode.INVITATION_ALREADY_CREATED)
+                .failedInvitationId(invitationId)
+                .build()))
+            .build();
+    }
+
+    /**
+     * Проверить существует ли проект по идентификатору.
+     *
+     * @param projectId - идентификатор проверяемого проекта
+     * @throws ClientApplicationException - если проект по идентификатору не найден
+     */
+    @SuppressWarnings("Duplicates")
+    private void checkProjectExist(final UUID projectId) throws ClientApplicationException {
+        try {
+            ProjectTo project = projectApi.findProjectById(projectId);
+            if (!Objects.equals(project.getId(), projectId)) {
+                throw new RuntimeException();
+            }
+        } catch (Exception ignored) {
+            throw new ClientApplicationException(BaseErrorCode.NOT_FOUND,
+                String.format("Проект с идентификатором %s не найден", projectId));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package heavenboards.user.service.invitation.servce;
+
+import heavenboards.user.service.invitation.domain.InvitationKeyProjection;
+import heavenboards.user.service.invitation.domain.InvitationRepository;
+import heavenboards.user.service.invitation.transfer.InvitationBatchTo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.invitation.InvitationOperationErrorCode;
+import transfer.contract.domain.invitation.InvitationOperationResultTo;
+import transfer.contract.domain.user.UserTo;
+import transfer.contract.exception.BaseErrorCode;
+import transfer.contract.exception.ClientApplicationException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Use case пакетного отклонения приглашений пользователя в проекты.
+ */
+@Service
+@RequiredArgsConstructor
+public class InvitationBatchRejectUseCase {
+    /**
+     * Репозиторий для приглашений.
+     */
+    private final InvitationRepository invitationRepository;
+
+    /**
+     * Запрос на отклонение нескольких приглашений пользователя в проекты.
+     * Приглашения пользователя удаляются одним запросом,
+     * для чужих приглашений возвращаются ошибки.
+     *
+     * @param batch - идентификаторы приглашений
+     * @return общий результат отклонения с ошибками по отдельным приглашениям
+     */
+    @Transactional
+    @SuppressWarnings("Duplicates")
+    public InvitationOperationResultTo rejectInvitations(final InvitationBatchTo batch) {
+        List<InvitationKeyProjection> invitations =
+            invitationRepository.findKeysByIds(batch.getInvitationIds());
+        checkAllInvitationsFound(batch.getInvitationIds(), invitations);
+
+        var user = (UserTo) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        List<UUID> ownInvitationIds = new ArrayList<>();
+        List<InvitationOperationResultTo.InvitationOperationErrorTo> errors = new ArrayList<>();
+        for (InvitationKeyProjection invitation : invitations) {
+            if (Objects.equals(invitation.getInvitedUserId(), user.getId())) {
+                ownInvitationIds.add(invitation.getId());
+            } else {
+                errors.add(InvitationOperationResultTo.InvitationOperationErrorTo.builder()
+                    .failedInvitationId(invitation.getId())
+                    .errorCode(InvitationOperationErrorCode.THIS_IS_NOT_YOUR_INVITATION)
+                    .build());
+            }
+        }
+
+        if (!ownInvitationIds.isEmpty()) {
+            invitationRepository.deleteAllByIdInBatch(ownInvitationIds);
+        }
+
+        if (errors.isEmpty()) {
+            return InvitationOperationResultTo.builder().build();
+        }
+
+        return InvitationOperationResultTo.builder()
+            .status(OperationStatus.FAILED)
+            .errors(errors)
+            .build();
+    }
+
+    /**
+     * Проверить, что все запрошенные приглашения найдены.
+     *
+     * @param invitationIds - идентификаторы запрошенных приглашений
+     * @param invitations   - найденные приглашения
+     * @throws ClientApplicationException - если хотя бы одно приглашение не найдено
+     */
+    private void checkAllInvitationsFound(final Set<UUID> invitationIds,
+                                          final List<InvitationKeyProjection> invitations)
+        throws ClientApplicationException {
+        Set<UUID> missingIds = new HashSet<>(invitationIds);
+        invitations.forEach(invitation -> missingIds.remove(invitation.getId()));
+        if (!missingIds.isEmpty()) {
+            throw new ClientApplicationException(BaseErrorCode.NOT_FOUND,
+                String.format("Приглашения с идентификаторами %s не найдены", missingIds));
+        }
+    }
+}
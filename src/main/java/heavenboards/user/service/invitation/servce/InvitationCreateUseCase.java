@@ -5,7 +5,7 @@ import heavenboards.user.service.invitation.domain.InvitationRepository;
 import heavenboards.user.service.invitation.mapping.InvitationMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.RequestBody;
 import transfer.contract.api.ProjectApi;
 import transfer.contract.domain.common.OperationStatus;
@@ -23,6 +23,7 @@ import java.util.UUID;
 
 /**
  * Use case создания приглашения пользователя в проект.
+ * Проверка проекта в сервисе проектов выполняется до открытия транзакции.
  */
 @Service
 @RequiredArgsConstructor
@@ -42,36 +43,58 @@ public class InvitationCreateUseCase {
      */
     private final ProjectApi projectApi;
 
+    /**
+     * Шаблон для коротких транзакций вокруг работы с базой.
+     */
+    private final TransactionTemplate transactionTemplate;
+
     /**
      * Запрос на создание приглашения пользователя в проект.
      *
      * @param invitation - to-модель приглашения пользователя в проект
      * @return результат создания приглашения
      */
-    @Transactional
     public InvitationOperationResultTo createInvitation(
         final @RequestBody InvitationTo invitation
     ) {
         checkProjectExist(invitation.getProject().getId());
-        Optional<InvitationEntity> invitationEntity = invitationRepository
-            .findByProjectIdAndInvitedUserId(invitation.getProject().getId(),
-                invitation.getInvitedUser().getId());
+        return transactionTemplate.execute(status -> insertInvitation(invitation));
+    }
+
+    /**
+     * Создать приглашение в базе, если его еще нет.
+     *
+     * @param invitation - to-модель приглашения пользователя в проект
+     * @return результат создания приглашения
+     */
+    private InvitationOperationResultTo insertInvitation(final InvitationTo invitation) {
+        InvitationEntity entity = invitationMapper.mapFromTo(new InvitationEntity(), invitation);
+
+        Optional<UUID> createdInvitationId = invitationRepository.insertIfAbsent(
+            UUID.randomUUID(),
+            entity.getInvitedUser().getId(),
+            entity.getInvitationSender().getId(),
+            entity.getProjectId()
+        );
+
+        if (createdInvitationId.isEmpty()) {
+            UUID existingInvitationId = invitationRepository
+                .findByProjectIdAndInvitedUserId(entity.getProjectId(),
+                    entity.getInvitedUser().getId())
+                .map(InvitationEntity::getId)
+                .orElse(null);
 
-        if (invitationEntity.isPresent()) {
             return InvitationOperationResultTo.builder()
                 .status(OperationStatus.FAILED)
                 .errors(List.of(InvitationOperationResultTo.InvitationOperationErrorTo.builder()
                     .errorCode(InvitationOperationErrorCode.INVITATION_ALREADY_CREATED)
-                    .failedInvitationId(invitationEntity.get().getId())
+                    .failedInvitationId(existingInvitationId)
                     .build()))
                 .build();
         }
 
-        InvitationEntity entity = invitationRepository.save(invitationMapper
-            .mapFromTo(new InvitationEntity(), invitation));
-
         return InvitationOperationResultTo.builder()
-            .invitationId(entity.getId())
+            .invitationId(createdInvitationId.get())
             .build();
     }
 
@@ -1,16 +1,22 @@
 package heavenboards.user.service.invitation.servce;
 
+import heavenboards.user.service.invitation.domain.InvitationEntity;
 import heavenboards.user.service.invitation.domain.InvitationRepository;
 import heavenboards.user.service.invitation.mapping.InvitationMapper;
+import heavenboards.user.service.invitation.paging.InvalidInvitationCursorException;
+import heavenboards.user.service.invitation.paging.InvitationCursor;
+import heavenboards.user.service.invitation.transfer.InvitationPageTo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import transfer.contract.domain.invitation.InvitationTo;
 import transfer.contract.domain.user.UserTo;
 
+import java.time.ZoneOffset;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 /**
  * Use case поиска приглашений пользователя в проекты.
@@ -18,6 +24,11 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class InvitationFindUseCase {
+    /**
+     * Максимальный размер страницы приглашений.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
     /**
      * Репозиторий для приглашений.
      */
@@ -36,9 +47,8 @@ public class InvitationFindUseCase {
     @Transactional(readOnly = true)
     public List<InvitationTo> findAllReceivedInvitations() {
         var user = (UserTo) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return invitationRepository.findAllByInvitedUserId(user.getId()).stream()
-            .map(entity -> invitationMapper.mapFromEntity(new InvitationTo(), entity))
-            .collect(Collectors.toList());
+        return invitationMapper.mapFromEntities(
+            invitationRepository.findAllByInvitedUserId(user.getId()));
     }
 
     /**
@@ -49,8 +59,102 @@ public class InvitationFindUseCase {
     @Transactional(readOnly = true)
     public List<InvitationTo> findAllSentInvitations() {
         var user = (UserTo) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        return invitationRepository.findAllByInvitationSenderId(user.getId()).stream()
-            .map(entity -> invitationMapper.mapFromEntity(new InvitationTo(), entity))
-            .collect(Collectors.toList());
+        return invitationMapper.mapFromEntities(
+            invitationRepository.findAllByInvitationSenderId(user.getId()));
+    }
+
+    /**
+     * Найти страницу приглашений, которые пришли этому пользователю в проекты.
+     *
+     * @param cursor - курсор из предыдущей страницы или null для первой страницы
+     * @param limit  - размер страницы, приводится к диапазону от 1 до {@link #MAX_PAGE_SIZE}
+     * @return страница приглашений и курсор следующей страницы
+     * @throws InvalidInvitationCursorException - если курсор поврежден
+     */
+    public InvitationPageTo findReceivedInvitationsPage(final String cursor, final int limit)
+        throws InvalidInvitationCursorException {
+        UUID userId = currentUserId();
+        InvitationCursor position = decodeCursor(cursor);
+        int pageSize = pageSize(limit);
+        List<InvitationEntity> invitations = position == null
+            ? invitationRepository.findReceivedPage(userId, Limit.of(pageSize + 1))
+            : invitationRepository.findReceivedPageAfter(userId,
+                position.createdAt().atZone(ZoneOffset.UTC), position.id(),
+                Limit.of(pageSize + 1));
+        return toPage(invitations, pageSize);
+    }
+
+    /**
+     * Найти страницу приглашений, которые присылал этот пользователь другим пользователям.
+     *
+     * @param cursor - курсор из предыдущей страницы или null для первой страницы
+     * @param limit  - размер страницы, приводится к диапазону от 1 до {@link #MAX_PAGE_SIZE}
+     * @return страница приглашений и курсор следующей страницы
+     * @throws InvalidInvitationCursorException - если курсор поврежден
+     */
+    public InvitationPageTo findSentInvitationsPage(final String cursor, final int limit)
+        throws InvalidInvitationCursorException {
+        UUID userId = currentUserId();
+        InvitationCursor position = decodeCursor(cursor);
+        int pageSize = pageSize(limit);
+        List<InvitationEntity> invitations = position == null
+            ? invitationRepository.findSentPage(userId, Limit.of(pageSize + 1))
+            : invitationRepository.findSentPageAfter(userId,
+                position.createdAt().atZone(ZoneOffset.UTC), position.id(),
+                Limit.of(pageSize + 1));
+        return toPage(invitations, pageSize);
+    }
+
+    /**
+     * Собрать страницу. Из базы читается на одно приглашение больше размера страницы,
+     * чтобы узнать, есть ли следующая страница. Проекты запрашиваются только для
+     * приглашений страницы и уже после закрытия транзакции чтения.
+     *
+     * @param invitations - приглашения, прочитанные из базы
+     * @param pageSize    - размер страницы
+     * @return страница приглашений
+     */
+    private InvitationPageTo toPage(final List<InvitationEntity> invitations, final int pageSize) {
+        if (invitations.size() <= pageSize) {
+            return InvitationPageTo.builder()
+                .items(invitationMapper.mapFromEntities(invitations))
+                .build();
+        }
+
+        List<InvitationEntity> page = invitations.subList(0, pageSize);
+        return InvitationPageTo.builder()
+            .items(invitationMapper.mapFromEntities(page))
+            .nextCursor(InvitationCursor.after(page.get(pageSize - 1)).encode())
+            .build();
+    }
+
+    /**
+     * Разобрать курсор страницы.
+     *
+     * @param cursor - курсор из запроса
+     * @return курсор или null для первой страницы
+     */
+    private InvitationCursor decodeCursor(final String cursor) {
+        return cursor == null || cursor.isBlank() ? null : InvitationCursor.decode(cursor);
+    }
+
+    /**
+     * Размер страницы в допустимом диапазоне.
+     *
+     * @param limit - запрошенный размер страницы
+     * @return размер страницы
+     */
+    private int pageSize(final int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Идентификатор текущего пользователя.
+     *
+     * @return идентификатор пользователя
+     */
+    private UUID currentUserId() {
+        var user = (UserTo) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return user.getId();
     }
 }
@@ -0,0 +1,32 @@
+package heavenboards.user.service.invitation.transfer;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import transfer.contract.domain.invitation.InvitationOperationResultTo;
+
+import java.util.UUID;
+
+/**
+ * Результат создания приглашения для одного пользователя из пакетного запроса.
+ * Поля результата операции разворачиваются на верхний уровень, поэтому JSON совпадает
+ * с {@link InvitationOperationResultTo} и дополнен идентификатором пользователя.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvitationBatchCreateResultTo {
+    /**
+     * Идентификатор приглашаемого пользователя.
+     */
+    private UUID invitedUserId;
+
+    /**
+     * Результат создания приглашения.
+     */
+    @JsonUnwrapped
+    private InvitationOperationResultTo result;
+}
@@ -0,0 +1,38 @@
+package heavenboards.user.service.invitation.transfer;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import transfer.contract.domain.project.ProjectTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Запрос на пакетное создание приглашений пользователей в один проект.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvitationBatchCreateTo {
+    /**
+     * Проект, в который приглашаются пользователи.
+     */
+    @NotNull
+    private ProjectTo project;
+
+    /**
+     * Идентификаторы приглашаемых пользователей. Порядок задает порядок результатов,
+     * повторы обрабатываются один раз.
+     */
+    @NotEmpty
+    @Size(max = 1000)
+    @Builder.Default
+    private List<UUID> invitedUserIds = new ArrayList<>();
+}
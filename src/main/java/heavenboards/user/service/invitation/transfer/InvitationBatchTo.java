@@ -0,0 +1,29 @@
+package heavenboards.user.service.invitation.transfer;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Запрос на пакетную обработку приглашений по идентификаторам.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvitationBatchTo {
+    /**
+     * Идентификаторы приглашений.
+     */
+    @NotEmpty
+    @Size(max = 1000)
+    @Builder.Default
+    private Set<UUID> invitationIds = new LinkedHashSet<>();
+}
@@ -0,0 +1,30 @@
+package heavenboards.user.service.invitation.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import transfer.contract.domain.invitation.InvitationTo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Страница приглашений.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvitationPageTo {
+    /**
+     * Приглашения страницы, от новых к старым.
+     */
+    @Builder.Default
+    private List<InvitationTo> items = new ArrayList<>();
+
+    /**
+     * Курсор следующей страницы или null, если страница последняя.
+     */
+    private String nextCursor;
+}
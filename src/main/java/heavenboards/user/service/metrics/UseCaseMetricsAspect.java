@@ -0,0 +1,155 @@
+package heavenboards.user.service.metrics;
+
+import heavenboards.user.service.authentication.refresh.IssuedTokens;
+import heavenboards.user.service.invitation.transfer.InvitationBatchCreateResultTo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import transfer.contract.domain.authentication.AuthenticationOperationErrorCode;
+import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.invitation.InvitationOperationErrorCode;
+import transfer.contract.domain.invitation.InvitationOperationResultTo;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Метрики публичных методов всех use case сервиса.
+ * Время выполнения публикуется в таймере usecase.execution с тегами usecase, method и outcome:
+ * success - операция выполнена, failed - возвращен результат со статусом FAILED,
+ * error - выброшено исключение (его класс в теге exception). Коды ошибок из результатов
+ * операций считаются в invitation.operation.errors и authentication.operation.errors.
+ */
+@Aspect
+@Component
+public class UseCaseMetricsAspect {
+    /**
+     * Название таймера выполнения use case.
+     */
+    public static final String EXECUTION_TIMER = "usecase.execution";
+
+    /**
+     * Название счетчика ошибок операций с приглашениями.
+     */
+    public static final String INVITATION_ERRORS = "invitation.operation.errors";
+
+    /**
+     * Название счетчика ошибок аутентификации.
+     */
+    public static final String AUTHENTICATION_ERRORS = "authentication.operation.errors";
+
+    /**
+     * Значение тега exception, если исключения не было.
+     */
+    private static final String NO_EXCEPTION = "none";
+
+    /**
+     * Реестр метрик.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Счетчики ошибок операций с приглашениями по коду ошибки.
+     */
+    private final Map<InvitationOperationErrorCode, Counter> invitationErrors =
+        new EnumMap<>(InvitationOperationErrorCode.class);
+
+    /**
+     * Счетчики ошибок аутентификации по коду ошибки.
+     */
+    private final Map<AuthenticationOperationErrorCode, Counter> authenticationErrors =
+        new EnumMap<>(AuthenticationOperationErrorCode.class);
+
+    /**
+     * Конструктор. Счетчики всех кодов ошибок регистрируются сразу,
+     * чтобы в Prometheus были нулевые значения до первой ошибки.
+     *
+     * @param meterRegistry - реестр метрик
+     */
+    public UseCaseMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (InvitationOperationErrorCode code : InvitationOperationErrorCode.values()) {
+            invitationErrors.put(code, meterRegistry.counter(INVITATION_ERRORS,
+                "code", code.name()));
+        }
+        for (AuthenticationOperationErrorCode code : AuthenticationOperationErrorCode.values()) {
+            authenticationErrors.put(code, meterRegistry.counter(AUTHENTICATION_ERRORS,
+                "code", code.name()));
+        }
+    }
+
+    /**
+     * Замерить выполнение метода use case.
+     *
+     * @param joinPoint - вызов метода
+     * @return результат метода
+     * @throws Throwable - исключение метода без изменений
+     */
+    @Around("execution(public * heavenboards.user.service..*UseCase.*(..))"
+        + " && !@annotation(jakarta.annotation.PreDestroy)")
+    public Object measure(final ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        String exception = NO_EXCEPTION;
+        try {
+            Object result = joinPoint.proceed();
+            outcome = countErrors(result) ? "failed" : "success";
+            return result;
+        } catch (Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            sample.stop(Timer.builder(EXECUTION_TIMER)
+                .description("Время выполнения use case")
+                .tag("usecase", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Посчитать коды ошибок в результате операции.
+     *
+     * @param result - результат метода use case
+     * @return true, если хотя бы одна операция завершилась со статусом FAILED
+     */
+    private boolean countErrors(final Object result) {
+        if (result instanceof Collection<?> results) {
+            boolean failed = false;
+            for (Object element : results) {
+                failed |= countErrors(element);
+            }
+            return failed;
+        }
+        if (result instanceof IssuedTokens tokens) {
+            return countErrors(tokens.result());
+        }
+        if (result instanceof InvitationBatchCreateResultTo batchResult) {
+            return countErrors(batchResult.getResult());
+        }
+        if (result instanceof InvitationOperationResultTo invitationResult) {
+            if (invitationResult.getErrors() != null) {
+                invitationResult.getErrors().forEach(error ->
+                    invitationErrors.get(error.getErrorCode()).increment());
+            }
+            return invitationResult.getStatus() == OperationStatus.FAILED;
+        }
+        if (result instanceof AuthenticationOperationResultTo authenticationResult) {
+            if (authenticationResult.getErrors() != null) {
+                authenticationResult.getErrors().forEach(error ->
+                    authenticationErrors.get(error.getErrorCode()).increment());
+            }
+            return authenticationResult.getStatus() == OperationStatus.FAILED;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,140 @@
+package heavenboards.user.service.project.client;
+
+import heavenboards.user.service.config.RequestContextTaskDecorator;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import transfer.contract.api.ProjectApi;
+import transfer.contract.domain.project.ProjectTo;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Клиент для получения нескольких проектов из сервиса проектов за один вызов.
+ * Сервис проектов не предоставляет пакетного метода, поэтому уникальные проекты
+ * запрашиваются параллельно, но не более чем в parallelism потоков.
+ * В режиме виртуальных потоков каждый запрос выполняется в своем виртуальном потоке,
+ * а количество одновременных запросов ограничивается тем же parallelism.
+ * Режим экспериментальный и выключен по умолчанию: его влияние на частоту запросов
+ * и задержку не измерялось.
+ */
+@Component
+public class ProjectBatchClient {
+    /**
+     * Api-клиент для сервиса проектов.
+     */
+    private final ProjectApi projectApi;
+
+    /**
+     * Исполнитель параллельных запросов в сервис проектов.
+     */
+    private final AsyncTaskExecutor executor;
+
+    /**
+     * Конструктор.
+     *
+     * @param projectApi     - api-клиент для сервиса проектов
+     * @param parallelism    - максимальное количество параллельных запросов
+     * @param virtualThreads - включен ли режим виртуальных потоков
+     */
+    public ProjectBatchClient(
+        final ProjectApi projectApi,
+        final @Value("${microservice.project-api.parallelism:8}") int parallelism,
+        final @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.projectApi = projectApi;
+        this.executor = virtualThreads
+            ? virtualThreadExecutor(parallelism)
+            : platformThreadExecutor(parallelism);
+    }
+
+    /**
+     * Исполнитель на виртуальных потоках. При достижении лимита одновременных
+     * запросов вызывающий поток ждет освобождения слота.
+     *
+     * @param parallelism - максимальное количество параллельных запросов
+     * @return исполнитель
+     */
+    private static AsyncTaskExecutor virtualThreadExecutor(final int parallelism) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("project-api-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(parallelism);
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        return executor;
+    }
+
+    /**
+     * Пул платформенных потоков.
+     *
+     * @param parallelism - максимальное количество параллельных запросов
+     * @return исполнитель
+     */
+    private static AsyncTaskExecutor platformThreadExecutor(final int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 32);
+        executor.setThreadNamePrefix("project-api-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Получить проекты по идентификаторам. Каждый уникальный идентификатор
+     * запрашивается ровно один раз.
+     *
+     * @param projectIds - идентификаторы проектов
+     * @return проекты, сгруппированные по идентификатору
+     */
+    public Map<UUID, ProjectTo> findProjectsByIds(final Collection<UUID> projectIds) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(projectIds);
+        Map<UUID, ProjectTo> projects = new HashMap<>(distinctIds.size() * 2);
+        if (distinctIds.size() <= 1) {
+            distinctIds.forEach(id -> projects.put(id, projectApi.findProjectById(id)));
+            return projects;
+        }
+
+        Map<UUID, CompletableFuture<ProjectTo>> futures = new HashMap<>(distinctIds.size() * 2);
+        for (UUID id : distinctIds) {
+            futures.put(id, CompletableFuture
+                .supplyAsync(() -> projectApi.findProjectById(id), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+
+        futures.forEach((id, future) -> projects.put(id, future.join()));
+        return projects;
+    }
+
+    /**
+     * Остановка исполнителя при остановке приложения.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+}
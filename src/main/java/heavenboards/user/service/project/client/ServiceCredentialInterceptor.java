@@ -0,0 +1,209 @@
+package heavenboards.user.service.project.client;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import heavenboards.user.service.user.cache.UserInvalidatedEvent;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import security.service.jwt.JwtTokenGenerator;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Авторизация feign-вызовов, выполняемых вне запроса пользователя, например диспетчером
+ * outbox. Внутри {@link #runAsService(Runnable)} к каждому вызову добавляется токен
+ * служебного пользователя из {@link ServiceCredentialProperties}, выпущенный
+ * {@link JwtTokenGenerator} security-service. Токен переиспользуется половину своего
+ * времени жизни. Остальные вызовы не изменяются и передают токен пользователя как раньше.
+ * Выполняется последним, чтобы заменить заголовок, выставленный другими перехватчиками.
+ * Токен выпускается только для служебного пользователя с ролью из настроек, наличие
+ * такого пользователя проверяется при запуске приложения. Изменение служебного
+ * пользователя сбрасывает выпущенный токен.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ServiceCredentialInterceptor implements RequestInterceptor {
+    /**
+     * Префикс токена в заголовке Authorization.
+     */
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * Признак вызова от имени сервиса в текущем потоке.
+     */
+    private static final ThreadLocal<Boolean> AS_SERVICE = new ThreadLocal<>();
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Генератор токенов security-service.
+     */
+    private final JwtTokenGenerator jwtTokenGenerator;
+
+    /**
+     * Настройки учетных данных сервиса.
+     */
+    private final ServiceCredentialProperties properties;
+
+    /**
+     * Через сколько миллисекунд после выпуска токен выпускается заново.
+     */
+    private final long refreshAfterMillis;
+
+    /**
+     * Текущий токен сервиса.
+     */
+    private volatile IssuedToken issuedToken;
+
+    /**
+     * Конструктор.
+     *
+     * @param userRepository        - репозиторий для пользователей
+     * @param jwtTokenGenerator     - генератор токенов security-service
+     * @param properties            - настройки учетных данных сервиса
+     * @param expirationTimeSeconds - время жизни токена в секундах
+     */
+    public ServiceCredentialInterceptor(final UserRepository userRepository,
+                                        final JwtTokenGenerator jwtTokenGenerator,
+                                        final ServiceCredentialProperties properties,
+                                        final @Value("${jwt.expiration-time-seconds}")
+                                        long expirationTimeSeconds) {
+        this.userRepository = userRepository;
+        this.jwtTokenGenerator = jwtTokenGenerator;
+        this.properties = properties;
+        this.refreshAfterMillis = expirationTimeSeconds * 1000 / 2;
+    }
+
+    /**
+     * Выполнить вызовы других сервисов от имени сервиса.
+     *
+     * @param call - вызовы
+     * @param <T>  - тип результата
+     * @return результат вызовов
+     */
+    public <T> T callAsService(final Supplier<T> call) {
+        Boolean previous = AS_SERVICE.get();
+        AS_SERVICE.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                AS_SERVICE.remove();
+            } else {
+                AS_SERVICE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Выполнить вызовы других сервисов от имени сервиса.
+     *
+     * @param call - вызовы
+     */
+    public void runAsService(final Runnable call) {
+        callAsService(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Проверить при запуске, что служебный пользователь существует и имеет нужную роль.
+     *
+     * @throws IllegalStateException - если служебный пользователь не найден
+     *                               или имеет другую роль
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyServiceUser() {
+        if (properties.isVerifyOnStartup()) {
+            serviceUser();
+        }
+    }
+
+    /**
+     * Сбросить токен сервиса при изменении служебного пользователя, например его роли.
+     *
+     * @param event - событие изменения пользователя
+     */
+    @EventListener
+    public void evict(final UserInvalidatedEvent event) {
+        if (Objects.equals(event.username(), properties.getUsername())) {
+            issuedToken = null;
+        }
+    }
+
+    /**
+     * Добавить токен сервиса к вызову, выполняемому от имени сервиса.
+     *
+     * @param template - шаблон запроса
+     */
+    @Override
+    public void apply(final RequestTemplate template) {
+        if (!Boolean.TRUE.equals(AS_SERVICE.get())) {
+            return;
+        }
+
+        template.removeHeader(HttpHeaders.AUTHORIZATION);
+        template.header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token());
+    }
+
+    /**
+     * Действующий токен сервиса, при необходимости выпущенный заново.
+     *
+     * @return токен без префикса
+     * @throws IllegalStateException - если служебный пользователь не найден
+     *                               или имеет другую роль
+     */
+    private String token() {
+        IssuedToken current = issuedToken;
+        long now = System.currentTimeMillis();
+        if (current != null && now - current.issuedAtMillis() < refreshAfterMillis) {
+            return current.token();
+        }
+
+        UserEntity serviceUser = serviceUser();
+        IssuedToken issued = new IssuedToken(jwtTokenGenerator.generate(serviceUser), now);
+        issuedToken = issued;
+        return issued.token();
+    }
+
+    /**
+     * Загрузить служебного пользователя и проверить его роль.
+     *
+     * @return служебный пользователь
+     * @throws IllegalStateException - если служебный пользователь не найден
+     *                               или имеет другую роль
+     */
+    private UserEntity serviceUser() {
+        UserEntity serviceUser = userRepository.findByUsername(properties.getUsername())
+            .orElseThrow(() -> new IllegalStateException(String.format(
+                "Служебный пользователь %s не найден", properties.getUsername())));
+        if (serviceUser.getRole() == null
+            || !properties.getRole().equals(serviceUser.getRole().name())) {
+            throw new IllegalStateException(String.format(
+                "Служебный пользователь %s должен иметь роль %s",
+                properties.getUsername(), properties.getRole()));
+        }
+        return serviceUser;
+    }
+
+    /**
+     * Выпущенный токен сервиса.
+     *
+     * @param token          - токен
+     * @param issuedAtMillis - время выпуска
+     */
+    private record IssuedToken(String token, long issuedAtMillis) {
+    }
+}
@@ -0,0 +1,33 @@
+package heavenboards.user.service.project.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Настройки учетных данных сервиса для вызовов других сервисов вне запроса пользователя.
+ * Username служебного пользователя зарезервирован и не может быть зарегистрирован.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "microservice.service-credential")
+public class ServiceCredentialProperties {
+    /**
+     * Username служебного пользователя, от имени которого выпускается токен.
+     * Пользователь создается администратором, должен иметь роль {@link #role}
+     * и права на изменение проектов.
+     */
+    private String username = "user-service";
+
+    /**
+     * Роль, которая должна быть у служебного пользователя. Токен не выпускается
+     * для пользователя с другой ролью.
+     */
+    private String role = "ADMIN";
+
+    /**
+     * Проверять ли служебного пользователя при запуске. Без существующего пользователя
+     * с нужной ролью приложение не запускается.
+     */
+    private boolean verifyOnStartup = true;
+}
@@ -0,0 +1,104 @@
+package heavenboards.user.service.project.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Запись outbox о добавлении пользователя в проект после подтверждения приглашения.
+ * Пишется в одной транзакции с удалением приглашения и доставляется в сервис
+ * проектов фоновым диспетчером.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Accessors(chain = true)
+@Entity
+@Table(name = "project_membership_outbox")
+public class ProjectMembershipOutboxEntity {
+    /**
+     * Идентификатор.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * Идентификатор проекта, в который добавляется пользователь.
+     */
+    private UUID projectId;
+
+    /**
+     * Идентификатор добавляемого пользователя.
+     */
+    private UUID userId;
+
+    /**
+     * Идентификатор подтвержденного приглашения.
+     */
+    private UUID invitationId;
+
+    /**
+     * Количество неудачных попыток доставки.
+     */
+    private int attempts;
+
+    /**
+     * Время, раньше которого запись не будет взята в работу.
+     */
+    private ZonedDateTime nextAttemptAt;
+
+    /**
+     * Время создания записи.
+     */
+    private ZonedDateTime createdAt;
+
+    /**
+     * Текст последней ошибки доставки.
+     */
+    private String lastError;
+
+    /**
+     * Исчерпаны ли попытки доставки.
+     */
+    private boolean failed;
+
+    /**
+     * Сравнение по идентификатору.
+     *
+     * @param another - объект для сравнения
+     * @return равны ли объекты по идентификатору
+     */
+    @Override
+    public boolean equals(final Object another) {
+        if (this == another) {
+            return true;
+        }
+
+        if (another == null || getClass() != another.getClass()) {
+            return false;
+        }
+
+        ProjectMembershipOutboxEntity entity = (ProjectMembershipOutboxEntity) another;
+        return Objects.equals(id, entity.id);
+    }
+
+    /**
+     * Хеш код идентификатора.
+     *
+     * @return хеш код идентификатора
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
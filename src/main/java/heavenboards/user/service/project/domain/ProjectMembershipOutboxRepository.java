@@ -0,0 +1,78 @@
+package heavenboards.user.service.project.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Репозиторий для outbox добавления пользователей в проекты.
+ */
+public interface ProjectMembershipOutboxRepository
+    extends JpaRepository<ProjectMembershipOutboxEntity, UUID> {
+    /**
+     * Взять в работу пачку готовых к доставке записей.
+     * Записи блокируются с SKIP LOCKED, поэтому несколько экземпляров сервиса
+     * не возьмут одну запись, а сдвиг next_attempt_at на время аренды вернет запись
+     * в очередь, если экземпляр упадет во время доставки.
+     *
+     * @param limit      - максимальное количество записей
+     * @param leaseUntil - время окончания аренды
+     * @return взятые в работу записи
+     */
+    @Query(value = "UPDATE project_membership_outbox SET next_attempt_at = :leaseUntil "
+        + "WHERE id IN (SELECT id FROM project_membership_outbox "
+        + "WHERE NOT failed AND next_attempt_at <= now() "
+        + "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED) "
+        + "RETURNING *", nativeQuery = true)
+    List<ProjectMembershipOutboxEntity> claimBatch(@Param("limit") int limit,
+                                                   @Param("leaseUntil") ZonedDateTime leaseUntil);
+
+    /**
+     * Отметить неудачную попытку доставки записей.
+     *
+     * @param ids           - идентификаторы записей
+     * @param nextAttemptAt - время следующей попытки
+     * @param lastError     - текст ошибки
+     * @param maxAttempts   - количество попыток, после которого запись больше не доставляется
+     * @return количество обновленных записей
+     */
+    @Modifying
+    @Query("UPDATE ProjectMembershipOutboxEntity e "
+        + "SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, "
+        + "e.lastError = :lastError, "
+        + "e.failed = CASE WHEN e.attempts + 1 >= :maxAttempts THEN true ELSE false END "
+        + "WHERE e.id IN :ids")
+    int markAttemptFailed(@Param("ids") Collection<UUID> ids,
+                          @Param("nextAttemptAt") ZonedDateTime nextAttemptAt,
+                          @Param("lastError") String lastError,
+                          @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Количество записей, ожидающих доставки.
+     *
+     * @return количество записей
+     */
+    long countByFailedFalse();
+
+    /**
+     * Количество записей, для которых исчерпаны попытки доставки.
+     *
+     * @return количество записей
+     */
+    long countByFailedTrue();
+
+    /**
+     * Время создания самой старой записи, ожидающей доставки.
+     *
+     * @return время создания или пустота, если очередь пуста
+     */
+    @Query("SELECT min(e.createdAt) FROM ProjectMembershipOutboxEntity e WHERE e.failed = false")
+    Optional<ZonedDateTime> findOldestPendingCreatedAt();
+}
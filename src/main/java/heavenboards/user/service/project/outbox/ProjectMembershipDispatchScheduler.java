@@ -0,0 +1,33 @@
+package heavenboards.user.service.project.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Периодический запуск диспетчера outbox добавления пользователей в проекты.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectMembershipDispatchScheduler {
+    /**
+     * Диспетчер outbox.
+     */
+    private final ProjectMembershipDispatcher dispatcher;
+
+    /**
+     * Настройки доставки.
+     */
+    private final ProjectMembershipOutboxProperties properties;
+
+    /**
+     * Доставить все готовые записи: проходы повторяются, пока забирается полная пачка.
+     */
+    @Scheduled(fixedDelayString = "${project.membership-outbox.poll-interval-millis:1000}")
+    public void dispatchPending() {
+        int claimed;
+        do {
+            claimed = dispatcher.dispatch();
+        } while (claimed >= properties.getBatchSize());
+    }
+}
@@ -0,0 +1,339 @@
+package heavenboards.user.service.project.outbox;
+
+import feign.FeignException;
+import heavenboards.user.service.project.client.ServiceCredentialInterceptor;
+import heavenboards.user.service.project.domain.ProjectMembershipOutboxEntity;
+import heavenboards.user.service.project.domain.ProjectMembershipOutboxRepository;
+import heavenboards.user.service.user.domain.UserRepository;
+import heavenboards.user.service.user.mapping.UserMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import transfer.contract.api.ProjectApi;
+import transfer.contract.domain.project.ProjectTo;
+import transfer.contract.domain.user.UserTo;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Диспетчер outbox добавления пользователей в проекты.
+ * Забирает пачку записей в короткой транзакции, объединяет записи одного проекта
+ * в одно обновление и обращается к сервису проектов вне транзакции.
+ * Доставленные записи удаляются, для недоставленных попытка откладывается
+ * с экспоненциальной задержкой. Подтверждение приглашения не проверяет проект,
+ * поэтому записи проекта, на который сервис проектов отвечает 404, сразу
+ * помечаются недоставляемыми: повторные попытки их не доставят.
+ */
+@Slf4j
+@Component
+public class ProjectMembershipDispatcher {
+    /**
+     * Максимальная длина сохраняемого текста ошибки.
+     */
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    /**
+     * Репозиторий для outbox.
+     */
+    private final ProjectMembershipOutboxRepository outboxRepository;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Маппер для пользователей.
+     */
+    private final UserMapper userMapper;
+
+    /**
+     * Api-клиент для сервиса проектов.
+     */
+    private final ProjectApi projectApi;
+
+    /**
+     * Авторизация вызовов сервиса проектов от имени сервиса: у потока планировщика
+     * нет запроса пользователя, токен которого можно было бы передать.
+     */
+    private final ServiceCredentialInterceptor serviceCredentialInterceptor;
+
+    /**
+     * Шаблон для коротких транзакций вокруг работы с базой.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Настройки доставки.
+     */
+    private final ProjectMembershipOutboxProperties properties;
+
+    /**
+     * Количество доставленных записей.
+     */
+    private final Counter dispatchedCounter;
+
+    /**
+     * Количество обновлений проектов.
+     */
+    private final Counter projectUpdatesCounter;
+
+    /**
+     * Количество неудачных попыток доставки записей.
+     */
+    private final Counter failedCounter;
+
+    /**
+     * Длительность одного прохода диспетчера.
+     */
+    private final Timer dispatchTimer;
+
+    /**
+     * Количество записей, ожидающих доставки, на момент последнего прохода.
+     */
+    private final AtomicLong pending = new AtomicLong();
+
+    /**
+     * Количество записей с исчерпанными попытками на момент последнего прохода.
+     */
+    private final AtomicLong dead = new AtomicLong();
+
+    /**
+     * Время создания самой старой ожидающей записи на момент последнего прохода.
+     */
+    private final AtomicReference<ZonedDateTime> oldestPending = new AtomicReference<>();
+
+    /**
+     * Конструктор.
+     *
+     * @param outboxRepository    - репозиторий для outbox
+     * @param userRepository      - репозиторий для пользователей
+     * @param userMapper          - маппер для пользователей
+     * @param projectApi          - api-клиент для сервиса проектов
+     * @param serviceCredential   - авторизация вызовов от имени сервиса
+     * @param transactionTemplate - шаблон для коротких транзакций
+     * @param properties          - настройки доставки
+     * @param meterRegistry       - реестр метрик
+     */
+    public ProjectMembershipDispatcher(final ProjectMembershipOutboxRepository outboxRepository,
+                                       final UserRepository userRepository,
+                                       final UserMapper userMapper,
+                                       final ProjectApi projectApi,
+                                       final ServiceCredentialInterceptor serviceCredential,
+                                       final TransactionTemplate transactionTemplate,
+                                       final ProjectMembershipOutboxProperties properties,
+                                       final MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.projectApi = projectApi;
+        this.serviceCredentialInterceptor = serviceCredential;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+
+        this.dispatchedCounter = Counter.builder("project.membership.outbox.dispatched")
+            .description("Доставленные в сервис проектов записи outbox")
+            .register(meterRegistry);
+        this.projectUpdatesCounter = Counter.builder("project.membership.outbox.project.updates")
+            .description("Обновления проектов, выполненные диспетчером outbox")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("project.membership.outbox.failed")
+            .description("Неудачные попытки доставки записей outbox")
+            .register(meterRegistry);
+        this.dispatchTimer = Timer.builder("project.membership.outbox.dispatch")
+            .description("Длительность прохода диспетчера outbox")
+            .register(meterRegistry);
+        Gauge.builder("project.membership.outbox.pending", pending, AtomicLong::get)
+            .description("Записи outbox, ожидающие доставки")
+            .register(meterRegistry);
+        Gauge.builder("project.membership.outbox.dead", dead, AtomicLong::get)
+            .description("Записи outbox с исчерпанными попытками доставки")
+            .register(meterRegistry);
+        Gauge.builder("project.membership.outbox.lag", oldestPending, this::lagSeconds)
+            .description("Возраст самой старой записи outbox, ожидающей доставки")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Один проход диспетчера: доставить пачку готовых записей.
+     *
+     * @return количество взятых в работу записей
+     */
+    public int dispatch() {
+        return dispatchTimer.record(() -> {
+            List<ProjectMembershipOutboxEntity> claimed = transactionTemplate.execute(status ->
+                outboxRepository.claimBatch(properties.getBatchSize(),
+                    ZonedDateTime.now().plus(properties.getLease())));
+            if (claimed != null && !claimed.isEmpty()) {
+                deliver(claimed);
+            }
+
+            refreshBacklog();
+            return claimed == null ? 0 : claimed.size();
+        });
+    }
+
+    /**
+     * Доставить взятые записи: по одному обновлению на каждый проект.
+     *
+     * @param claimed - взятые в работу записи
+     */
+    private void deliver(final List<ProjectMembershipOutboxEntity> claimed) {
+        Map<UUID, List<ProjectMembershipOutboxEntity>> entriesByProject = claimed.stream()
+            .collect(Collectors.groupingBy(ProjectMembershipOutboxEntity::getProjectId,
+                LinkedHashMap::new, Collectors.toList()));
+        Map<UUID, UserTo> users = userRepository.findProjectionsByIdIn(claimed.stream()
+                .map(ProjectMembershipOutboxEntity::getUserId)
+                .collect(Collectors.toSet()))
+            .stream()
+            .map(userMapper::mapFromProjection)
+            .collect(Collectors.toMap(UserTo::getId, Function.identity()));
+
+        List<UUID> deliveredIds = new ArrayList<>();
+        for (Map.Entry<UUID, List<ProjectMembershipOutboxEntity>> entry
+            : entriesByProject.entrySet()) {
+            List<ProjectMembershipOutboxEntity> entries = entry.getValue();
+            try {
+                serviceCredentialInterceptor.runAsService(() ->
+                    updateProject(entry.getKey(), entries, users));
+                entries.forEach(outboxEntry -> deliveredIds.add(outboxEntry.getId()));
+            } catch (FeignException.NotFound exception) {
+                log.warn("Проект {} не найден, добавление пользователей не будет доставлено",
+                    entry.getKey());
+                markFailed(entries, exception, 0);
+            } catch (RuntimeException exception) {
+                log.warn("Не удалось добавить пользователей в проект {}", entry.getKey(),
+                    exception);
+                markFailed(entries, exception, properties.getMaxAttempts());
+            }
+        }
+
+        if (!deliveredIds.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.deleteAllByIdInBatch(deliveredIds));
+            dispatchedCounter.increment(deliveredIds.size());
+        }
+    }
+
+    /**
+     * Добавить пользователей всех записей в проект одним обновлением.
+     * Пользователи, уже состоящие в проекте, пропускаются, и если добавлять некого,
+     * проект не обновляется.
+     *
+     * @param projectId - идентификатор проекта
+     * @param entries   - записи этого проекта
+     * @param users     - пользователи по идентификатору
+     */
+    private void updateProject(final UUID projectId,
+                               final List<ProjectMembershipOutboxEntity> entries,
+                               final Map<UUID, UserTo> users) {
+        ProjectTo project = projectApi.findProjectById(projectId);
+        if (project == null || !Objects.equals(project.getId(), projectId)) {
+            throw new IllegalStateException(
+                String.format("Проект с идентификатором %s не найден", projectId));
+        }
+
+        // Доставка не менее одного раза: после сбоя удаления записей
+        // пользователи уже могут быть в проекте
+        Set<UUID> memberIds = project.getUsers().stream()
+            .map(UserTo::getId)
+            .collect(Collectors.toCollection(HashSet::new));
+        boolean changed = false;
+        for (ProjectMembershipOutboxEntity entry : entries) {
+            UserTo user = users.get(entry.getUserId());
+            if (user == null) {
+                throw new IllegalStateException(String.format(
+                    "Пользователь с идентификатором %s не найден", entry.getUserId()));
+            }
+            if (memberIds.add(user.getId())) {
+                project.getUsers().add(user);
+                changed = true;
+            }
+        }
+
+        if (!changed) {
+            return;
+        }
+
+        projectApi.updateProject(project);
+        projectUpdatesCounter.increment();
+    }
+
+    /**
+     * Отметить неудачную попытку доставки записей и отложить следующую.
+     *
+     * @param entries     - недоставленные записи одного проекта
+     * @param exception   - ошибка доставки
+     * @param maxAttempts - количество попыток, после которого запись больше не доставляется
+     */
+    private void markFailed(final List<ProjectMembershipOutboxEntity> entries,
+                            final RuntimeException exception,
+                            final int maxAttempts) {
+        int attempts = entries.stream()
+            .mapToInt(ProjectMembershipOutboxEntity::getAttempts)
+            .max()
+            .orElse(0);
+        String error = String.valueOf(exception.getMessage());
+        List<UUID> ids = entries.stream().map(ProjectMembershipOutboxEntity::getId).toList();
+
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.markAttemptFailed(
+            ids,
+            ZonedDateTime.now().plus(backoff(attempts)),
+            error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH)),
+            maxAttempts));
+        failedCounter.increment(entries.size());
+    }
+
+    /**
+     * Задержка перед следующей попыткой: удваивается с каждой попыткой до максимальной.
+     *
+     * @param attempts - количество уже выполненных неудачных попыток
+     * @return задержка
+     */
+    private Duration backoff(final int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    /**
+     * Обновить значения метрик очереди.
+     */
+    private void refreshBacklog() {
+        pending.set(outboxRepository.countByFailedFalse());
+        dead.set(outboxRepository.countByFailedTrue());
+        oldestPending.set(outboxRepository.findOldestPendingCreatedAt().orElse(null));
+    }
+
+    /**
+     * Возраст самой старой ожидающей записи в секундах.
+     *
+     * @param oldest - время создания самой старой ожидающей записи
+     * @return возраст в секундах или 0, если очередь пуста
+     */
+    private double lagSeconds(final AtomicReference<ZonedDateTime> oldest) {
+        ZonedDateTime createdAt = oldest.get();
+        if (createdAt == null) {
+            return 0;
+        }
+
+        return Duration.between(createdAt, ZonedDateTime.now()).toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,41 @@
+package heavenboards.user.service.project.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки доставки outbox добавления пользователей в проекты.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "project.membership-outbox")
+public class ProjectMembershipOutboxProperties {
+    /**
+     * Максимальное количество записей, забираемых за один проход.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Время аренды взятых записей. Если экземпляр не успел доставить записи
+     * за это время, их заберет следующий проход.
+     */
+    private Duration lease = Duration.ofMinutes(1);
+
+    /**
+     * Количество попыток доставки, после которого запись больше не доставляется.
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * Задержка перед первой повторной попыткой.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    /**
+     * Максимальная задержка между попытками.
+     */
+    private Duration maxBackoff = Duration.ofMinutes(5);
+}
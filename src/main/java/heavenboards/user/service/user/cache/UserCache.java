@@ -0,0 +1,122 @@
+package heavenboards.user.service.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import transfer.contract.domain.user.UserTo;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Кэш профилей пользователей по идентификатору и по username.
+ * Записи вытесняются по размеру и времени жизни, статистика попаданий,
+ * промахов и вытеснений публикуется в метриках cache.* с тегами user.by-id и user.by-username.
+ */
+@Component
+public class UserCache {
+    /**
+     * Включен ли кэш. Выключенный кэш ничего не хранит.
+     */
+    private final boolean enabled;
+
+    /**
+     * Пользователи по идентификатору.
+     */
+    private final Cache<UUID, UserTo> usersById;
+
+    /**
+     * Пользователи по username.
+     */
+    private final Cache<String, UserTo> usersByUsername;
+
+    /**
+     * Конструктор.
+     *
+     * @param properties    - настройки кэша
+     * @param meterRegistry - реестр метрик
+     */
+    public UserCache(final UserCacheProperties properties, final MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.usersById = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+        this.usersByUsername = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "user.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByUsername, "user.by-username");
+    }
+
+    /**
+     * Найти пользователя в кэше по username.
+     *
+     * @param username - username
+     * @return закэшированный пользователь или пустота
+     */
+    public Optional<UserTo> findByUsername(final String username) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(usersByUsername.getIfPresent(username));
+    }
+
+    /**
+     * Найти пользователей в кэше по идентификаторам.
+     *
+     * @param ids - идентификаторы пользователей
+     * @return найденные в кэше пользователи по идентификатору
+     */
+    public Map<UUID, UserTo> findAllByIds(final Collection<UUID> ids) {
+        if (!enabled) {
+            return Map.of();
+        }
+
+        return usersById.getAllPresent(ids);
+    }
+
+    /**
+     * Положить пользователя в кэш сразу по обоим ключам.
+     *
+     * @param user - пользователь
+     */
+    public void put(final UserTo user) {
+        if (!enabled) {
+            return;
+        }
+
+        usersById.put(user.getId(), user);
+        usersByUsername.put(user.getUsername(), user);
+    }
+
+    /**
+     * Удалить пользователя из кэша по обоим ключам.
+     *
+     * @param event - событие изменения пользователя
+     */
+    @EventListener
+    public void evict(final UserInvalidatedEvent event) {
+        if (event.id() != null) {
+            UserTo cached = usersById.asMap().get(event.id());
+            if (cached != null) {
+                usersByUsername.invalidate(cached.getUsername());
+            }
+            usersById.invalidate(event.id());
+        }
+
+        if (event.username() != null) {
+            usersByUsername.invalidate(event.username());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package heavenboards.user.service.user.cache;
+
+/**
+ * Публикация событий инвалидации кэша пользователей другим экземплярам сервиса.
+ * Реализация, получив событие на другом экземпляре, должна передать его в
+ * {@link UserCacheInvalidator#evictLocally(UserInvalidatedEvent)}.
+ * Если бинов этого типа нет, инвалидация выполняется только локально.
+ */
+public interface UserCacheInvalidationPublisher {
+    /**
+     * Опубликовать событие инвалидации.
+     *
+     * @param event - событие изменения пользователя
+     */
+    void publish(UserInvalidatedEvent event);
+}
@@ -0,0 +1,71 @@
+package heavenboards.user.service.user.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Инвалидация закэшированных данных пользователя на этом и на других экземплярах сервиса.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidator {
+    /**
+     * Публикация событий внутри приложения.
+     */
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Публикация событий на другие экземпляры сервиса.
+     */
+    private final ObjectProvider<UserCacheInvalidationPublisher> invalidationPublishers;
+
+    /**
+     * Инвалидировать пользователя. Внутри транзакции инвалидация выполняется
+     * после коммита, чтобы параллельное чтение не вернуло в кэш старые данные.
+     *
+     * @param id       - идентификатор пользователя
+     * @param username - username пользователя
+     */
+    public void invalidate(final UUID id, final String username) {
+        UserInvalidatedEvent event = new UserInvalidatedEvent(id, username);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictEverywhere(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictEverywhere(event);
+            }
+        });
+    }
+
+    /**
+     * Удалить пользователя из кэшей этого экземпляра без повторной публикации.
+     * Вызывается при получении события от другого экземпляра сервиса.
+     *
+     * @param event - событие изменения пользователя
+     */
+    public void evictLocally(final UserInvalidatedEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    /**
+     * Удалить пользователя из кэшей этого экземпляра и опубликовать событие
+     * для остальных экземпляров.
+     *
+     * @param event - событие изменения пользователя
+     */
+    private void evictEverywhere(final UserInvalidatedEvent event) {
+        evictLocally(event);
+        invalidationPublishers.orderedStream()
+            .forEach(publisher -> publisher.publish(event));
+    }
+}
@@ -0,0 +1,30 @@
+package heavenboards.user.service.user.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки кэша пользователей.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "user.cache")
+public class UserCacheProperties {
+    /**
+     * Включен ли кэш.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Максимальное количество пользователей в каждом из индексов кэша.
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * Время жизни записи после добавления.
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,13 @@
+package heavenboards.user.service.user.cache;
+
+import java.util.UUID;
+
+/**
+ * Событие изменения пользователя, после которого закэшированные данные
+ * пользователя должны быть удалены.
+ *
+ * @param id       - идентификатор пользователя
+ * @param username - username пользователя
+ */
+public record UserInvalidatedEvent(UUID id, String username) {
+}
@@ -1,17 +1,33 @@
 package heavenboards.user.service.user.controller;
 
+import heavenboards.user.service.user.importing.InvalidUserImportHeaderException;
+import heavenboards.user.service.user.importing.UserImportFormat;
+import heavenboards.user.service.user.importing.UserImportReader;
+import heavenboards.user.service.user.importing.UserImportProperties;
 import heavenboards.user.service.user.service.UserFindUseCase;
+import heavenboards.user.service.user.service.UserImportUseCase;
+import heavenboards.user.service.user.service.UserStreamUseCase;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import transfer.contract.domain.user.UserTo;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -29,6 +45,37 @@ public class UserController {
      */
     private final UserFindUseCase userFindUseCase;
 
+    /**
+     * Use case пакетного импорта пользователей.
+     */
+    private final UserImportUseCase userImportUseCase;
+
+    /**
+     * Use case потоковой выдачи пользователей.
+     */
+    private final UserStreamUseCase userStreamUseCase;
+
+    /**
+     * Настройки импорта пользователей.
+     */
+    private final UserImportProperties userImportProperties;
+
+    /**
+     * Поиск пользователей по части username, имени или фамилии.
+     * Поиск доступен по корневому пути с параметром q, чтобы не перекрывать
+     * получение пользователя по username.
+     *
+     * @param query - строка поиска
+     * @param limit - максимальное количество пользователей
+     * @return найденные пользователи, от наиболее похожих к наименее похожим
+     */
+    @GetMapping(params = "q")
+    @Operation(summary = "Поиск пользователей по части username, имени или фамилии")
+    public List<UserTo> searchUsers(final @RequestParam("q") String query,
+                                    final @RequestParam(defaultValue = "20") int limit) {
+        return userFindUseCase.searchUsers(query, limit);
+    }
+
     /**
      * Получение пользователя по username.
      *
@@ -52,4 +99,70 @@ public class UserController {
     public List<UserTo> findUsersByIds(final @RequestBody Set<UUID> ids) {
         return userFindUseCase.findUsersByIds(ids);
     }
+
+    /**
+     * Потоковое получение пользователей по идентификаторам. Ответ - такой же JSON-массив,
+     * как у {@link #findUsersByIds(Set)}, но пользователи пишутся частями по мере чтения из базы
+     * в порядке идентификатора, поэтому подходит для тысяч пользователей.
+     *
+     * @param ids - идентификаторы пользователей, которых мы ищем
+     * @return тело ответа, которое пишет найденных пользователей
+     */
+    @PostMapping("/stream")
+    @Operation(summary = "Потоковое получение пользователей по идентификаторам")
+    public ResponseEntity<StreamingResponseBody> streamUsersByIds(
+        final @RequestBody Set<UUID> ids) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(output -> userStreamUseCase.streamUsersByIds(ids, output));
+    }
+
+    /**
+     * Пакетный импорт пользователей из NDJSON или CSV, доступен только администраторам.
+     * Файл читается и обрабатывается пачками, результат каждой строки возвращается в NDJSON
+     * по мере обработки, последняя строка ответа - итог импорта. Заголовок CSV проверяется
+     * до начала ответа: при отсутствии нужных колонок возвращается 400.
+     *
+     * @param request  - запрос с файлом импорта в теле
+     * @param response - ответ, в который пишутся результаты
+     * @throws IOException - ошибка чтения файла или записи ответа
+     */
+    @PostMapping(
+        value = "/import",
+        consumes = {UserImportFormat.NDJSON_VALUE, UserImportFormat.CSV_VALUE}
+    )
+    @Operation(summary = "Пакетный импорт пользователей")
+    public void importUsers(final HttpServletRequest request,
+                            final HttpServletResponse response) throws IOException {
+        if (!isImportAllowed()) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        UserImportReader reader;
+        try {
+            reader = userImportUseCase.open(request.getInputStream(),
+                UserImportFormat.fromContentType(request.getContentType()));
+        } catch (InvalidUserImportHeaderException exception) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, exception.getMessage());
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader(HttpHeaders.CONTENT_TYPE, UserImportFormat.NDJSON_VALUE);
+        userImportUseCase.importUsers(reader, response.getOutputStream());
+    }
+
+    /**
+     * Разрешен ли импорт текущему пользователю.
+     *
+     * @return true, если роль пользователя входит в user.import.allowed-roles
+     */
+    private boolean isImportAllowed() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+            && authentication.getPrincipal() instanceof UserTo user
+            && user.getRole() != null
+            && userImportProperties.getAllowedRoles().contains(user.getRole().name());
+    }
 }
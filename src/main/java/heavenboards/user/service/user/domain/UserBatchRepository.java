@@ -0,0 +1,161 @@
+package heavenboards.user.service.user.domain;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import transfer.contract.domain.user.UserRole;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Репозиторий для пакетной записи и чтения пользователей через JDBC.
+ * Наборы значений передаются одним параметром-массивом, поэтому текст запроса
+ * не зависит от их размера.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+    /**
+     * Размер одного JDBC batch.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Поиск занятых username одним запросом по уникальному индексу.
+     */
+    private static final String FIND_EXISTING_USERNAMES =
+        "SELECT username FROM user_entity WHERE username = ANY (?)";
+
+    /**
+     * Поиск профилей пользователей по массиву идентификаторов.
+     */
+    private static final String FIND_PROJECTIONS_BY_IDS = "SELECT id, username, role, "
+        + "first_name, last_name FROM user_entity WHERE id = ANY (?)";
+
+    /**
+     * Вставка пользователя, пропускающая занятые username.
+     */
+    private static final String INSERT_IF_ABSENT = "INSERT INTO user_entity "
+        + "(id, username, password, role, first_name, last_name, account_non_expired, "
+        + "account_non_locked, credentials_non_expired, enabled, created_at, updated_at) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+        + "ON CONFLICT (username) DO NOTHING";
+
+    /**
+     * JdbcTemplate, работающий в текущей транзакции.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Найти занятые username.
+     *
+     * @param usernames - проверяемые username
+     * @return занятые username
+     */
+    public Set<String> findExistingUsernames(final Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(FIND_EXISTING_USERNAMES);
+            Array array = connection.createArrayOf("varchar", usernames.toArray());
+            statement.setArray(1, array);
+            return statement;
+        }, (resultSet, rowNumber) -> resultSet.getString(1)));
+    }
+
+    /**
+     * Найти профили пользователей по идентификаторам одним запросом.
+     *
+     * @param ids - идентификаторы пользователей
+     * @return найденные проекции пользователей в порядке базы
+     */
+    public List<UserProjection> findProjectionsByIds(final Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(FIND_PROJECTIONS_BY_IDS);
+            Array array = connection.createArrayOf("uuid", ids.toArray());
+            statement.setArray(1, array);
+            return statement;
+        }, (resultSet, rowNumber) -> new UserProjectionRow(
+            resultSet.getObject("id", UUID.class),
+            resultSet.getString("username"),
+            UserRole.valueOf(resultSet.getString("role")),
+            resultSet.getString("first_name"),
+            resultSet.getString("last_name")));
+    }
+
+    /**
+     * Вставить пользователей пачками, пропуская занятые username.
+     *
+     * @param users - пользователи с проставленными идентификаторами и хэшами паролей
+     * @return для каждого пользователя по порядку: true, если строка вставлена
+     */
+    public boolean[] insertAllIfAbsent(final List<UserEntity> users) {
+        int[][] updateCounts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, users, BATCH_SIZE,
+            (statement, user) -> {
+                statement.setObject(1, user.getId());
+                statement.setString(2, user.getUsername());
+                statement.setString(3, user.getPassword());
+                statement.setString(4, user.getRole().name());
+                statement.setString(5, user.getFirstName());
+                statement.setString(6, user.getLastName());
+                statement.setBoolean(7, user.isAccountNonExpired());
+                statement.setBoolean(8, user.isAccountNonLocked());
+                statement.setBoolean(9, user.isCredentialsNonExpired());
+                statement.setBoolean(10, user.isEnabled());
+                statement.setTimestamp(11, Timestamp.from(user.getCreatedAt().toInstant()));
+                statement.setTimestamp(12, Timestamp.from(user.getUpdatedAt().toInstant()));
+            });
+
+        int[] flatCounts = Arrays.stream(updateCounts).flatMapToInt(Arrays::stream).toArray();
+        boolean[] inserted = new boolean[flatCounts.length];
+        for (int i = 0; i < flatCounts.length; i++) {
+            inserted[i] = flatCounts[i] != 0;
+        }
+        return inserted;
+    }
+
+    /**
+     * Проекция пользователя, прочитанная через JDBC.
+     */
+    @Value
+    private static class UserProjectionRow implements UserProjection {
+        /**
+         * Идентификатор.
+         */
+        UUID id;
+
+        /**
+         * Уникальное имя пользователя.
+         */
+        String username;
+
+        /**
+         * Роль.
+         */
+        UserRole role;
+
+        /**
+         * Имя.
+         */
+        String firstName;
+
+        /**
+         * Фамилия.
+         */
+        String lastName;
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import heavenboards.user.service.invitation.domain.InvitationEntity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -13,7 +14,9 @@ import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import lombok.experimental.Accessors;
 import org.hibernate.annotations.UuidGenerator;
 import org.springframework.security.core.GrantedAuthority;
@@ -36,6 +39,7 @@ import java.util.UUID;
 @Builder(toBuilder = true)
 @Accessors(chain = true)
 @Entity
+@EntityListeners(UserEntityListener.class)
 @Table(name = "user_entity")
 public final class UserEntity implements UserDetails {
     /**
@@ -64,16 +68,26 @@ public final class UserEntity implements UserDetails {
 
     /**
      * Приглашения, которые пришли этому пользователю.
+     * Загружаются лениво, для явной загрузки есть
+     * {@link UserRepository#findWithInvitationsByUsername(String)}.
      */
-    @OneToMany(mappedBy = "invitedUser", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "invitedUser", fetch = FetchType.LAZY)
     @Builder.Default
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<InvitationEntity> invitations = new ArrayList<>();
 
     /**
      * Приглашения, которые отправил этот пользователь.
+     * Загружаются лениво, для явной загрузки есть
+     * {@link UserRepository#findWithSentInvitationsByUsername(String)}.
      */
-    @OneToMany(mappedBy = "invitationSender", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "invitationSender", fetch = FetchType.LAZY)
     @Builder.Default
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<InvitationEntity> sentInvitations = new ArrayList<>();
 
     /**
@@ -0,0 +1,33 @@
+package heavenboards.user.service.user.domain;
+
+import heavenboards.user.service.user.cache.UserCacheInvalidator;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Слушатель изменений сущности пользователя, инвалидирующий кэш пользователей.
+ * Экземпляр создается через SpringBeanContainer hibernate, поэтому зависимости внедряются.
+ */
+@RequiredArgsConstructor
+public class UserEntityListener {
+    /**
+     * Инвалидация кэша пользователей.
+     */
+    private final ObjectProvider<UserCacheInvalidator> userCacheInvalidator;
+
+    /**
+     * Инвалидировать пользователя после создания, изменения или удаления.
+     *
+     * @param entity - сущность пользователя
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void invalidate(final UserEntity entity) {
+        userCacheInvalidator.ifAvailable(invalidator ->
+            invalidator.invalidate(entity.getId(), entity.getUsername()));
+    }
+}
@@ -0,0 +1,47 @@
+package heavenboards.user.service.user.domain;
+
+import transfer.contract.domain.user.UserRole;
+
+import java.util.UUID;
+
+/**
+ * Проекция пользователя только с публичными полями профиля.
+ * Загружается без пароля, флагов безопасности и приглашений
+ * и не отслеживается persistence context.
+ */
+public interface UserProjection {
+    /**
+     * Идентификатор.
+     *
+     * @return идентификатор
+     */
+    UUID getId();
+
+    /**
+     * Уникальное имя пользователя.
+     *
+     * @return username
+     */
+    String getUsername();
+
+    /**
+     * Роль.
+     *
+     * @return роль
+     */
+    UserRole getRole();
+
+    /**
+     * Имя.
+     *
+     * @return имя
+     */
+    String getFirstName();
+
+    /**
+     * Фамилия.
+     *
+     * @return фамилия
+     */
+    String getLastName();
+}
@@ -1,7 +1,12 @@
 package heavenboards.user.service.user.domain;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -11,6 +16,20 @@ import java.util.UUID;
  * Репозиторий для пользователей.
  */
 public interface UserRepository extends JpaRepository<UserEntity, UUID> {
+    /**
+     * Поиск пользователей по части username, имени или фамилии. Условие LIKE и сортировка
+     * по расстоянию word similarity до запроса обслуживаются одним GiST-индексом pg_trgm
+     * по выражению, поэтому из индекса читаются только первые limit строк в порядке
+     * релевантности. Выражение должно совпадать с выражением индекса из миграции v7.
+     */
+    String SEARCH_QUERY = "SELECT id, username, role, "
+        + "first_name AS \"firstName\", last_name AS \"lastName\" "
+        + "FROM user_entity "
+        + "WHERE lower(username || ' ' || first_name || ' ' || last_name) "
+        + "LIKE :pattern ESCAPE '\\' "
+        + "ORDER BY :query <<-> lower(username || ' ' || first_name || ' ' || last_name) "
+        + "LIMIT :limit";
+
     /**
      * Поиск пользователя по username.
      *
@@ -19,6 +38,54 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
      */
     Optional<UserEntity> findByUsername(String username);
 
+    /**
+     * Поиск проекции пользователя по username. Выбираются только колонки профиля.
+     *
+     * @param username - username
+     * @return найденная проекция пользователя
+     */
+    Optional<UserProjection> findProjectionByUsername(String username);
+
+    /**
+     * Поиск проекций пользователей по идентификаторам.
+     *
+     * @param ids - идентификаторы
+     * @return найденные проекции пользователей
+     */
+    List<UserProjection> findProjectionsByIdIn(Collection<UUID> ids);
+
+    /**
+     * Поиск проекций пользователей по части username, имени или фамилии,
+     * от наиболее похожих к наименее похожим.
+     *
+     * @param query   - строка поиска в нижнем регистре
+     * @param pattern - шаблон LIKE вида %строка% с экранированными спецсимволами
+     * @param limit   - максимальное количество пользователей
+     * @return найденные проекции пользователей
+     */
+    @Query(value = SEARCH_QUERY, nativeQuery = true)
+    List<UserProjection> searchProjections(@Param("query") String query,
+                                           @Param("pattern") String pattern,
+                                           @Param("limit") int limit);
+
+    /**
+     * Поиск пользователя по username вместе с входящими приглашениями одним запросом.
+     *
+     * @param username - username
+     * @return найденный пользователь с загруженными входящими приглашениями
+     */
+    @EntityGraph(attributePaths = "invitations")
+    Optional<UserEntity> findWithInvitationsByUsername(String username);
+
+    /**
+     * Поиск пользователя по username вместе с исходящими приглашениями одним запросом.
+     *
+     * @param username - username
+     * @return найденный пользователь с загруженными исходящими приглашениями
+     */
+    @EntityGraph(attributePaths = "sentInvitations")
+    Optional<UserEntity> findWithSentInvitationsByUsername(String username);
+
     /**
      * Существует ли пользователь по username.
      *
@@ -34,4 +101,50 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
      * @return пользователи
      */
     List<UserEntity> findAllByIdIn(Set<UUID> ids);
+
+    /**
+     * Заменить хэш пароля, только если он не изменился с момента чтения.
+     * Массовое обновление не вызывает {@link UserEntityListener}, после успешного
+     * обновления вызывающий код должен инвалидировать пользователя.
+     *
+     * @param id          - идентификатор пользователя
+     * @param oldPassword - прочитанный хэш пароля
+     * @param newPassword - новый хэш пароля
+     * @return количество обновленных пользователей
+     */
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.password = :newPassword "
+        + "WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") UUID id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    /**
+     * Количество пользователей, хэш пароля которых не соответствует шаблону.
+     *
+     * @param pattern - шаблон LIKE для хэша с текущими параметрами
+     * @return количество пользователей
+     */
+    long countByPasswordNotLike(String pattern);
+
+    /**
+     * Вставить пользователя, если username еще не занят. Проверка и вставка выполняются
+     * одним запросом по уникальному индексу username, поэтому при параллельной регистрации
+     * одного username вставку выполнит ровно один запрос. Вставка не вызывает
+     * {@link UserEntityListener}, вызывающий код должен инвалидировать пользователя.
+     *
+     * @param user - новый пользователь с идентификатором и хэшированным паролем
+     * @return идентификатор вставленного пользователя или пустота, если username занят
+     */
+    @Query(value = "INSERT INTO user_entity (id, username, password, role, first_name, last_name, "
+        + "account_non_expired, account_non_locked, credentials_non_expired, enabled, "
+        + "created_at, updated_at) "
+        + "VALUES (:#{#user.id}, :#{#user.username}, :#{#user.password}, "
+        + ":#{#user.role.name()}, :#{#user.firstName}, :#{#user.lastName}, "
+        + ":#{#user.accountNonExpired}, :#{#user.accountNonLocked}, "
+        + ":#{#user.credentialsNonExpired}, :#{#user.enabled}, "
+        + ":#{#user.createdAt}, :#{#user.updatedAt}) "
+        + "ON CONFLICT (username) DO NOTHING RETURNING id",
+        nativeQuery = true)
+    Optional<UUID> insertIfUsernameAbsent(@Param("user") UserEntity user);
 }
@@ -0,0 +1,15 @@
+package heavenboards.user.service.user.importing;
+
+/**
+ * Исключение при заголовке CSV без обязательных колонок.
+ */
+public class InvalidUserImportHeaderException extends RuntimeException {
+    /**
+     * Конструктор.
+     *
+     * @param message - сообщение
+     */
+    public InvalidUserImportHeaderException(final String message) {
+        super(message);
+    }
+}
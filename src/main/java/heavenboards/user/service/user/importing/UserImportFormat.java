@@ -0,0 +1,39 @@
+package heavenboards.user.service.user.importing;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Формат файла импорта пользователей.
+ */
+public enum UserImportFormat {
+    /**
+     * Один JSON-объект с полями username, password, firstName, lastName на строку.
+     */
+    NDJSON,
+
+    /**
+     * CSV с заголовком, в котором есть колонки username, password, firstName, lastName.
+     */
+    CSV;
+
+    /**
+     * Тип содержимого NDJSON.
+     */
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Тип содержимого CSV.
+     */
+    public static final String CSV_VALUE = "text/csv";
+
+    /**
+     * Определить формат по типу содержимого запроса.
+     *
+     * @param contentType - тип содержимого
+     * @return формат файла
+     */
+    public static UserImportFormat fromContentType(final String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE)) ? CSV : NDJSON;
+    }
+}
@@ -0,0 +1,25 @@
+package heavenboards.user.service.user.importing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Настройки пакетного импорта пользователей.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "user.import")
+public class UserImportProperties {
+    /**
+     * Количество строк, которые проверяются, хэшируются и вставляются вместе.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Роли, которым разрешен импорт.
+     */
+    private Set<String> allowedRoles = Set.of("ADMIN");
+}
@@ -0,0 +1,205 @@
+package heavenboards.user.service.user.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Построчное чтение файла импорта без загрузки всего файла в память.
+ * Пустые строки пропускаются. Строка, которую не удалось разобрать,
+ * возвращается с ошибкой и не прерывает чтение.
+ */
+public class UserImportReader {
+    /**
+     * Колонки CSV по порядку полей {@link UserImportRow}.
+     */
+    private static final List<String> CSV_COLUMNS =
+        List.of("username", "password", "firstname", "lastname");
+
+    /**
+     * Источник строк.
+     */
+    private final BufferedReader reader;
+
+    /**
+     * Формат файла.
+     */
+    private final UserImportFormat format;
+
+    /**
+     * Маппер для разбора NDJSON.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Позиции колонок CSV в порядке полей {@link UserImportRow}.
+     */
+    private int[] csvPositions;
+
+    /**
+     * Номер последней прочитанной строки с данными.
+     */
+    private long rowNumber;
+
+    /**
+     * Конструктор.
+     *
+     * @param inputStream  - тело запроса
+     * @param format       - формат файла
+     * @param objectMapper - маппер для разбора NDJSON
+     */
+    public UserImportReader(final InputStream inputStream,
+                            final UserImportFormat format,
+                            final ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream,
+            StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Прочитать и проверить заголовок CSV до чтения строк с данными, чтобы ошибку
+     * формата можно было вернуть до начала ответа. Для NDJSON ничего не делает.
+     *
+     * @throws IOException                       - ошибка чтения
+     * @throws InvalidUserImportHeaderException - если в заголовке нет нужной колонки
+     */
+    public void readHeader() throws IOException {
+        if (format != UserImportFormat.CSV || csvPositions != null) {
+            return;
+        }
+
+        String text;
+        while ((text = reader.readLine()) != null) {
+            if (!text.isBlank()) {
+                csvPositions = readCsvHeader(text);
+                return;
+            }
+        }
+        throw new InvalidUserImportHeaderException("Файл CSV не содержит заголовка");
+    }
+
+    /**
+     * Прочитать следующую пачку строк.
+     *
+     * @param size - максимальный размер пачки
+     * @return строки, пустой список в конце файла
+     * @throws IOException - ошибка чтения
+     */
+    public List<Line> nextChunk(final int size) throws IOException {
+        readHeader();
+        List<Line> lines = new ArrayList<>(size);
+        String text;
+        while (lines.size() < size && (text = reader.readLine()) != null) {
+            if (!text.isBlank()) {
+                lines.add(parse(++rowNumber, text));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Разобрать строку с данными.
+     *
+     * @param number - номер строки
+     * @param text   - текст строки
+     * @return разобранная строка или строка с ошибкой
+     */
+    private Line parse(final long number, final String text) {
+        if (format == UserImportFormat.NDJSON) {
+            try {
+                UserImportRow row = objectMapper.readValue(text, UserImportRow.class);
+                return row != null
+                    ? new Line(number, row, null)
+                    : new Line(number, null, "Строка не является JSON-объектом");
+            } catch (JsonProcessingException exception) {
+                return new Line(number, null, "Некорректный JSON");
+            }
+        }
+
+        List<String> values = splitCsv(text);
+        String[] fields = new String[csvPositions.length];
+        for (int i = 0; i < csvPositions.length; i++) {
+            if (csvPositions[i] >= values.size()) {
+                return new Line(number, null, "Недостаточно колонок");
+            }
+            fields[i] = values.get(csvPositions[i]);
+        }
+        return new Line(number, new UserImportRow(fields[0], fields[1], fields[2], fields[3]),
+            null);
+    }
+
+    /**
+     * Найти позиции нужных колонок в заголовке CSV.
+     *
+     * @param header - строка заголовка
+     * @return позиции колонок в порядке полей {@link UserImportRow}
+     * @throws InvalidUserImportHeaderException - если в заголовке нет нужной колонки
+     */
+    private int[] readCsvHeader(final String header) {
+        List<String> names = splitCsv(header).stream()
+            .map(name -> name.trim().toLowerCase(Locale.ROOT))
+            .toList();
+        int[] positions = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            positions[i] = names.indexOf(CSV_COLUMNS.get(i));
+            if (positions[i] < 0) {
+                throw new InvalidUserImportHeaderException(
+                    "В заголовке CSV нет колонки " + CSV_COLUMNS.get(i));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Разбить строку CSV на значения с учетом кавычек.
+     *
+     * @param text - строка CSV
+     * @return значения
+     */
+    private static List<String> splitCsv(final String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char symbol = text.charAt(i);
+            if (quoted) {
+                if (symbol == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (symbol == '"') {
+                    quoted = false;
+                } else {
+                    current.append(symbol);
+                }
+            } else if (symbol == '"') {
+                quoted = true;
+            } else if (symbol == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(symbol);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * Строка файла с данными.
+     *
+     * @param number - номер строки с данными, начиная с 1
+     * @param row    - разобранная строка или null, если разобрать не удалось
+     * @param error  - ошибка разбора
+     */
+    public record Line(long number, UserImportRow row, String error) {
+    }
+}
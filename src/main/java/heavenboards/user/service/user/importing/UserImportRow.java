@@ -0,0 +1,12 @@
+package heavenboards.user.service.user.importing;
+
+/**
+ * Строка файла импорта.
+ *
+ * @param username  - username
+ * @param password  - пароль в открытом виде
+ * @param firstName - имя
+ * @param lastName  - фамилия
+ */
+public record UserImportRow(String username, String password, String firstName, String lastName) {
+}
@@ -0,0 +1,19 @@
+package heavenboards.user.service.user.importing;
+
+import java.util.UUID;
+
+/**
+ * Результат импорта одной строки файла.
+ *
+ * @param row      - номер строки с данными, начиная с 1
+ * @param username - username из строки
+ * @param status   - результат
+ * @param userId   - идентификатор созданного пользователя
+ * @param error    - описание ошибки для INVALID
+ */
+public record UserImportRowResult(long row,
+                                  String username,
+                                  UserImportRowStatus status,
+                                  UUID userId,
+                                  String error) {
+}
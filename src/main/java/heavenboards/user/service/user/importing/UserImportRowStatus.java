@@ -0,0 +1,21 @@
+package heavenboards.user.service.user.importing;
+
+/**
+ * Результат импорта одной строки.
+ */
+public enum UserImportRowStatus {
+    /**
+     * Пользователь создан.
+     */
+    CREATED,
+
+    /**
+     * Username уже занят или повторяется в файле.
+     */
+    DUPLICATE,
+
+    /**
+     * Строку не удалось разобрать или она не прошла проверку.
+     */
+    INVALID
+}
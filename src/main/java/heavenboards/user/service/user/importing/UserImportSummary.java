@@ -0,0 +1,19 @@
+package heavenboards.user.service.user.importing;
+
+/**
+ * Итог импорта, последняя строка ответа.
+ *
+ * @param total         - количество строк с данными
+ * @param created       - количество созданных пользователей
+ * @param duplicates    - количество занятых username
+ * @param invalid       - количество некорректных строк
+ * @param elapsedMillis - время импорта в миллисекундах
+ * @param rowsPerSecond - пропускная способность в строках в секунду
+ */
+public record UserImportSummary(long total,
+                                long created,
+                                long duplicates,
+                                long invalid,
+                                long elapsedMillis,
+                                double rowsPerSecond) {
+}
@@ -0,0 +1,23 @@
+package heavenboards.user.service.user.lookup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Настройки поиска пользователей по набору идентификаторов.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "user.lookup")
+public class UserLookupProperties {
+    /**
+     * Максимальное количество идентификаторов в одном запросе.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Максимальное количество запросов, выполняемых параллельно.
+     */
+    private int parallelism = 4;
+}
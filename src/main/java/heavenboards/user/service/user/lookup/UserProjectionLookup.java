@@ -0,0 +1,152 @@
+package heavenboards.user.service.user.lookup;
+
+import heavenboards.user.service.user.domain.UserBatchRepository;
+import heavenboards.user.service.user.domain.UserProjection;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Поиск профилей пользователей по произвольно большому набору идентификаторов.
+ * Идентификаторы без повторов сортируются и делятся на части не больше chunkSize,
+ * каждая часть читается одним запросом с параметром-массивом. Если частей несколько,
+ * они читаются параллельно, но не более чем в parallelism потоков.
+ * В режиме виртуальных потоков каждая часть читается в своем виртуальном потоке,
+ * а количество одновременных запросов ограничивается тем же parallelism.
+ * Результат всегда отсортирован по идентификатору.
+ */
+@Component
+public class UserProjectionLookup {
+    /**
+     * Порядок результата.
+     */
+    private static final Comparator<UserProjection> BY_ID =
+        Comparator.comparing(UserProjection::getId);
+
+    /**
+     * Репозиторий для пакетного чтения пользователей.
+     */
+    private final UserBatchRepository userBatchRepository;
+
+    /**
+     * Максимальное количество идентификаторов в одном запросе.
+     */
+    private final int chunkSize;
+
+    /**
+     * Исполнитель параллельного чтения частей.
+     */
+    private final AsyncTaskExecutor executor;
+
+    /**
+     * Конструктор.
+     *
+     * @param userBatchRepository - репозиторий для пакетного чтения пользователей
+     * @param properties          - настройки поиска
+     * @param virtualThreads      - включен ли режим виртуальных потоков
+     */
+    public UserProjectionLookup(
+        final UserBatchRepository userBatchRepository,
+        final UserLookupProperties properties,
+        final @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.userBatchRepository = userBatchRepository;
+        this.chunkSize = properties.getChunkSize();
+        this.executor = virtualThreads
+            ? virtualThreadExecutor(properties.getParallelism())
+            : platformThreadExecutor(properties.getParallelism());
+    }
+
+    /**
+     * Исполнитель на виртуальных потоках. При достижении лимита одновременных
+     * запросов вызывающий поток ждет освобождения слота.
+     *
+     * @param parallelism - максимальное количество параллельных запросов
+     * @return исполнитель
+     */
+    private static AsyncTaskExecutor virtualThreadExecutor(final int parallelism) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("user-lookup-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(parallelism);
+        return executor;
+    }
+
+    /**
+     * Пул платформенных потоков.
+     *
+     * @param parallelism - максимальное количество параллельных запросов
+     * @return исполнитель
+     */
+    private static AsyncTaskExecutor platformThreadExecutor(final int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 32);
+        executor.setThreadNamePrefix("user-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Найти профили пользователей по идентификаторам.
+     *
+     * @param ids - идентификаторы пользователей
+     * @return найденные проекции пользователей без повторов, по возрастанию идентификатора
+     */
+    public List<UserProjection> findProjectionsByIds(final Collection<UUID> ids) {
+        List<UUID> sortedIds = ids.stream().distinct().sorted().toList();
+        if (sortedIds.size() <= chunkSize) {
+            List<UserProjection> users =
+                new ArrayList<>(userBatchRepository.findProjectionsByIds(sortedIds));
+            users.sort(BY_ID);
+            return users;
+        }
+
+        List<CompletableFuture<List<UserProjection>>> futures = new ArrayList<>();
+        for (int from = 0; from < sortedIds.size(); from += chunkSize) {
+            List<UUID> chunk = sortedIds.subList(from, Math.min(from + chunkSize,
+                sortedIds.size()));
+            futures.add(CompletableFuture.supplyAsync(() ->
+                userBatchRepository.findProjectionsByIds(chunk), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+
+        List<UserProjection> users = new ArrayList<>(sortedIds.size());
+        futures.forEach(future -> users.addAll(future.join()));
+        users.sort(BY_ID);
+        return users;
+    }
+
+    /**
+     * Остановка исполнителя при остановке приложения.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+}
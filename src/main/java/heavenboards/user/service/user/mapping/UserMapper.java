@@ -1,12 +1,13 @@
 package heavenboards.user.service.user.mapping;
 
+import heavenboards.user.service.authentication.hashing.PasswordHashingService;
 import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserProjection;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import transfer.contract.domain.user.UserTo;
 
 /**
@@ -17,9 +18,9 @@ import transfer.contract.domain.user.UserTo;
 @RequiredArgsConstructor
 public abstract class UserMapper {
     /**
-     * Бин для кодирования пароля.
+     * Сервис хэширования паролей в отдельном пуле потоков.
      */
-    private PasswordEncoder encoder;
+    private PasswordHashingService passwordHashingService;
 
     /**
      * Маппинг из entity в to.
@@ -30,6 +31,16 @@ public abstract class UserMapper {
     @Mapping(target = "projects", ignore = true)
     public abstract UserTo mapFromEntity(UserEntity entity);
 
+    /**
+     * Маппинг из проекции профиля в to.
+     *
+     * @param projection - проекция пользователя
+     * @return to с проставленными полями
+     */
+    @Mapping(target = "password", ignore = true)
+    @Mapping(target = "projects", ignore = true)
+    public abstract UserTo mapFromProjection(UserProjection projection);
+
     /**
      * Маппинг из to в entity.
      *
@@ -50,18 +61,18 @@ public abstract class UserMapper {
     @Mapping(target = "accountNonLocked", ignore = true)
     @Mapping(target = "credentialsNonExpired", ignore = true)
     @Mapping(target = "enabled", ignore = true)
-    @Mapping(target = "password", expression = "java(getEncoder().encode(to.getPassword()))")
+    @Mapping(target = "password", expression = "java(getPasswordHashingService().encode(to.getPassword()))")
     @Mapping(target = "createdAt", expression = "java(java.time.ZonedDateTime.now())")
     @Mapping(target = "updatedAt", expression = "java(java.time.ZonedDateTime.now())")
     public abstract UserEntity mapForRegistration(UserTo to);
 
     /**
-     * Внедрение бина для кодирования пароля.
+     * Внедрение бина сервиса хэширования паролей.
      *
-     * @param passwordEncoder - бин PasswordEncoder
+     * @param service - бин PasswordHashingService
      */
     @Autowired
-    public void setEncoder(final PasswordEncoder passwordEncoder) {
-        this.encoder = passwordEncoder;
+    public void setPasswordHashingService(final PasswordHashingService service) {
+        this.passwordHashingService = service;
     }
 }
@@ -1,18 +1,23 @@
 package heavenboards.user.service.user.service;
 
+import heavenboards.user.service.user.cache.UserCache;
 import heavenboards.user.service.user.domain.UserRepository;
+import heavenboards.user.service.user.lookup.UserProjectionLookup;
 import heavenboards.user.service.user.mapping.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import transfer.contract.domain.user.UserTo;
 import transfer.contract.exception.BaseErrorCode;
 import transfer.contract.exception.ClientApplicationException;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Use case поиска пользователей.
@@ -20,6 +25,11 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class UserFindUseCase {
+    /**
+     * Максимальное количество пользователей в результате поиска.
+     */
+    public static final int MAX_SEARCH_LIMIT = 50;
+
     /**
      * Репозиторий для пользователей.
      */
@@ -31,28 +41,79 @@ public class UserFindUseCase {
     private final UserMapper userMapper;
 
     /**
-     * Получение пользователя по username.
+     * Поиск профилей пользователей по набору идентификаторов.
+     */
+    private final UserProjectionLookup userProjectionLookup;
+
+    /**
+     * Кэш профилей пользователей.
+     */
+    private final UserCache userCache;
+
+    /**
+     * Получение пользователя по username. При промахе кэша читается только проекция
+     * профиля одним запросом по уникальному индексу, без транзакции и отслеживания сущности.
      *
      * @param username - username
      * @return найденный пользователь или пустота
      */
-    @Transactional(readOnly = true)
     public UserTo findUserByUsername(final String username) {
-        return userRepository.findByUsername(username)
-            .map(userMapper::mapFromEntity)
-            .orElseThrow(() -> new ClientApplicationException(BaseErrorCode.NOT_FOUND,
-                String.format("Пользователь с username %s не найден", username)));
+        return userCache.findByUsername(username).orElseGet(() -> {
+            UserTo user = userRepository.findProjectionByUsername(username)
+                .map(userMapper::mapFromProjection)
+                .orElseThrow(() -> new ClientApplicationException(BaseErrorCode.NOT_FOUND,
+                    String.format("Пользователь с username %s не найден", username)));
+            userCache.put(user);
+            return user;
+        });
     }
 
     /**
      * Получение списка пользователей по идентификаторам.
+     * Из базы читаются только пользователи, которых нет в кэше, частями фиксированного
+     * размера с параметром-массивом, см. {@link UserProjectionLookup}.
      *
      * @param ids - идентификаторы пользователей, которых мы ищем
-     * @return to-модели найденных пользователей
+     * @return to-модели найденных пользователей по возрастанию идентификатора
      */
     public List<UserTo> findUsersByIds(final Set<UUID> ids) {
-        return userRepository.findAllById(ids).stream()
-            .map(userMapper::mapFromEntity)
-            .collect(Collectors.toList());
+        Map<UUID, UserTo> cachedUsers = userCache.findAllByIds(ids);
+        List<UserTo> users = new ArrayList<>(cachedUsers.values());
+
+        Set<UUID> missingIds = new HashSet<>(ids);
+        missingIds.removeAll(cachedUsers.keySet());
+        userProjectionLookup.findProjectionsByIds(missingIds).stream()
+            .map(userMapper::mapFromProjection)
+            .forEach(user -> {
+                userCache.put(user);
+                users.add(user);
+            });
+        users.sort(Comparator.comparing(UserTo::getId));
+        return users;
+    }
+
+    /**
+     * Поиск пользователей по части username, имени или фамилии.
+     * Читаются только проекции профиля, отсортированные по релевантности.
+     *
+     * @param query - строка поиска
+     * @param limit - максимальное количество пользователей, приводится к диапазону
+     *              от 1 до {@link #MAX_SEARCH_LIMIT}
+     * @return to-модели найденных пользователей
+     */
+    public List<UserTo> searchUsers(final String query, final int limit) {
+        String normalizedQuery = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+
+        String pattern = "%" + normalizedQuery
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_") + "%";
+        return userRepository.searchProjections(normalizedQuery, pattern,
+                Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT))).stream()
+            .map(userMapper::mapFromProjection)
+            .toList();
     }
 }
@@ -0,0 +1,307 @@
+package heavenboards.user.service.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import heavenboards.user.service.authentication.hashing.PasswordHashingService;
+import heavenboards.user.service.user.cache.UserCacheInvalidator;
+import heavenboards.user.service.user.domain.UserBatchRepository;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.importing.InvalidUserImportHeaderException;
+import heavenboards.user.service.user.importing.UserImportFormat;
+import heavenboards.user.service.user.importing.UserImportProperties;
+import heavenboards.user.service.user.importing.UserImportReader;
+import heavenboards.user.service.user.importing.UserImportRow;
+import heavenboards.user.service.user.importing.UserImportRowResult;
+import heavenboards.user.service.user.importing.UserImportRowStatus;
+import heavenboards.user.service.user.importing.UserImportSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Use case пакетного импорта пользователей из NDJSON или CSV.
+ * Файл читается пачками по chunk-size строк: в пачке строки проверяются, занятые username
+ * ищутся одним запросом, пароли хэшируются параллельно в пуле {@link PasswordHashingService}
+ * в пределах доли, выделенной пакетным задачам, новые пользователи
+ * вставляются JDBC batch. Результат каждой строки пишется в ответ сразу после обработки
+ * ее пачки, последней строкой пишется итог с пропускной способностью.
+ */
+@Slf4j
+@Service
+public class UserImportUseCase {
+    /**
+     * Максимальная длина username и имени.
+     */
+    private static final int MAX_NAME_LENGTH = 64;
+
+    /**
+     * Перевод строки между результатами NDJSON.
+     */
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    /**
+     * Репозиторий для пакетной записи пользователей.
+     */
+    private final UserBatchRepository userBatchRepository;
+
+    /**
+     * Сервис хэширования паролей.
+     */
+    private final PasswordHashingService passwordHashingService;
+
+    /**
+     * Шаблон для коротких транзакций вокруг работы с базой.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Инвалидация закэшированных данных пользователя.
+     */
+    private final UserCacheInvalidator userCacheInvalidator;
+
+    /**
+     * Маппер для чтения строк и записи результатов.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Настройки импорта.
+     */
+    private final UserImportProperties properties;
+
+    /**
+     * Реестр метрик.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Конструктор.
+     *
+     * @param userBatchRepository  - репозиторий для пакетной записи пользователей
+     * @param passwordHashing      - сервис хэширования паролей
+     * @param transactionTemplate  - шаблон для коротких транзакций
+     * @param userCacheInvalidator - инвалидация закэшированных данных пользователя
+     * @param objectMapper         - маппер для чтения строк и записи результатов
+     * @param properties           - настройки импорта
+     * @param meterRegistry        - реестр метрик
+     */
+    public UserImportUseCase(final UserBatchRepository userBatchRepository,
+                             final PasswordHashingService passwordHashing,
+                             final TransactionTemplate transactionTemplate,
+                             final UserCacheInvalidator userCacheInvalidator,
+                             final ObjectMapper objectMapper,
+                             final UserImportProperties properties,
+                             final MeterRegistry meterRegistry) {
+        this.userBatchRepository = userBatchRepository;
+        this.passwordHashingService = passwordHashing;
+        this.transactionTemplate = transactionTemplate;
+        this.userCacheInvalidator = userCacheInvalidator;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Открыть файл импорта и проверить его заголовок до начала ответа.
+     *
+     * @param input  - файл импорта
+     * @param format - формат файла
+     * @return читатель файла
+     * @throws IOException                       - ошибка чтения файла
+     * @throws InvalidUserImportHeaderException - если в заголовке CSV нет нужной колонки
+     */
+    public UserImportReader open(final InputStream input,
+                                 final UserImportFormat format) throws IOException {
+        UserImportReader reader = new UserImportReader(input, format, objectMapper);
+        reader.readHeader();
+        return reader;
+    }
+
+    /**
+     * Импортировать пользователей.
+     *
+     * @param reader - читатель файла импорта, см. {@link #open(InputStream, UserImportFormat)}
+     * @param output - поток для результатов строк и итога в NDJSON
+     * @return итог импорта
+     * @throws IOException - ошибка чтения файла или записи ответа
+     */
+    public UserImportSummary importUsers(final UserImportReader reader,
+                                         final OutputStream output) throws IOException {
+        long startedAt = System.nanoTime();
+        Map<UserImportRowStatus, Long> counts = new EnumMap<>(UserImportRowStatus.class);
+
+        List<UserImportReader.Line> chunk = reader.nextChunk(properties.getChunkSize());
+        while (!chunk.isEmpty()) {
+            for (UserImportRowResult result : importChunk(chunk)) {
+                counts.merge(result.status(), 1L, Long::sum);
+                writeLine(output, result);
+            }
+            output.flush();
+            chunk = reader.nextChunk(properties.getChunkSize());
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        UserImportSummary summary = new UserImportSummary(total,
+            counts.getOrDefault(UserImportRowStatus.CREATED, 0L),
+            counts.getOrDefault(UserImportRowStatus.DUPLICATE, 0L),
+            counts.getOrDefault(UserImportRowStatus.INVALID, 0L),
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            elapsedNanos == 0 ? 0 : total * 1e9 / elapsedNanos);
+        writeLine(output, summary);
+        output.flush();
+
+        counts.forEach((status, count) -> meterRegistry
+            .counter("user.import.rows", "status", status.name()).increment(count));
+        log.info("Импорт пользователей: {} строк за {} мс, {} строк/с", summary.total(),
+            summary.elapsedMillis(), Math.round(summary.rowsPerSecond()));
+        return summary;
+    }
+
+    /**
+     * Импортировать пачку строк.
+     *
+     * @param lines - строки пачки
+     * @return результаты строк в порядке файла
+     */
+    private List<UserImportRowResult> importChunk(final List<UserImportReader.Line> lines) {
+        UserImportRowResult[] results = new UserImportRowResult[lines.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            UserImportReader.Line line = lines.get(i);
+            String error = line.error() != null ? line.error() : validate(line.row());
+            if (error != null) {
+                results[i] = new UserImportRowResult(line.number(),
+                    line.row() == null ? null : line.row().username(),
+                    UserImportRowStatus.INVALID, null, error);
+            } else if (candidates.putIfAbsent(line.row().username(), i) != null) {
+                results[i] = duplicate(line);
+            }
+        }
+
+        Set<String> existingUsernames = userBatchRepository
+            .findExistingUsernames(candidates.keySet());
+        List<Integer> newIndexes = new ArrayList<>(candidates.size());
+        candidates.forEach((username, index) -> {
+            if (existingUsernames.contains(username)) {
+                results[index] = duplicate(lines.get(index));
+            } else {
+                newIndexes.add(index);
+            }
+        });
+
+        List<String> passwords = passwordHashingService.encodeAll(newIndexes.stream()
+            .map(index -> lines.get(index).row().password())
+            .toList());
+        ZonedDateTime now = ZonedDateTime.now();
+        List<UserEntity> users = new ArrayList<>(newIndexes.size());
+        for (int i = 0; i < newIndexes.size(); i++) {
+            UserImportRow row = lines.get(newIndexes.get(i)).row();
+            users.add(UserEntity.builder()
+                .id(UUID.randomUUID())
+                .username(row.username())
+                .password(passwords.get(i))
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        }
+
+        boolean[] inserted = users.isEmpty()
+            ? new boolean[0]
+            : transactionTemplate.execute(status -> insertAndInvalidate(users));
+        for (int i = 0; i < users.size(); i++) {
+            int index = newIndexes.get(i);
+            // Username, занятый параллельной регистрацией между проверкой и вставкой
+            results[index] = inserted[i]
+                ? new UserImportRowResult(lines.get(index).number(), users.get(i).getUsername(),
+                    UserImportRowStatus.CREATED, users.get(i).getId(), null)
+                : duplicate(lines.get(index));
+        }
+        return List.of(results);
+    }
+
+    /**
+     * Вставить пользователей и инвалидировать вставленных после коммита.
+     * JDBC-вставка не вызывает UserEntityListener.
+     *
+     * @param users - новые пользователи
+     * @return для каждого пользователя по порядку: true, если строка вставлена
+     */
+    private boolean[] insertAndInvalidate(final List<UserEntity> users) {
+        boolean[] inserted = userBatchRepository.insertAllIfAbsent(users);
+        for (int i = 0; i < users.size(); i++) {
+            if (inserted[i]) {
+                userCacheInvalidator.invalidate(users.get(i).getId(),
+                    users.get(i).getUsername());
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Проверить строку так же, как проверяются данные регистрации.
+     *
+     * @param row - строка
+     * @return описание ошибки или null, если строка корректна
+     */
+    private String validate(final UserImportRow row) {
+        if (isBlankOrTooLong(row.username())) {
+            return "Некорректный username";
+        }
+        if (row.password() == null || row.password().isBlank()) {
+            return "Пустой пароль";
+        }
+        if (isBlankOrTooLong(row.firstName()) || isBlankOrTooLong(row.lastName())) {
+            return "Некорректные имя или фамилия";
+        }
+        return null;
+    }
+
+    /**
+     * Пустое ли значение или длиннее колонки в базе.
+     *
+     * @param value - значение
+     * @return true, если значение не подходит
+     */
+    private boolean isBlankOrTooLong(final String value) {
+        return value == null || value.isBlank() || value.length() > MAX_NAME_LENGTH;
+    }
+
+    /**
+     * Результат для занятого username.
+     *
+     * @param line - строка
+     * @return результат DUPLICATE
+     */
+    private UserImportRowResult duplicate(final UserImportReader.Line line) {
+        return new UserImportRowResult(line.number(), line.row().username(),
+            UserImportRowStatus.DUPLICATE, null, null);
+    }
+
+    /**
+     * Записать объект строкой NDJSON.
+     *
+     * @param output - поток ответа
+     * @param value  - объект
+     * @throws IOException - ошибка записи
+     */
+    private void writeLine(final OutputStream output, final Object value) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(value));
+        output.write(LINE_SEPARATOR);
+    }
+}
@@ -0,0 +1,113 @@
+package heavenboards.user.service.user.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import heavenboards.user.service.user.domain.UserBatchRepository;
+import heavenboards.user.service.user.domain.UserProjection;
+import heavenboards.user.service.user.lookup.UserLookupProperties;
+import heavenboards.user.service.user.mapping.UserMapper;
+import org.springframework.stereotype.Service;
+import transfer.contract.domain.user.UserTo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case потоковой выдачи пользователей по идентификаторам.
+ * Идентификаторы без повторов сортируются и делятся на части размера chunkSize из
+ * {@link UserLookupProperties}. Каждая часть читается отдельным коротким запросом,
+ * сразу превращается в {@link UserTo} и пишется в JSON-массив ответа, после чего
+ * буфер сбрасывается клиенту. Соединение с базой возвращается в пул до записи части,
+ * поэтому медленный клиент не удерживает его, а память ограничена размером части.
+ * Пользователи выдаются по возрастанию идентификатора, как и при обычном поиске.
+ */
+@Service
+public class UserStreamUseCase {
+    /**
+     * Порядок пользователей в части.
+     */
+    private static final Comparator<UserProjection> BY_ID =
+        Comparator.comparing(UserProjection::getId);
+
+    /**
+     * Репозиторий для пакетного чтения пользователей.
+     */
+    private final UserBatchRepository userBatchRepository;
+
+    /**
+     * Маппер для пользователей.
+     */
+    private final UserMapper userMapper;
+
+    /**
+     * Максимальное количество идентификаторов в одном запросе.
+     */
+    private final int chunkSize;
+
+    /**
+     * Маппер для создания генератора JSON.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Сериализатор пользователя без сброса буфера после каждого значения.
+     */
+    private final ObjectWriter userWriter;
+
+    /**
+     * Конструктор.
+     *
+     * @param userBatchRepository - репозиторий для пакетного чтения пользователей
+     * @param userMapper          - маппер для пользователей
+     * @param properties          - настройки поиска по набору идентификаторов
+     * @param objectMapper        - маппер для записи ответа
+     */
+    public UserStreamUseCase(final UserBatchRepository userBatchRepository,
+                             final UserMapper userMapper,
+                             final UserLookupProperties properties,
+                             final ObjectMapper objectMapper) {
+        this.userBatchRepository = userBatchRepository;
+        this.userMapper = userMapper;
+        this.chunkSize = properties.getChunkSize();
+        this.objectMapper = objectMapper;
+        this.userWriter = objectMapper.writerFor(UserTo.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Записать найденных пользователей JSON-массивом в поток по частям.
+     * Ошибка после начала записи обрывает массив: статус ответа уже отправлен.
+     *
+     * @param ids    - идентификаторы пользователей
+     * @param output - поток ответа
+     * @throws IOException - ошибка записи ответа
+     */
+    public void streamUsersByIds(final Collection<UUID> ids,
+                                 final OutputStream output) throws IOException {
+        List<UUID> sortedIds = ids.stream().distinct().sorted().toList();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            // При ошибке массив не должен закрываться, иначе обрыв не отличить от конца
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            for (int from = 0; from < sortedIds.size(); from += chunkSize) {
+                List<UserProjection> users = new ArrayList<>(userBatchRepository
+                    .findProjectionsByIds(sortedIds.subList(from,
+                        Math.min(from + chunkSize, sortedIds.size()))));
+                users.sort(BY_ID);
+                for (UserProjection user : users) {
+                    userWriter.writeValue(generator, userMapper.mapFromProjection(user));
+                }
+                generator.flush();
+            }
+            generator.writeEndArray();
+        }
+    }
+}
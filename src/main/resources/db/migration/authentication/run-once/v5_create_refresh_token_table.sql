@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS refresh_token
+(
+    id uuid PRIMARY KEY,
+    token_hash varchar(64) NOT NULL UNIQUE,
+    user_id uuid NOT NULL REFERENCES user_entity (id) ON DELETE CASCADE,
+    family_id uuid NOT NULL,
+    expires_at timestamp with time zone NOT NULL,
+    created_at timestamp with time zone NOT NULL DEFAULT now(),
+    revoked_at timestamp with time zone
+);
+
+CREATE INDEX IF NOT EXISTS refresh_token_family_id_index
+    ON refresh_token (family_id);
+
+CREATE INDEX IF NOT EXISTS refresh_token_expires_at_index
+    ON refresh_token (expires_at);
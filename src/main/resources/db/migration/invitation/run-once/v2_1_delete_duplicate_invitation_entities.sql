@@ -0,0 +1,5 @@
+DELETE FROM invitation_entity duplicate
+    USING invitation_entity kept
+    WHERE duplicate.project_id = kept.project_id
+      AND duplicate.invited_user_id = kept.invited_user_id
+      AND duplicate.id > kept.id;
@@ -0,0 +1,8 @@
+CREATE UNIQUE INDEX IF NOT EXISTS invitation_entity_project_id_invited_user_id_uindex
+    ON invitation_entity (project_id, invited_user_id);
+
+CREATE INDEX IF NOT EXISTS invitation_entity_invited_user_id_index
+    ON invitation_entity (invited_user_id);
+
+CREATE INDEX IF NOT EXISTS invitation_entity_invitation_sender_index
+    ON invitation_entity (invitation_sender);
@@ -0,0 +1,12 @@
+ALTER TABLE invitation_entity
+    ADD COLUMN IF NOT EXISTS created_at timestamp with time zone NOT NULL DEFAULT now();
+
+CREATE INDEX IF NOT EXISTS invitation_entity_invited_user_id_created_at_index
+    ON invitation_entity (invited_user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS invitation_entity_invitation_sender_created_at_index
+    ON invitation_entity (invitation_sender, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS invitation_entity_invited_user_id_index;
+
+DROP INDEX IF EXISTS invitation_entity_invitation_sender_index;
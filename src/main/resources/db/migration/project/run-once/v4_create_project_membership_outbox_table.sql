@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS project_membership_outbox
+(
+    id uuid PRIMARY KEY,
+    project_id uuid NOT NULL,
+    user_id uuid NOT NULL,
+    invitation_id uuid NOT NULL,
+    attempts integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamp with time zone NOT NULL DEFAULT now(),
+    created_at timestamp with time zone NOT NULL DEFAULT now(),
+    last_error varchar(1024),
+    failed boolean NOT NULL DEFAULT FALSE
+);
+
+CREATE INDEX IF NOT EXISTS project_membership_outbox_pending_index
+    ON project_membership_outbox (next_attempt_at)
+    WHERE NOT failed;
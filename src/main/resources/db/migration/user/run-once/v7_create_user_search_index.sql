@@ -0,0 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS user_entity_search_trgm_index
+    ON user_entity
+    USING gist (lower(username || ' ' || first_name || ' ' || last_name) gist_trgm_ops);
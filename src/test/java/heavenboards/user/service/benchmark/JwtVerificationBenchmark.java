@@ -0,0 +1,93 @@
+package heavenboards.user.service.benchmark;
+
+import heavenboards.user.service.authentication.jwt.JwtClaimsProperties;
+import heavenboards.user.service.authentication.jwt.JwtClaimsService;
+import heavenboards.user.service.authentication.jwt.VerifiedToken;
+import heavenboards.user.service.authentication.jwt.VerifiedTokenCache;
+import heavenboards.user.service.user.domain.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import transfer.contract.domain.user.UserTo;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение проверки JWT-токена с кэшем проверенных токенов и без него.
+ * Запуск: mvn -P benchmark -DskipTests test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    /**
+     * Секрет подписи из тестового профиля.
+     */
+    private static final String SECRET =
+        "4534A25BE19F7F52DFCFA25F266C84534A29BE19F7452DFCFA25F266C74533A29BE19F7D52DFCFA25F266C7";
+
+    /**
+     * Сервис claims JWT-токенов без кэша.
+     */
+    private JwtClaimsService jwtClaimsService;
+
+    /**
+     * Кэш токенов с проверенной подписью.
+     */
+    private VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * Проверяемый токен.
+     */
+    private String token;
+
+    /**
+     * Выпуск токена и прогрев кэша.
+     */
+    @Setup
+    public void setup() {
+        jwtClaimsService = new JwtClaimsService(SECRET, 3600);
+        verifiedTokenCache = new VerifiedTokenCache(jwtClaimsService, new JwtClaimsProperties(),
+            new SimpleMeterRegistry());
+        token = jwtClaimsService.generate(UserEntity.builder()
+            .id(UUID.randomUUID())
+            .username("benchmarkUser")
+            .firstName("Ivan")
+            .lastName("Ivanov")
+            .build());
+        verifiedTokenCache.resolvePrincipal(token);
+    }
+
+    /**
+     * Проверка подписи и разбор claims на каждый запрос.
+     *
+     * @return пользователь из claims
+     */
+    @Benchmark
+    public Optional<UserTo> uncached() {
+        return jwtClaimsService.verify(token).map(VerifiedToken::principal);
+    }
+
+    /**
+     * Поиск уже проверенного токена в кэше.
+     *
+     * @return пользователь из claims
+     */
+    @Benchmark
+    public Optional<UserTo> cached() {
+        return verifiedTokenCache.resolvePrincipal(token);
+    }
+}
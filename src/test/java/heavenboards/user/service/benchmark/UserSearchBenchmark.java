@@ -0,0 +1,169 @@
+package heavenboards.user.service.benchmark;
+
+import heavenboards.user.service.user.domain.UserRepository;
+import liquibase.integration.spring.SpringLiquibase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Время поиска пользователей запросом {@link UserRepository#SEARCH_QUERY}
+ * по таблице из миллиона пользователей. Режим SampleTime выводит p0.95.
+ * По умолчанию база поднимается в Testcontainers и удаляется после прогона.
+ * Схема сервиса создается миграциями Liquibase в отдельной схеме {@value #SCHEMA},
+ * которая удаляется в конце прогона, поэтому и с другой базой данные сервиса не
+ * затрагиваются. Каждый набор параметров выполняется в своем форке со своей базой.
+ * Запуск:
+ * <pre>
+ * mvn -P benchmark -DskipTests test-compile exec:exec -Dbenchmark.args=UserSearchBenchmark
+ * </pre>
+ * Другую базу можно задать переменными BENCHMARK_JDBC_URL, BENCHMARK_JDBC_USERNAME
+ * и BENCHMARK_JDBC_PASSWORD.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserSearchBenchmark {
+    /**
+     * Количество пользователей в таблице.
+     */
+    private static final int USER_COUNT = 1_000_000;
+
+    /**
+     * Размер страницы результатов.
+     */
+    private static final int LIMIT = 20;
+
+    /**
+     * Временная схема для данных прогона.
+     */
+    private static final String SCHEMA = "user_search_benchmark";
+
+    /**
+     * Создание пользователей. Имена и фамилии выбираются из небольших
+     * наборов, поэтому у частых имен много совпадений, как в реальных данных.
+     */
+    private static final String SEED_QUERY = "INSERT INTO user_entity "
+        + "(id, username, password, role, first_name, last_name, created_at, updated_at) "
+        + "SELECT gen_random_uuid(), 'bench_' || substr(md5(g::text), 1, 8) || '_' || g, "
+        + "'x', 'USER', "
+        + "(ARRAY['Ivan', 'Petr', 'Anna', 'Maria', 'Sergey', 'Olga', 'Dmitry', 'Elena'])"
+        + "[1 + g % 8], "
+        + "(ARRAY['Ivanov', 'Petrov', 'Sidorov', 'Smirnov', 'Kuznetsov', 'Popov', 'Volkov'])"
+        + "[1 + g % 7] || (g % 1000), "
+        + "now(), now() "
+        + "FROM generate_series(1, :count) g";
+
+    /**
+     * Строка поиска. Поле открыто, так как его заполняет JMH.
+     */
+    @Param({"iv", "ivan", "bench_a1", "volkov42"})
+    public String query;
+
+    /**
+     * Соединение с базой.
+     */
+    private SingleConnectionDataSource dataSource;
+
+    /**
+     * Шаблон для поиска.
+     */
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Параметры запроса.
+     */
+    private MapSqlParameterSource parameters;
+
+    /**
+     * Подключение к базе, создание временной схемы и заполнение таблицы.
+     *
+     * @throws Exception - ошибка применения миграций
+     */
+    @Setup
+    public void setup() throws Exception {
+        // Одно соединение на весь прогон, чтобы в замер не попадало подключение к базе
+        dataSource = new SingleConnectionDataSource(
+            env("BENCHMARK_JDBC_URL", "jdbc:tc:postgresql:///user_service"),
+            env("BENCHMARK_JDBC_USERNAME", "user123"),
+            env("BENCHMARK_JDBC_PASSWORD", "pass123"), true);
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+
+        // Схема могла остаться от прерванного прогона
+        jdbcTemplate.getJdbcTemplate().execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.getJdbcTemplate().execute("CREATE SCHEMA " + SCHEMA);
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:/db/changelog.xml");
+        liquibase.setDefaultSchema(SCHEMA);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+        // public остается в пути поиска для операторов pg_trgm, если расширение уже там
+        jdbcTemplate.getJdbcTemplate().execute("SET search_path TO " + SCHEMA + ", public");
+
+        jdbcTemplate.update(SEED_QUERY, new MapSqlParameterSource("count", USER_COUNT));
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE user_entity");
+
+        String normalizedQuery = query.toLowerCase(Locale.ROOT);
+        parameters = new MapSqlParameterSource()
+            .addValue("query", normalizedQuery)
+            .addValue("pattern", "%" + normalizedQuery.replace("_", "\\_") + "%")
+            .addValue("limit", LIMIT);
+    }
+
+    /**
+     * Удаление временной схемы и закрытие соединения. Контейнер Testcontainers
+     * останавливается вместе с последним соединением.
+     */
+    @TearDown
+    public void tearDown() {
+        try {
+            jdbcTemplate.getJdbcTemplate().execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    /**
+     * Поиск пользователей.
+     *
+     * @return найденные строки
+     */
+    @Benchmark
+    public List<Map<String, Object>> search() {
+        return jdbcTemplate.queryForList(UserRepository.SEARCH_QUERY, parameters);
+    }
+
+    /**
+     * Значение переменной окружения.
+     *
+     * @param name         - имя переменной
+     * @param defaultValue - значение по умолчанию
+     * @return значение
+     */
+    private static String env(final String name, final String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
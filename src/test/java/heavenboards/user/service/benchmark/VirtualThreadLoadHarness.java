@@ -0,0 +1,227 @@
+package heavenboards.user.service.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Нагрузочный тест запущенного сервиса для сравнения режимов с виртуальными потоками
+ * и без них. Запросы отправляются с фиксированной частотой (открытая модель нагрузки),
+ * задержка считается от запланированного момента отправки, поэтому очередь на стороне
+ * сервиса не скрывает рост задержки. Частота растет ступенями, пока на ступени
+ * выполняются условия: p99 не больше LOAD_TEST_P99_SLO_MILLIS и ошибок меньше 1%.
+ * Результат - максимальная устойчивая частота и p99 на ней.
+ *
+ * <p>Сравнение режимов: запустить сервис с VIRTUAL_THREADS_ENABLED=false, выполнить
+ * <pre>
+ * LOAD_TEST_TOKEN=... mvn -P benchmark -DskipTests test-compile exec:exec \
+ *     -Dbenchmark.main=heavenboards.user.service.benchmark.VirtualThreadLoadHarness \
+ *     -Dbenchmark.args=http://localhost:8093
+ * </pre>
+ * затем перезапустить сервис с VIRTUAL_THREADS_ENABLED=true и повторить.
+ * По умолчанию нагружается GET /api/v1/invitation/received, который обращается
+ * и к базе, и к сервису проектов. Закрепление виртуальных потоков на платформенных
+ * можно отследить, запустив сервис с -Djdk.tracePinnedThreads=short.
+ *
+ * <p>Сравнение еще не проводилось, поэтому режим виртуальных потоков остается
+ * выключенным по умолчанию, пока результаты обоих запусков не покажут выигрыш.
+ */
+public final class VirtualThreadLoadHarness {
+    /**
+     * Доля ошибок, при которой ступень считается неустойчивой.
+     */
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    /**
+     * Множитель частоты между ступенями.
+     */
+    private static final double RATE_STEP = 1.5;
+
+    /**
+     * Время ожидания ответа.
+     */
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Утилитарный класс.
+     */
+    private VirtualThreadLoadHarness() {
+    }
+
+    /**
+     * Запуск нагрузочного теста.
+     *
+     * @param args - адрес сервиса, например http://localhost:8093
+     * @throws InterruptedException - если поток прерван
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8093";
+        String token = System.getenv("LOAD_TEST_TOKEN");
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException("Не задан LOAD_TEST_TOKEN");
+        }
+        URI uri = URI.create(baseUrl + env("LOAD_TEST_PATH", "/api/v1/invitation/received"));
+        double rate = Double.parseDouble(env("LOAD_TEST_START_RPS", "50"));
+        double maxRate = Double.parseDouble(env("LOAD_TEST_MAX_RPS", "5000"));
+        int stepSeconds = Integer.parseInt(env("LOAD_TEST_STEP_SECONDS", "20"));
+        long sloNanos = TimeUnit.MILLISECONDS.toNanos(
+            Long.parseLong(env("LOAD_TEST_P99_SLO_MILLIS", "500")));
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .header("Authorization", "Bearer " + token)
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+
+        StepResult sustained = null;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+            // Прогрев JIT и пулов соединений сервиса
+            runStep(client, request, executor, rate, Math.max(5, stepSeconds / 4));
+
+            System.out.println("target_rps  achieved_rps  p50_ms  p99_ms  errors");
+            while (rate <= maxRate) {
+                StepResult result = runStep(client, request, executor, rate, stepSeconds);
+                System.out.println(result);
+                if (result.p99Nanos() > sloNanos || result.errorRate() >= MAX_ERROR_RATE) {
+                    break;
+                }
+                sustained = result;
+                rate *= RATE_STEP;
+            }
+        }
+
+        if (sustained == null) {
+            System.out.println("Нет устойчивой ступени, уменьшите LOAD_TEST_START_RPS");
+        } else {
+            System.out.printf(Locale.ROOT, "max sustained rps: %.0f, p99: %.1f ms%n",
+                sustained.achievedRate(), sustained.p99Nanos() / 1e6);
+        }
+    }
+
+    /**
+     * Выполнить одну ступень нагрузки.
+     *
+     * @param client   - http-клиент
+     * @param request  - запрос
+     * @param executor - исполнитель запросов
+     * @param rate     - частота запросов в секунду
+     * @param seconds  - длительность ступени
+     * @return результат ступени
+     * @throws InterruptedException - если поток прерван
+     */
+    private static StepResult runStep(final HttpClient client,
+                                      final HttpRequest request,
+                                      final ExecutorService executor,
+                                      final double rate,
+                                      final int seconds) throws InterruptedException {
+        int total = (int) Math.round(rate * seconds);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long[] latencies = new long[total];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(total);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long delay = intended - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            int index = i;
+            executor.execute(() -> {
+                try {
+                    HttpResponse<Void> response = client.send(request,
+                        HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                } catch (Exception exception) {
+                    errors.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - intended;
+                    completed.incrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+        done.await(seconds + REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = Arrays.copyOf(latencies, total);
+        Arrays.sort(sorted);
+        // Незавершенные запросы остались с нулевой задержкой, считаем их ошибками
+        int lost = total - completed.get();
+        return new StepResult(
+            rate,
+            completed.get() * 1e9 / elapsed,
+            percentile(sorted, 0.50),
+            percentile(sorted, 0.99),
+            (double) (errors.get() + lost) / total
+        );
+    }
+
+    /**
+     * Процентиль отсортированных значений.
+     *
+     * @param sorted   - отсортированные значения
+     * @param quantile - квантиль от 0 до 1
+     * @return значение процентиля
+     */
+    private static long percentile(final long[] sorted, final double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * Значение переменной окружения.
+     *
+     * @param name         - имя переменной
+     * @param defaultValue - значение по умолчанию
+     * @return значение
+     */
+    private static String env(final String name, final String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    /**
+     * Результат ступени нагрузки.
+     *
+     * @param targetRate   - заданная частота
+     * @param achievedRate - фактическая частота ответов
+     * @param p50Nanos     - медиана задержки
+     * @param p99Nanos     - p99 задержки
+     * @param errorRate    - доля ошибок
+     */
+    private record StepResult(double targetRate, double achievedRate, long p50Nanos,
+                              long p99Nanos, double errorRate) {
+        /**
+         * Строка таблицы результатов.
+         *
+         * @return строка
+         */
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%10.0f  %12.1f  %6.1f  %6.1f  %5.2f%%",
+                targetRate, achievedRate, p50Nanos / 1e6, p99Nanos / 1e6, errorRate * 100);
+        }
+    }
+}
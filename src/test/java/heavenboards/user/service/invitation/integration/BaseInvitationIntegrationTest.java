@@ -39,6 +39,30 @@ public class BaseInvitationIntegrationTest {
                 String.format("Пользователь с username %s не найден", username)));
     }
 
+    /**
+     * Получить сущность пользователя по username вместе с входящими приглашениями.
+     *
+     * @param username - username
+     * @return сущность пользователя или ClientApplicationException
+     */
+    protected UserEntity findUserWithInvitationsByUsername(final String username) {
+        return userRepository.findWithInvitationsByUsername(username)
+            .orElseThrow(() -> new ClientApplicationException(BaseErrorCode.NOT_FOUND,
+                String.format("Пользователь с username %s не найден", username)));
+    }
+
+    /**
+     * Получить сущность пользователя по username вместе с исходящими приглашениями.
+     *
+     * @param username - username
+     * @return сущность пользователя или ClientApplicationException
+     */
+    protected UserEntity findUserWithSentInvitationsByUsername(final String username) {
+        return userRepository.findWithSentInvitationsByUsername(username)
+            .orElseThrow(() -> new ClientApplicationException(BaseErrorCode.NOT_FOUND,
+                String.format("Пользователь с username %s не найден", username)));
+    }
+
     /**
      * Получить сущность приглашения по идентификатору.
      *
@@ -1,6 +1,7 @@
 package heavenboards.user.service.invitation.integration;
 
 import heavenboards.user.service.invitation.domain.InvitationEntity;
+import heavenboards.user.service.project.outbox.ProjectMembershipDispatcher;
 import heavenboards.user.service.user.domain.UserEntity;
 import heavenboards.user.service.user.mapping.UserMapper;
 import io.restassured.RestAssured;
@@ -69,6 +70,12 @@ public class InvitationAcceptIntegrationTest extends BaseInvitationIntegrationTe
     @MockBean
     private ProjectApi projectApi;
 
+    /**
+     * Диспетчер outbox добавления пользователей в проекты.
+     */
+    @Autowired
+    private ProjectMembershipDispatcher projectMembershipDispatcher;
+
     /**
      * Маппер для пользователей.
      */
@@ -120,15 +127,19 @@ public class InvitationAcceptIntegrationTest extends BaseInvitationIntegrationTe
             .as(InvitationOperationResultTo.class);
 
         Assertions.assertEquals(OperationStatus.OK, operationResult.getStatus());
+        Mockito.verify(projectApi, Mockito.never()).updateProject(Mockito.any());
+
+        projectMembershipDispatcher.dispatch();
         Mockito.verify(projectApi, Mockito.times(1)).updateProject(project);
 
-        invitedUserEntity = findUserByUsername(invitedUserUsername);
+        invitedUserEntity = findUserWithInvitationsByUsername(invitedUserUsername);
         Assertions.assertEquals(1, invitedUserEntity.getInvitations().size());
         Assertions.assertEquals(UUID.fromString("b2308466-ee4b-4137-8cd7-6a8226b53525"),
             invitedUserEntity.getInvitations().get(0).getId());
 
         String invitationSenderUsername = "invitationSender";
-        UserEntity invitationSender = findUserByUsername(invitationSenderUsername);
+        UserEntity invitationSender = findUserWithSentInvitationsByUsername(
+            invitationSenderUsername);
         Assertions.assertEquals(1, invitationSender.getSentInvitations().size());
         Assertions.assertEquals(UUID.fromString("b2308466-ee4b-4137-8cd7-6a8226b53525"),
             invitationSender.getSentInvitations().get(0).getId());
@@ -0,0 +1,202 @@
+package heavenboards.user.service.invitation.integration;
+
+import heavenboards.user.service.invitation.transfer.InvitationBatchTo;
+import heavenboards.user.service.project.outbox.ProjectMembershipDispatcher;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.mapping.UserMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.Header;
+import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import security.service.util.test.SecurityTestUtil;
+import transfer.contract.api.ProjectApi;
+import transfer.contract.api.UserApi;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.invitation.InvitationOperationErrorCode;
+import transfer.contract.domain.invitation.InvitationOperationResultTo;
+import transfer.contract.domain.project.ProjectTo;
+import transfer.contract.domain.user.UserTo;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Интеграционные тесты пакетного подтверждения приглашений.
+ */
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/invitation/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class InvitationBatchAcceptIntegrationTest extends BaseInvitationIntegrationTest {
+    /**
+     * Приглашения из sql/invitation/create.sql в два разных проекта.
+     */
+    private static final Set<UUID> INVITATION_IDS = Set.of(
+        UUID.fromString("625c0921-e767-4269-a98c-d9ff571bbb8c"),
+        UUID.fromString("b2308466-ee4b-4137-8cd7-6a8226b53525")
+    );
+
+    /**
+     * Utility-класс с настройкой security для тестов.
+     */
+    @Autowired
+    private SecurityTestUtil securityTestUtil;
+
+    /**
+     * Mock api-клиента для сервиса пользователей.
+     */
+    @MockBean
+    private UserApi userApi;
+
+    /**
+     * Mock api-клиента для сервиса проектов.
+     */
+    @MockBean
+    private ProjectApi projectApi;
+
+    /**
+     * Диспетчер outbox добавления пользователей в проекты.
+     */
+    @Autowired
+    private ProjectMembershipDispatcher projectMembershipDispatcher;
+
+    /**
+     * Маппер для пользователей.
+     */
+    @Autowired
+    private UserMapper userMapper;
+
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Конфигурация перед тестами.
+     */
+    @BeforeAll
+    public void init() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1";
+        RestAssured.defaultParser = Parser.JSON;
+    }
+
+    /**
+     * Тест пакетного подтверждения своих приглашений в разные проекты.
+     */
+    @Test
+    @DisplayName("Тест пакетного подтверждения своих приглашений в разные проекты")
+    public void validInvitationBatchAcceptTest() {
+        authenticate("invitedUser");
+        ProjectTo firstProject = existingProject("bf9a55de-a3b4-4a7b-8435-8fdb73759cb7");
+        ProjectTo secondProject = existingProject("42f73e88-dd3e-46e2-b1e5-33cc990eb84a");
+
+        InvitationOperationResultTo operationResult = acceptInvitationsAndGetResponse()
+            .getBody()
+            .as(InvitationOperationResultTo.class);
+
+        Assertions.assertEquals(OperationStatus.OK, operationResult.getStatus());
+        Assertions.assertEquals(0, invitationRepository.count());
+        Mockito.verify(projectApi, Mockito.never()).updateProject(Mockito.any());
+
+        projectMembershipDispatcher.dispatch();
+        for (ProjectTo project : Set.of(firstProject, secondProject)) {
+            Mockito.verify(projectApi, Mockito.times(1)).findProjectById(project.getId());
+            Mockito.verify(projectApi, Mockito.times(1)).updateProject(project);
+        }
+    }
+
+    /**
+     * Тест пакетного подтверждения чужих приглашений.
+     */
+    @Test
+    @DisplayName("Тест пакетного подтверждения чужих приглашений")
+    public void acceptAnotherUserInvitationsTest() {
+        authenticate("invitationSender");
+
+        InvitationOperationResultTo operationResult = acceptInvitationsAndGetResponse()
+            .getBody()
+            .as(InvitationOperationResultTo.class);
+
+        Assertions.assertEquals(OperationStatus.FAILED, operationResult.getStatus());
+        Assertions.assertEquals(INVITATION_IDS.size(), operationResult.getErrors().size());
+        for (InvitationOperationResultTo.InvitationOperationErrorTo error
+            : operationResult.getErrors()) {
+            Assertions.assertTrue(INVITATION_IDS.contains(error.getFailedInvitationId()));
+            Assertions.assertEquals(InvitationOperationErrorCode.THIS_IS_NOT_YOUR_INVITATION,
+                error.getErrorCode());
+        }
+        Assertions.assertEquals(2, invitationRepository.count());
+        Mockito.verify(projectApi, Mockito.never()).updateProject(Mockito.any());
+    }
+
+    /**
+     * Аутентифицировать пользователя из тестовых данных.
+     *
+     * @param username - username
+     */
+    private void authenticate(final String username) {
+        UserEntity userEntity = findUserByUsername(username);
+        UserTo userTo = userMapper.mapFromEntity(userEntity);
+        securityTestUtil.securityContextHelper(userTo);
+        Mockito.when(userApi.findUserByUsername(username))
+            .thenReturn(userTo);
+    }
+
+    /**
+     * Существующий проект, который возвращает mock сервиса проектов.
+     *
+     * @param projectId - идентификатор проекта
+     * @return проект
+     */
+    private ProjectTo existingProject(final String projectId) {
+        ProjectTo project = ProjectTo.builder()
+            .id(UUID.fromString(projectId))
+            .name("Existing project")
+            .build();
+        Mockito.when(projectApi.findProjectById(project.getId()))
+            .thenReturn(project);
+        return project;
+    }
+
+    /**
+     * Отправить запрос на пакетное подтверждение приглашений и получить ответ.
+     *
+     * @return ответ
+     */
+    private Response acceptInvitationsAndGetResponse() {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .header(new Header(HttpHeaders.AUTHORIZATION, securityTestUtil.authHeader()))
+            .body(InvitationBatchTo.builder()
+                .invitationIds(INVITATION_IDS)
+                .build())
+            .when()
+            .post("/invitation/accept/batch");
+    }
+}
@@ -0,0 +1,293 @@
+package heavenboards.user.service.invitation.integration;
+
+import feign.FeignException;
+import heavenboards.user.service.invitation.transfer.InvitationBatchCreateResultTo;
+import heavenboards.user.service.invitation.transfer.InvitationBatchCreateTo;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.mapping.UserMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.Header;
+import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import security.service.util.test.SecurityTestUtil;
+import transfer.contract.api.ProjectApi;
+import transfer.contract.api.UserApi;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.invitation.InvitationOperationErrorCode;
+import transfer.contract.domain.invitation.InvitationOperationResultTo;
+import transfer.contract.domain.project.ProjectTo;
+import transfer.contract.domain.user.UserTo;
+import transfer.contract.exception.BaseErrorCode;
+import transfer.contract.exception.ClientApplicationException;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Интеграционные тесты для пакетного создания приглашений.
+ */
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class InvitationBatchCreateIntegrationTest extends BaseInvitationIntegrationTest {
+    /**
+     * Utility-класс с настройкой security для тестов.
+     */
+    @Autowired
+    private SecurityTestUtil securityTestUtil;
+
+    /**
+     * Mock api-клиента для сервиса пользователей.
+     */
+    @MockBean
+    private UserApi userApi;
+
+    /**
+     * Маппер для пользователей.
+     */
+    @Autowired
+    private UserMapper userMapper;
+
+    /**
+     * Mock api-клиента для сервиса проектов.
+     */
+    @MockBean
+    private ProjectApi projectApi;
+
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Идентификаторы приглашаемых пользователей в порядке запроса.
+     */
+    private List<UUID> invitedUserIds;
+
+    /**
+     * Конфигурация перед тестами.
+     */
+    @BeforeAll
+    public void init() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1";
+        RestAssured.defaultParser = Parser.JSON;
+    }
+
+    /**
+     * Создание отправителя и второго приглашаемого пользователя перед каждым тестом.
+     */
+    @BeforeEach
+    public void setup() {
+        securityTestUtil.securityContextHelper();
+        UserTo invitationSender = securityTestUtil.getAuthenticatedUser();
+        UserEntity invitationSenderEntity = userRepository
+            .save(userMapper.mapFromTo(invitationSender));
+        invitationSender.setId(invitationSenderEntity.getId());
+        Mockito.when(userApi.findUserByUsername(invitationSender.getUsername()))
+            .thenReturn(invitationSender);
+
+        invitedUserIds = new ArrayList<>();
+        invitedUserIds.add(findUserByUsername("registeredUser").getId());
+        invitedUserIds.add(createUser("secondUser").getId());
+    }
+
+    /**
+     * Тест валидного пакетного создания приглашений.
+     */
+    @Test
+    @DisplayName("Тест валидного пакетного создания приглашений")
+    public void validInvitationBatchCreateTest() {
+        ProjectTo project = existingProject();
+
+        List<InvitationBatchCreateResultTo> results = createInvitationsAndGetResponse(project)
+            .jsonPath().getList(".", InvitationBatchCreateResultTo.class);
+
+        Assertions.assertEquals(invitedUserIds, results.stream()
+            .map(InvitationBatchCreateResultTo::getInvitedUserId)
+            .toList());
+        for (InvitationBatchCreateResultTo result : results) {
+            Assertions.assertEquals(OperationStatus.OK, result.getResult().getStatus());
+            Assertions.assertEquals(result.getInvitedUserId(), invitationRepository
+                .findById(result.getResult().getInvitationId())
+                .orElseThrow()
+                .getInvitedUser()
+                .getId());
+        }
+        Assertions.assertEquals(2, invitationRepository.count());
+        Mockito.verify(projectApi, Mockito.times(1)).findProjectById(project.getId());
+    }
+
+    /**
+     * Тест повторного пакетного создания тех же приглашений.
+     */
+    @Test
+    @DisplayName("Тест повторного пакетного создания тех же приглашений")
+    public void duplicateInvitationBatchCreateTest() {
+        ProjectTo project = existingProject();
+
+        List<InvitationBatchCreateResultTo> created = createInvitationsAndGetResponse(project)
+            .jsonPath().getList(".", InvitationBatchCreateResultTo.class);
+        List<InvitationBatchCreateResultTo> duplicates = createInvitationsAndGetResponse(project)
+            .jsonPath().getList(".", InvitationBatchCreateResultTo.class);
+
+        Assertions.assertEquals(2, duplicates.size());
+        for (int i = 0; i < duplicates.size(); i++) {
+            InvitationOperationResultTo duplicate = duplicates.get(i).getResult();
+            Assertions.assertEquals(created.get(i).getInvitedUserId(),
+                duplicates.get(i).getInvitedUserId());
+            Assertions.assertEquals(OperationStatus.FAILED, duplicate.getStatus());
+            Assertions.assertEquals(List.of(InvitationOperationResultTo.InvitationOperationErrorTo
+                .builder()
+                .errorCode(InvitationOperationErrorCode.INVITATION_ALREADY_CREATED)
+                .failedInvitationId(created.get(i).getResult().getInvitationId())
+                .build()), duplicate.getErrors());
+        }
+        Assertions.assertEquals(2, invitationRepository.count());
+    }
+
+    /**
+     * Тест порядка результатов и повторов в пакетном создании приглашений.
+     * Порядок запроса выбирается так, чтобы он отличался от порядка обхода HashSet.
+     */
+    @Test
+    @DisplayName("Тест порядка результатов и повторов в пакетном создании приглашений")
+    public void invitationBatchCreateKeepsRequestOrderTest() {
+        ProjectTo project = existingProject();
+        for (int i = 0; i < 8; i++) {
+            invitedUserIds.add(createUser("orderedUser" + i).getId());
+        }
+        if (new ArrayList<>(new HashSet<>(invitedUserIds)).equals(invitedUserIds)) {
+            Collections.reverse(invitedUserIds);
+        }
+        List<UUID> expectedIds = List.copyOf(invitedUserIds);
+        invitedUserIds.add(expectedIds.get(0));
+
+        List<InvitationBatchCreateResultTo> results = createInvitationsAndGetResponse(project)
+            .jsonPath().getList(".", InvitationBatchCreateResultTo.class);
+
+        Assertions.assertEquals(expectedIds, results.stream()
+            .map(InvitationBatchCreateResultTo::getInvitedUserId)
+            .toList());
+        Assertions.assertEquals(expectedIds.size(), invitationRepository.count());
+    }
+
+    /**
+     * Тест пакетного создания приглашений в несуществующий проект.
+     */
+    @Test
+    @DisplayName("Тест пакетного создания приглашений в несуществующий проект")
+    public void notExistingProjectInvitationBatchCreateTest() {
+        ProjectTo project = ProjectTo.builder()
+            .id(UUID.randomUUID())
+            .name("Not existing project")
+            .build();
+        Mockito.when(projectApi.findProjectById(project.getId()))
+            .thenThrow(FeignException.FeignClientException.class);
+
+        ClientApplicationException applicationException = createInvitationsAndGetResponse(project)
+            .getBody()
+            .as(ClientApplicationException.class);
+
+        Assertions.assertEquals(BaseErrorCode.NOT_FOUND, applicationException.getErrorCode());
+        Assertions.assertEquals(0, invitationRepository.count());
+    }
+
+    /**
+     * Тест пакетного создания приглашений несуществующему пользователю.
+     */
+    @Test
+    @DisplayName("Тест пакетного создания приглашений несуществующему пользователю")
+    public void notExistingUserInvitationBatchCreateTest() {
+        ProjectTo project = existingProject();
+        invitedUserIds.add(UUID.randomUUID());
+
+        ClientApplicationException applicationException = createInvitationsAndGetResponse(project)
+            .getBody()
+            .as(ClientApplicationException.class);
+
+        Assertions.assertEquals(BaseErrorCode.NOT_FOUND, applicationException.getErrorCode());
+        Assertions.assertEquals(0, invitationRepository.count());
+    }
+
+    /**
+     * Создать пользователя.
+     *
+     * @param username - username
+     * @return созданный пользователь
+     */
+    private UserEntity createUser(final String username) {
+        return userRepository.save(UserEntity.builder()
+            .username(username)
+            .password("$2a$10$JqrceZDuA3g/h7dLuHbrD.GRoJKZdjmVcNvJunSbOsk1yxGOPtIie")
+            .firstName("Petr")
+            .lastName("Petrov")
+            .createdAt(ZonedDateTime.now())
+            .updatedAt(ZonedDateTime.now())
+            .build());
+    }
+
+    /**
+     * Существующий проект, который возвращает mock сервиса проектов.
+     *
+     * @return проект
+     */
+    private ProjectTo existingProject() {
+        ProjectTo project = ProjectTo.builder()
+            .id(UUID.randomUUID())
+            .name("Existing project")
+            .build();
+        Mockito.when(projectApi.findProjectById(project.getId()))
+            .thenReturn(project);
+        return project;
+    }
+
+    /**
+     * Отправить запрос на пакетное создание приглашений и получить ответ.
+     *
+     * @param project - to-модель проекта, в который мы приглашаем пользователей
+     * @return ответ
+     */
+    private Response createInvitationsAndGetResponse(final ProjectTo project) {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .header(new Header(HttpHeaders.AUTHORIZATION, securityTestUtil.authHeader()))
+            .body(InvitationBatchCreateTo.builder()
+                .project(project)
+                .invitedUserIds(invitedUserIds)
+                .build())
+            .when()
+            .post("/invitation/batch");
+    }
+}
@@ -0,0 +1,183 @@
+package heavenboards.user.service.invitation.integration;
+
+import heavenboards.user.service.invitation.transfer.InvitationBatchTo;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.mapping.UserMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.Header;
+import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import security.service.util.test.SecurityTestUtil;
+import transfer.contract.api.UserApi;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.invitation.InvitationOperationErrorCode;
+import transfer.contract.domain.invitation.InvitationOperationResultTo;
+import transfer.contract.domain.user.UserTo;
+import transfer.contract.exception.BaseErrorCode;
+import transfer.contract.exception.ClientApplicationException;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Интеграционные тесты пакетного отклонения приглашений.
+ */
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/invitation/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class InvitationBatchRejectIntegrationTest extends BaseInvitationIntegrationTest {
+    /**
+     * Приглашения из sql/invitation/create.sql.
+     */
+    private static final Set<UUID> INVITATION_IDS = Set.of(
+        UUID.fromString("625c0921-e767-4269-a98c-d9ff571bbb8c"),
+        UUID.fromString("b2308466-ee4b-4137-8cd7-6a8226b53525")
+    );
+
+    /**
+     * Utility-класс с настройкой security для тестов.
+     */
+    @Autowired
+    private SecurityTestUtil securityTestUtil;
+
+    /**
+     * Mock api-клиента для сервиса пользователей.
+     */
+    @MockBean
+    private UserApi userApi;
+
+    /**
+     * Маппер для пользователей.
+     */
+    @Autowired
+    private UserMapper userMapper;
+
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Конфигурация перед тестами.
+     */
+    @BeforeAll
+    public void init() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1";
+        RestAssured.defaultParser = Parser.JSON;
+    }
+
+    /**
+     * Тест пакетного отклонения своих приглашений.
+     */
+    @Test
+    @DisplayName("Тест пакетного отклонения своих приглашений")
+    public void validInvitationBatchRejectTest() {
+        authenticate("invitedUser");
+
+        InvitationOperationResultTo operationResult = rejectInvitationsAndGetResponse(
+            INVITATION_IDS)
+            .getBody()
+            .as(InvitationOperationResultTo.class);
+
+        Assertions.assertEquals(OperationStatus.OK, operationResult.getStatus());
+        Assertions.assertEquals(0, invitationRepository.count());
+    }
+
+    /**
+     * Тест пакетного отклонения чужих приглашений.
+     */
+    @Test
+    @DisplayName("Тест пакетного отклонения чужих приглашений")
+    public void rejectAnotherUserInvitationsTest() {
+        authenticate("invitationSender");
+
+        InvitationOperationResultTo operationResult = rejectInvitationsAndGetResponse(
+            INVITATION_IDS)
+            .getBody()
+            .as(InvitationOperationResultTo.class);
+
+        Assertions.assertEquals(OperationStatus.FAILED, operationResult.getStatus());
+        Assertions.assertEquals(INVITATION_IDS.size(), operationResult.getErrors().size());
+        for (InvitationOperationResultTo.InvitationOperationErrorTo error
+            : operationResult.getErrors()) {
+            Assertions.assertTrue(INVITATION_IDS.contains(error.getFailedInvitationId()));
+            Assertions.assertEquals(InvitationOperationErrorCode.THIS_IS_NOT_YOUR_INVITATION,
+                error.getErrorCode());
+        }
+        Assertions.assertEquals(2, invitationRepository.count());
+    }
+
+    /**
+     * Тест пакетного отклонения с несуществующим приглашением.
+     */
+    @Test
+    @DisplayName("Тест пакетного отклонения с несуществующим приглашением")
+    public void notExistingInvitationBatchRejectTest() {
+        authenticate("invitedUser");
+
+        ClientApplicationException applicationException = rejectInvitationsAndGetResponse(
+            Set.of(UUID.randomUUID()))
+            .getBody()
+            .as(ClientApplicationException.class);
+
+        Assertions.assertEquals(BaseErrorCode.NOT_FOUND, applicationException.getErrorCode());
+        Assertions.assertEquals(2, invitationRepository.count());
+    }
+
+    /**
+     * Аутентифицировать пользователя из тестовых данных.
+     *
+     * @param username - username
+     */
+    private void authenticate(final String username) {
+        UserEntity userEntity = findUserByUsername(username);
+        UserTo userTo = userMapper.mapFromEntity(userEntity);
+        securityTestUtil.securityContextHelper(userTo);
+        Mockito.when(userApi.findUserByUsername(username))
+            .thenReturn(userTo);
+    }
+
+    /**
+     * Отправить запрос на пакетное отклонение приглашений и получить ответ.
+     *
+     * @param invitationIds - идентификаторы приглашений
+     * @return ответ
+     */
+    private Response rejectInvitationsAndGetResponse(final Set<UUID> invitationIds) {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .header(new Header(HttpHeaders.AUTHORIZATION, securityTestUtil.authHeader()))
+            .body(InvitationBatchTo.builder()
+                .invitationIds(invitationIds)
+                .build())
+            .when()
+            .post("/invitation/reject/batch");
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 import security.service.util.test.SecurityTestUtil;
@@ -34,9 +35,15 @@ import transfer.contract.domain.user.UserTo;
 import transfer.contract.exception.BaseErrorCode;
 import transfer.contract.exception.ClientApplicationException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Интеграционные тесты для создания приглашений.
@@ -134,7 +141,8 @@ public class InvitationCreateIntegrationTest extends BaseInvitationIntegrationTe
         Assertions.assertTrue(invitation.isPresent());
 
         String invitationSenderUsername = securityTestUtil.getAuthenticatedUser().getUsername();
-        UserEntity invitationSender = findUserByUsername(invitationSenderUsername);
+        UserEntity invitationSender = findUserWithSentInvitationsByUsername(
+            invitationSenderUsername);
 
         Assertions.assertEquals(invitationSender.getId(),
             invitation.get().getInvitationSender().getId());
@@ -144,7 +152,7 @@ public class InvitationCreateIntegrationTest extends BaseInvitationIntegrationTe
         Assertions.assertEquals(invitation.get().getId(),
             invitationSender.getSentInvitations().get(0).getId());
 
-        invitedUserEntity = findUserByUsername(invitedUserUsername);
+        invitedUserEntity = findUserWithInvitationsByUsername(invitedUserUsername);
         Assertions.assertEquals(1, invitedUserEntity.getInvitations().size());
         Assertions.assertEquals(invitation.get().getId(),
             invitedUserEntity.getInvitations().get(0).getId());
@@ -208,6 +216,51 @@ public class InvitationCreateIntegrationTest extends BaseInvitationIntegrationTe
             .build()), errorOperationResult.getErrors());
     }
 
+    /**
+     * Тест параллельного создания одного и того же приглашения.
+     */
+    @Test
+    @DisplayName("Тест параллельного создания одного и того же приглашения")
+    public void concurrentDuplicateInvitationCreateTest() throws Exception {
+        ProjectTo project = ProjectTo.builder()
+            .id(UUID.randomUUID())
+            .name("Existing project")
+            .build();
+        Mockito.when(projectApi.findProjectById(project.getId()))
+            .thenReturn(project);
+
+        String invitedUserUsername = "registeredUser";
+        UserTo invitedUserTo = userMapper.mapFromEntity(findUserByUsername(invitedUserUsername));
+
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return createInvitationAndGetResponse(invitedUserTo, project);
+                }));
+            }
+            start.countDown();
+
+            List<InvitationOperationResultTo> results = new ArrayList<>();
+            for (Future<Response> future : futures) {
+                Response response = future.get(30, TimeUnit.SECONDS);
+                Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+                results.add(response.getBody().as(InvitationOperationResultTo.class));
+            }
+
+            Assertions.assertEquals(1, results.stream()
+                .filter(result -> result.getStatus() == OperationStatus.OK)
+                .count());
+            Assertions.assertEquals(1, invitationRepository.count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Отправить запрос на создание приглашения и получить ответ.
      *
@@ -1,5 +1,6 @@
 package heavenboards.user.service.invitation.integration;
 
+import heavenboards.user.service.invitation.transfer.InvitationPageTo;
 import heavenboards.user.service.user.domain.UserEntity;
 import heavenboards.user.service.user.mapping.UserMapper;
 import io.restassured.RestAssured;
@@ -17,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlConfig;
 import security.service.util.test.SecurityTestUtil;
@@ -125,6 +127,11 @@ public class InvitationFindIntegrationTest extends BaseInvitationIntegrationTest
             Assertions.assertEquals(UUID.fromString("2baed0f0-49b2-43fa-bec2-c3b4af8b2918"),
                 invitation.getInvitationSender().getId());
         }
+
+        Mockito.verify(projectApi, Mockito.times(1))
+            .findProjectById(UUID.fromString("bf9a55de-a3b4-4a7b-8435-8fdb73759cb7"));
+        Mockito.verify(projectApi, Mockito.times(1))
+            .findProjectById(UUID.fromString("42f73e88-dd3e-46e2-b1e5-33cc990eb84a"));
     }
 
     /**
@@ -167,6 +174,113 @@ public class InvitationFindIntegrationTest extends BaseInvitationIntegrationTest
         }
     }
 
+    /**
+     * Тест постраничного поиска входящих приглашений по курсору.
+     * Приглашения созданы одним запросом с одинаковым created_at,
+     * поэтому их порядок определяется идентификатором.
+     */
+    @Test
+    @DisplayName("Тест постраничного поиска входящих приглашений по курсору")
+    public void findReceivedInvitationsPageTest() {
+        String invitedUserUsername = "invitedUser";
+        UserTo invitedUserTo = userMapper.mapFromEntity(findUserByUsername(invitedUserUsername));
+        securityTestUtil.securityContextHelper(invitedUserTo);
+
+        Mockito.when(userApi.findUserByUsername(invitedUserUsername))
+            .thenReturn(invitedUserTo);
+        Mockito.when(projectApi.findProjectById(Mockito.any()))
+            .thenReturn(ProjectTo.builder()
+                .id(UUID.randomUUID())
+                .name("Existing project")
+                .build());
+
+        InvitationPageTo firstPage = findInvitationsPageAndGetResponse("/invitation/received/page",
+            null).as(InvitationPageTo.class);
+
+        Assertions.assertEquals(1, firstPage.getItems().size());
+        Assertions.assertEquals(UUID.fromString("b2308466-ee4b-4137-8cd7-6a8226b53525"),
+            firstPage.getItems().get(0).getId());
+        Assertions.assertNotNull(firstPage.getNextCursor());
+        Mockito.verify(projectApi, Mockito.times(1)).findProjectById(Mockito.any());
+
+        InvitationPageTo secondPage = findInvitationsPageAndGetResponse("/invitation/received/page",
+            firstPage.getNextCursor()).as(InvitationPageTo.class);
+
+        Assertions.assertEquals(1, secondPage.getItems().size());
+        Assertions.assertEquals(UUID.fromString("625c0921-e767-4269-a98c-d9ff571bbb8c"),
+            secondPage.getItems().get(0).getId());
+        Assertions.assertNull(secondPage.getNextCursor());
+        Mockito.verify(projectApi, Mockito.times(2)).findProjectById(Mockito.any());
+    }
+
+    /**
+     * Тест постраничного поиска исходящих приглашений одной страницей.
+     */
+    @Test
+    @DisplayName("Тест постраничного поиска исходящих приглашений одной страницей")
+    public void findSentInvitationsSinglePageTest() {
+        String invitationSenderUsername = "invitationSender";
+        UserTo invitationSenderTo = userMapper
+            .mapFromEntity(findUserByUsername(invitationSenderUsername));
+        securityTestUtil.securityContextHelper(invitationSenderTo);
+
+        Mockito.when(userApi.findUserByUsername(invitationSenderUsername))
+            .thenReturn(invitationSenderTo);
+        Mockito.when(projectApi.findProjectById(Mockito.any()))
+            .thenReturn(ProjectTo.builder()
+                .id(UUID.randomUUID())
+                .name("Existing project")
+                .build());
+
+        InvitationPageTo page = RestAssured
+            .given()
+            .header(new Header(HttpHeaders.AUTHORIZATION, securityTestUtil.authHeader()))
+            .queryParam("limit", 10)
+            .when()
+            .get("/invitation/sent/page")
+            .as(InvitationPageTo.class);
+
+        Assertions.assertEquals(2, page.getItems().size());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    /**
+     * Тест постраничного поиска с поврежденным курсором.
+     */
+    @Test
+    @DisplayName("Тест постраничного поиска с поврежденным курсором")
+    public void invalidCursorTest() {
+        String invitedUserUsername = "invitedUser";
+        UserTo invitedUserTo = userMapper.mapFromEntity(findUserByUsername(invitedUserUsername));
+        securityTestUtil.securityContextHelper(invitedUserTo);
+        Mockito.when(userApi.findUserByUsername(invitedUserUsername))
+            .thenReturn(invitedUserTo);
+
+        Response response = findInvitationsPageAndGetResponse("/invitation/received/page",
+            "not-a-cursor");
+
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST.value(), response.getStatusCode());
+        Mockito.verifyNoInteractions(projectApi);
+    }
+
+    /**
+     * Отправить запрос на получение страницы приглашений размером 1.
+     *
+     * @param path   - путь запроса
+     * @param cursor - курсор страницы или null для первой страницы
+     * @return ответ
+     */
+    private Response findInvitationsPageAndGetResponse(final String path, final String cursor) {
+        var request = RestAssured
+            .given()
+            .header(new Header(HttpHeaders.AUTHORIZATION, securityTestUtil.authHeader()))
+            .queryParam("limit", 1);
+        if (cursor != null) {
+            request.queryParam("cursor", cursor);
+        }
+        return request.when().get(path);
+    }
+
     /**
      * Отправить запрос на получение всех входящих приглашений в проекты.
      *
@@ -107,13 +107,14 @@ public class InvitationRejectIntegrationTest extends BaseInvitationIntegrationTe
         Assertions.assertEquals(OperationStatus.OK, operationResultTo.getStatus());
         Assertions.assertEquals(rejectedInvitation.getId(), operationResultTo.getInvitationId());
 
-        invitedUserEntity = findUserByUsername(invitedUserUsername);
+        invitedUserEntity = findUserWithInvitationsByUsername(invitedUserUsername);
         Assertions.assertEquals(1, invitedUserEntity.getInvitations().size());
         Assertions.assertEquals(UUID.fromString("b2308466-ee4b-4137-8cd7-6a8226b53525"),
             invitedUserEntity.getInvitations().get(0).getId());
 
         String invitationSenderUsername = "invitationSender";
-        UserEntity invitationSender = findUserByUsername(invitationSenderUsername);
+        UserEntity invitationSender = findUserWithSentInvitationsByUsername(
+            invitationSenderUsername);
         Assertions.assertEquals(1, invitationSender.getSentInvitations().size());
         Assertions.assertEquals(UUID.fromString("b2308466-ee4b-4137-8cd7-6a8226b53525"),
             invitationSender.getSentInvitations().get(0).getId());
@@ -0,0 +1,303 @@
+package heavenboards.user.service.invitation.integration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import feign.FeignException;
+import heavenboards.user.service.project.domain.ProjectMembershipOutboxEntity;
+import heavenboards.user.service.project.domain.ProjectMembershipOutboxRepository;
+import heavenboards.user.service.project.outbox.ProjectMembershipDispatcher;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.mapping.UserMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.Header;
+import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import security.service.util.test.SecurityTestUtil;
+import transfer.contract.api.ProjectApi;
+import transfer.contract.api.UserApi;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.invitation.InvitationOperationResultTo;
+import transfer.contract.domain.invitation.InvitationTo;
+import transfer.contract.domain.project.ProjectTo;
+import transfer.contract.domain.user.UserTo;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Интеграционные тесты вызовов сервиса проектов вне транзакции.
+ * Медленный mock сервиса проектов замеряет количество занятых соединений пула
+ * во время вызова: ни одно соединение не должно удерживаться.
+ */
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/invitation/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class InvitationRemoteCallIntegrationTest extends BaseInvitationIntegrationTest {
+    /**
+     * Задержка ответа mock сервиса проектов в миллисекундах.
+     */
+    private static final long REMOTE_CALL_DELAY_MILLIS = 300;
+
+    /**
+     * Приглашение invitedUser в проект bf9a55de-... из sql/invitation/create.sql.
+     */
+    private static final UUID INVITATION_ID =
+        UUID.fromString("625c0921-e767-4269-a98c-d9ff571bbb8c");
+
+    /**
+     * Проект приглашения INVITATION_ID.
+     */
+    private static final UUID PROJECT_ID =
+        UUID.fromString("bf9a55de-a3b4-4a7b-8435-8fdb73759cb7");
+
+    /**
+     * Utility-класс с настройкой security для тестов.
+     */
+    @Autowired
+    private SecurityTestUtil securityTestUtil;
+
+    /**
+     * Mock api-клиента для сервиса пользователей.
+     */
+    @MockBean
+    private UserApi userApi;
+
+    /**
+     * Mock api-клиента для сервиса проектов.
+     */
+    @MockBean
+    private ProjectApi projectApi;
+
+    /**
+     * Диспетчер outbox добавления пользователей в проекты.
+     */
+    @Autowired
+    private ProjectMembershipDispatcher projectMembershipDispatcher;
+
+    /**
+     * Репозиторий для outbox добавления пользователей в проекты.
+     */
+    @Autowired
+    private ProjectMembershipOutboxRepository outboxRepository;
+
+    /**
+     * Маппер для пользователей.
+     */
+    @Autowired
+    private UserMapper userMapper;
+
+    /**
+     * Источник данных приложения.
+     */
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Статистика пула соединений.
+     */
+    private HikariPoolMXBean pool;
+
+    /**
+     * Количество занятых соединений, замеренное во время вызовов сервиса проектов.
+     */
+    private final List<Integer> activeConnectionsDuringRemoteCalls = new CopyOnWriteArrayList<>();
+
+    /**
+     * Конфигурация перед тестами.
+     *
+     * @throws SQLException - если источник данных не является пулом Hikari
+     */
+    @BeforeAll
+    public void init() throws SQLException {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1";
+        RestAssured.defaultParser = Parser.JSON;
+        pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+
+    /**
+     * Очистка замеров перед каждым тестом.
+     */
+    @BeforeEach
+    public void clearMeasurements() {
+        activeConnectionsDuringRemoteCalls.clear();
+    }
+
+    /**
+     * Тест создания приглашения с медленным сервисом проектов.
+     */
+    @Test
+    @DisplayName("Тест создания приглашения с медленным сервисом проектов")
+    public void createInvitationDoesNotHoldConnectionTest() {
+        authenticate("invitationSender");
+        UUID projectId = UUID.randomUUID();
+        Mockito.when(projectApi.findProjectById(projectId))
+            .thenAnswer(slowRemoteCall(project(projectId)));
+
+        InvitationOperationResultTo operationResult = RestAssured
+            .given()
+            .contentType("application/json")
+            .header(new Header(HttpHeaders.AUTHORIZATION, securityTestUtil.authHeader()))
+            .body(InvitationTo.builder()
+                .invitedUser(UserTo.builder()
+                    .id(findUserByUsername("invitedUser").getId())
+                    .build())
+                .project(project(projectId))
+                .build())
+            .when()
+            .post("/invitation")
+            .getBody()
+            .as(InvitationOperationResultTo.class);
+
+        Assertions.assertEquals(OperationStatus.OK, operationResult.getStatus());
+        Assertions.assertEquals(List.of(0), activeConnectionsDuringRemoteCalls);
+    }
+
+    /**
+     * Тест подтверждения приглашения с медленным сервисом проектов.
+     * Подтверждение не обращается к сервису проектов, диспетчер outbox
+     * обращается к нему вне транзакции.
+     */
+    @Test
+    @DisplayName("Тест подтверждения приглашения с медленным сервисом проектов")
+    public void acceptInvitationDoesNotHoldConnectionTest() {
+        authenticate("invitedUser");
+        Mockito.when(projectApi.findProjectById(PROJECT_ID))
+            .thenAnswer(slowRemoteCall(project(PROJECT_ID)));
+        Mockito.doAnswer(slowRemoteCall(null))
+            .when(projectApi).updateProject(Mockito.any());
+
+        InvitationOperationResultTo operationResult = acceptInvitation()
+            .getBody()
+            .as(InvitationOperationResultTo.class);
+
+        Assertions.assertEquals(OperationStatus.OK, operationResult.getStatus());
+        Assertions.assertFalse(invitationRepository.existsById(INVITATION_ID));
+        Assertions.assertEquals(List.of(), activeConnectionsDuringRemoteCalls);
+
+        projectMembershipDispatcher.dispatch();
+        Assertions.assertEquals(List.of(0, 0), activeConnectionsDuringRemoteCalls);
+        Assertions.assertEquals(0, outboxRepository.count());
+    }
+
+    /**
+     * Тест повторной доставки, если сервис проектов не обновил проект.
+     */
+    @Test
+    @DisplayName("Тест повторной доставки, если сервис проектов не обновил проект")
+    public void failedProjectUpdateIsRetriedTest() {
+        authenticate("invitedUser");
+        Mockito.when(projectApi.findProjectById(PROJECT_ID))
+            .thenReturn(project(PROJECT_ID));
+        Mockito.doThrow(FeignException.FeignServerException.class)
+            .when(projectApi).updateProject(Mockito.any());
+
+        acceptInvitation();
+        projectMembershipDispatcher.dispatch();
+
+        Assertions.assertFalse(invitationRepository.existsById(INVITATION_ID));
+        ProjectMembershipOutboxEntity entry = outboxRepository.findAll().get(0);
+        Assertions.assertEquals(INVITATION_ID, entry.getInvitationId());
+        Assertions.assertEquals(1, entry.getAttempts());
+        Assertions.assertFalse(entry.isFailed());
+        Assertions.assertTrue(entry.getNextAttemptAt().isAfter(ZonedDateTime.now()));
+
+        // Следующая попытка отложена, поэтому повторный проход записей не берет
+        Assertions.assertEquals(0, projectMembershipDispatcher.dispatch());
+    }
+
+    /**
+     * Ответ mock сервиса проектов, который замеряет занятые соединения и отвечает с задержкой.
+     *
+     * @param result - результат вызова
+     * @param <T>    - тип результата
+     * @return ответ mock
+     */
+    private <T> Answer<T> slowRemoteCall(final T result) {
+        return invocation -> {
+            activeConnectionsDuringRemoteCalls.add(pool.getActiveConnections());
+            Thread.sleep(REMOTE_CALL_DELAY_MILLIS);
+            return result;
+        };
+    }
+
+    /**
+     * Аутентифицировать пользователя из тестовых данных.
+     *
+     * @param username - username
+     */
+    private void authenticate(final String username) {
+        UserEntity userEntity = findUserByUsername(username);
+        UserTo userTo = userMapper.mapFromEntity(userEntity);
+        securityTestUtil.securityContextHelper(userTo);
+        Mockito.when(userApi.findUserByUsername(username))
+            .thenReturn(userTo);
+    }
+
+    /**
+     * Проект с идентификатором.
+     *
+     * @param projectId - идентификатор проекта
+     * @return проект
+     */
+    private ProjectTo project(final UUID projectId) {
+        return ProjectTo.builder()
+            .id(projectId)
+            .name("Existing project")
+            .build();
+    }
+
+    /**
+     * Отправить запрос на подтверждение приглашения INVITATION_ID.
+     *
+     * @return ответ
+     */
+    private Response acceptInvitation() {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .header(new Header(HttpHeaders.AUTHORIZATION, securityTestUtil.authHeader()))
+            .body(InvitationTo.builder()
+                .id(INVITATION_ID)
+                .project(project(PROJECT_ID))
+                .build())
+            .when()
+            .post("/invitation/accept");
+    }
+}
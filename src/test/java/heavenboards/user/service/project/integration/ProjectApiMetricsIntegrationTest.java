@@ -0,0 +1,159 @@
+package heavenboards.user.service.project.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import transfer.contract.api.ProjectApi;
+import transfer.contract.domain.project.ProjectTo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.UUID;
+
+/**
+ * Интеграционные тесты метрик вызовов сервиса проектов.
+ * Вызывается настоящий feign-клиент {@link ProjectApi}, направленный в http-заглушку,
+ * и проверяется метрика, которую он публикует.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ProjectApiMetricsIntegrationTest {
+    /**
+     * Имя метрики исходящих http-вызовов feign-клиентов.
+     */
+    private static final String CLIENT_REQUESTS_TIMER = "http.client.requests";
+
+    /**
+     * Http-заглушка сервиса проектов.
+     */
+    private static final HttpServer PROJECT_SERVICE = createServer();
+
+    /**
+     * Api-клиент для сервиса проектов.
+     */
+    @Autowired
+    private ProjectApi projectApi;
+
+    /**
+     * Реестр метрик.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Маппер для ответов заглушки.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Направить feign-клиент сервиса проектов в заглушку.
+     *
+     * @param registry - реестр свойств
+     */
+    @DynamicPropertySource
+    public static void projectServiceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("microservice.project-api.url", () ->
+            "http://localhost:" + PROJECT_SERVICE.getAddress().getPort());
+    }
+
+    /**
+     * Запуск заглушки сервиса проектов.
+     */
+    @BeforeAll
+    public void startProjectService() {
+        PROJECT_SERVICE.createContext("/", this::handle);
+        PROJECT_SERVICE.start();
+    }
+
+    /**
+     * Остановка заглушки сервиса проектов.
+     */
+    @AfterAll
+    public void stopProjectService() {
+        PROJECT_SERVICE.stop(0);
+    }
+
+    /**
+     * Тест метрики вызова сервиса проектов.
+     */
+    @Test
+    @DisplayName("Тест метрики вызова сервиса проектов")
+    public void projectApiCallIsTimedTest() {
+        long before = clientRequestsCount();
+        UUID projectId = UUID.randomUUID();
+
+        ProjectTo project = projectApi.findProjectById(projectId);
+
+        Assertions.assertEquals(projectId, project.getId());
+        Assertions.assertTrue(clientRequestsCount() >= before + 1);
+        Assertions.assertTrue(meterRegistry.get(CLIENT_REQUESTS_TIMER).timers().stream()
+            .anyMatch(timer -> timer.takeSnapshot().histogramCounts().length > 0));
+    }
+
+    /**
+     * Количество замеров исходящих http-вызовов по всем тегам.
+     *
+     * @return количество замеров
+     */
+    private long clientRequestsCount() {
+        return meterRegistry.find(CLIENT_REQUESTS_TIMER).timers().stream()
+            .mapToLong(Timer::count)
+            .sum();
+    }
+
+    /**
+     * Обработать запрос к заглушке сервиса проектов: вернуть проект с запрошенным
+     * идентификатором.
+     *
+     * @param exchange - запрос и ответ
+     * @throws IOException - ошибка записи ответа
+     */
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            byte[] body = objectMapper.writeValueAsBytes(ProjectTo.builder()
+                .id(UUID.fromString(path.substring(path.lastIndexOf('/') + 1)))
+                .name("Existing project")
+                .build());
+
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    /**
+     * Создать заглушку сервиса проектов на свободном порту.
+     *
+     * @return незапущенная заглушка
+     */
+    private static HttpServer createServer() {
+        try {
+            return HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
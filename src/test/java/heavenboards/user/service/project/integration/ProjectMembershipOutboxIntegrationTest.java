@@ -0,0 +1,276 @@
+package heavenboards.user.service.project.integration;
+
+import feign.FeignException;
+import heavenboards.user.service.project.domain.ProjectMembershipOutboxEntity;
+import heavenboards.user.service.project.domain.ProjectMembershipOutboxRepository;
+import heavenboards.user.service.project.outbox.ProjectMembershipDispatcher;
+import heavenboards.user.service.project.outbox.ProjectMembershipOutboxProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.api.ProjectApi;
+import transfer.contract.api.UserApi;
+import transfer.contract.domain.project.ProjectTo;
+import transfer.contract.domain.user.UserTo;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Интеграционные тесты доставки outbox добавления пользователей в проекты.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/invitation/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class ProjectMembershipOutboxIntegrationTest {
+    /**
+     * Пользователь invitedUser из sql/invitation/create.sql.
+     */
+    private static final UUID INVITED_USER_ID =
+        UUID.fromString("e8e20bfc-0d9c-49e7-b30f-1a6abf3b2795");
+
+    /**
+     * Пользователь invitationSender из sql/invitation/create.sql.
+     */
+    private static final UUID INVITATION_SENDER_ID =
+        UUID.fromString("2baed0f0-49b2-43fa-bec2-c3b4af8b2918");
+
+    /**
+     * Диспетчер outbox.
+     */
+    @Autowired
+    private ProjectMembershipDispatcher dispatcher;
+
+    /**
+     * Репозиторий для outbox.
+     */
+    @Autowired
+    private ProjectMembershipOutboxRepository outboxRepository;
+
+    /**
+     * Настройки доставки.
+     */
+    @Autowired
+    private ProjectMembershipOutboxProperties properties;
+
+    /**
+     * Реестр метрик.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Mock api-клиента для сервиса пользователей.
+     */
+    @MockBean
+    private UserApi userApi;
+
+    /**
+     * Mock api-клиента для сервиса проектов.
+     */
+    @MockBean
+    private ProjectApi projectApi;
+
+    /**
+     * Тест объединения записей одного проекта в одно обновление.
+     */
+    @Test
+    @DisplayName("Тест объединения записей одного проекта в одно обновление")
+    public void entriesOfOneProjectAreCoalescedTest() {
+        ProjectTo project = existingProject();
+        outboxRepository.save(entry(project.getId(), INVITED_USER_ID, ZonedDateTime.now()));
+        outboxRepository.save(entry(project.getId(), INVITATION_SENDER_ID, ZonedDateTime.now()));
+        double dispatchedBefore = counter("project.membership.outbox.dispatched");
+
+        Assertions.assertEquals(2, dispatcher.dispatch());
+
+        ArgumentCaptor<ProjectTo> updatedProject = ArgumentCaptor.forClass(ProjectTo.class);
+        Mockito.verify(projectApi, Mockito.times(1)).findProjectById(project.getId());
+        Mockito.verify(projectApi, Mockito.times(1)).updateProject(updatedProject.capture());
+        Assertions.assertEquals(2, updatedProject.getValue().getUsers().size());
+        Assertions.assertEquals(0, outboxRepository.count());
+        Assertions.assertEquals(2, counter("project.membership.outbox.dispatched")
+            - dispatchedBefore);
+    }
+
+    /**
+     * Тест повторной доставки пользователя, который уже состоит в проекте.
+     */
+    @Test
+    @DisplayName("Тест повторной доставки пользователя, который уже состоит в проекте")
+    public void existingMemberIsNotAddedTwiceTest() {
+        ProjectTo project = existingProject();
+        project.getUsers().add(UserTo.builder().id(INVITED_USER_ID).build());
+        outboxRepository.save(entry(project.getId(), INVITED_USER_ID, ZonedDateTime.now()));
+        outboxRepository.save(entry(project.getId(), INVITATION_SENDER_ID, ZonedDateTime.now()));
+
+        Assertions.assertEquals(2, dispatcher.dispatch());
+
+        ArgumentCaptor<ProjectTo> updatedProject = ArgumentCaptor.forClass(ProjectTo.class);
+        Mockito.verify(projectApi, Mockito.times(1)).updateProject(updatedProject.capture());
+        Assertions.assertEquals(List.of(INVITED_USER_ID, INVITATION_SENDER_ID),
+            updatedProject.getValue().getUsers().stream()
+                .map(UserTo::getId)
+                .toList());
+        Assertions.assertEquals(0, outboxRepository.count());
+    }
+
+    /**
+     * Тест повторной доставки, когда все пользователи уже состоят в проекте.
+     */
+    @Test
+    @DisplayName("Тест повторной доставки, когда все пользователи уже состоят в проекте")
+    public void projectIsNotUpdatedWhenAllAreMembersTest() {
+        ProjectTo project = existingProject();
+        project.getUsers().add(UserTo.builder().id(INVITED_USER_ID).build());
+        outboxRepository.save(entry(project.getId(), INVITED_USER_ID, ZonedDateTime.now()));
+
+        Assertions.assertEquals(1, dispatcher.dispatch());
+
+        Mockito.verify(projectApi, Mockito.never()).updateProject(Mockito.any());
+        Assertions.assertEquals(0, outboxRepository.count());
+    }
+
+    /**
+     * Тест остановки доставки после исчерпания попыток.
+     */
+    @Test
+    @DisplayName("Тест остановки доставки после исчерпания попыток")
+    public void entryIsMarkedFailedAfterMaxAttemptsTest() {
+        ProjectTo project = existingProject();
+        Mockito.doThrow(FeignException.FeignServerException.class)
+            .when(projectApi).updateProject(Mockito.any());
+        ProjectMembershipOutboxEntity entry = outboxRepository.save(
+            entry(project.getId(), INVITED_USER_ID, ZonedDateTime.now())
+                .setAttempts(properties.getMaxAttempts() - 1));
+
+        dispatcher.dispatch();
+
+        ProjectMembershipOutboxEntity failedEntry = outboxRepository.findById(entry.getId())
+            .orElseThrow();
+        Assertions.assertTrue(failedEntry.isFailed());
+        Assertions.assertEquals(properties.getMaxAttempts(), failedEntry.getAttempts());
+        Assertions.assertEquals(1, gauge("project.membership.outbox.dead"));
+        Assertions.assertEquals(0, gauge("project.membership.outbox.pending"));
+    }
+
+    /**
+     * Тест остановки доставки в несуществующий проект.
+     */
+    @Test
+    @DisplayName("Тест остановки доставки в несуществующий проект")
+    public void entryOfMissingProjectIsMarkedFailedTest() {
+        UUID projectId = UUID.randomUUID();
+        Mockito.when(projectApi.findProjectById(projectId))
+            .thenThrow(FeignException.NotFound.class);
+        ProjectMembershipOutboxEntity entry = outboxRepository.save(
+            entry(projectId, INVITED_USER_ID, ZonedDateTime.now()));
+
+        dispatcher.dispatch();
+
+        ProjectMembershipOutboxEntity failedEntry = outboxRepository.findById(entry.getId())
+            .orElseThrow();
+        Assertions.assertTrue(failedEntry.isFailed());
+        Assertions.assertEquals(1, failedEntry.getAttempts());
+        Mockito.verify(projectApi, Mockito.never()).updateProject(Mockito.any());
+    }
+
+    /**
+     * Тест метрики отставания доставки.
+     */
+    @Test
+    @DisplayName("Тест метрики отставания доставки")
+    public void lagIsReportedForPendingEntriesTest() {
+        UUID projectId = UUID.randomUUID();
+        Mockito.when(projectApi.findProjectById(projectId))
+            .thenThrow(FeignException.FeignClientException.class);
+        outboxRepository.save(entry(projectId, INVITED_USER_ID,
+            ZonedDateTime.now().minusHours(1)));
+
+        dispatcher.dispatch();
+
+        Assertions.assertEquals(1, gauge("project.membership.outbox.pending"));
+        Assertions.assertTrue(gauge("project.membership.outbox.lag") >= 3600);
+    }
+
+    /**
+     * Существующий проект, который возвращает mock сервиса проектов.
+     *
+     * @return проект
+     */
+    private ProjectTo existingProject() {
+        ProjectTo project = ProjectTo.builder()
+            .id(UUID.randomUUID())
+            .name("Existing project")
+            .build();
+        Mockito.when(projectApi.findProjectById(project.getId()))
+            .thenReturn(project);
+        return project;
+    }
+
+    /**
+     * Запись outbox, готовая к доставке.
+     *
+     * @param projectId - идентификатор проекта
+     * @param userId    - идентификатор пользователя
+     * @param createdAt - время создания записи
+     * @return запись outbox
+     */
+    private ProjectMembershipOutboxEntity entry(final UUID projectId,
+                                                final UUID userId,
+                                                final ZonedDateTime createdAt) {
+        return ProjectMembershipOutboxEntity.builder()
+            .id(UUID.randomUUID())
+            .projectId(projectId)
+            .userId(userId)
+            .invitationId(UUID.randomUUID())
+            .createdAt(createdAt)
+            .nextAttemptAt(createdAt)
+            .build();
+    }
+
+    /**
+     * Значение счетчика.
+     *
+     * @param name - название метрики
+     * @return значение
+     */
+    private double counter(final String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    /**
+     * Значение gauge.
+     *
+     * @param name - название метрики
+     * @return значение
+     */
+    private double gauge(final String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
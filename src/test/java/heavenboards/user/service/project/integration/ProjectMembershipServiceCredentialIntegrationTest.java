@@ -0,0 +1,339 @@
+package heavenboards.user.service.project.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import heavenboards.user.service.project.client.ServiceCredentialInterceptor;
+import heavenboards.user.service.project.client.ServiceCredentialProperties;
+import heavenboards.user.service.project.domain.ProjectMembershipOutboxEntity;
+import heavenboards.user.service.project.domain.ProjectMembershipOutboxRepository;
+import heavenboards.user.service.project.outbox.ProjectMembershipDispatcher;
+import heavenboards.user.service.user.cache.UserInvalidatedEvent;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import security.service.jwt.JwtTokenExtractor;
+import transfer.contract.api.UserApi;
+import transfer.contract.domain.project.ProjectTo;
+import transfer.contract.domain.user.UserRole;
+import transfer.contract.domain.user.UserTo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Интеграционные тесты авторизации диспетчера outbox в сервисе проектов.
+ * Вместо mock используется настоящий feign-клиент и http-заглушка сервиса проектов,
+ * которая, как и настоящий сервис, отвечает 401 на запросы без действующего токена.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/invitation/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class ProjectMembershipServiceCredentialIntegrationTest {
+    /**
+     * Пользователь invitedUser из sql/invitation/create.sql.
+     */
+    private static final UUID INVITED_USER_ID =
+        UUID.fromString("e8e20bfc-0d9c-49e7-b30f-1a6abf3b2795");
+
+    /**
+     * Префикс токена в заголовке Authorization.
+     */
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * Http-заглушка сервиса проектов.
+     */
+    private static final HttpServer PROJECT_SERVICE = createServer();
+
+    /**
+     * Проекты, которые сервис проектов получил на обновление.
+     */
+    private final List<ProjectTo> updatedProjects = new CopyOnWriteArrayList<>();
+
+    /**
+     * Диспетчер outbox.
+     */
+    @Autowired
+    private ProjectMembershipDispatcher dispatcher;
+
+    /**
+     * Репозиторий для outbox.
+     */
+    @Autowired
+    private ProjectMembershipOutboxRepository outboxRepository;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Настройки учетных данных сервиса.
+     */
+    @Autowired
+    private ServiceCredentialProperties serviceCredentialProperties;
+
+    /**
+     * Авторизация вызовов от имени сервиса.
+     */
+    @Autowired
+    private ServiceCredentialInterceptor serviceCredentialInterceptor;
+
+    /**
+     * Извлечение данных из токена.
+     */
+    @Autowired
+    private JwtTokenExtractor tokenExtractor;
+
+    /**
+     * Маппер для ответов заглушки.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Mock api-клиента для сервиса пользователей.
+     */
+    @MockBean
+    private UserApi userApi;
+
+    /**
+     * Направить feign-клиент сервиса проектов в заглушку.
+     *
+     * @param registry - реестр свойств
+     */
+    @DynamicPropertySource
+    public static void projectServiceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("microservice.project-api.url", () ->
+            "http://localhost:" + PROJECT_SERVICE.getAddress().getPort());
+    }
+
+    /**
+     * Запуск заглушки сервиса проектов.
+     */
+    @BeforeAll
+    public void startProjectService() {
+        PROJECT_SERVICE.createContext("/", this::handle);
+        PROJECT_SERVICE.start();
+    }
+
+    /**
+     * Остановка заглушки сервиса проектов.
+     */
+    @AfterAll
+    public void stopProjectService() {
+        PROJECT_SERVICE.stop(0);
+    }
+
+    /**
+     * Очистка полученных обновлений и токена сервиса перед тестом,
+     * так как clear-all.sql не публикует событий.
+     */
+    @BeforeEach
+    public void clearUpdatedProjects() {
+        updatedProjects.clear();
+        serviceCredentialInterceptor.evict(new UserInvalidatedEvent(null,
+            serviceCredentialProperties.getUsername()));
+    }
+
+    /**
+     * Тест доставки с токеном служебного пользователя.
+     */
+    @Test
+    @DisplayName("Тест доставки с токеном служебного пользователя")
+    public void dispatcherAuthenticatesAsServiceTest() {
+        createServiceUser(UserRole.valueOf(serviceCredentialProperties.getRole()));
+        UUID projectId = UUID.randomUUID();
+        outboxRepository.save(entry(projectId));
+
+        Assertions.assertEquals(1, dispatcher.dispatch());
+
+        Assertions.assertEquals(1, updatedProjects.size());
+        ProjectTo updatedProject = updatedProjects.get(0);
+        Assertions.assertEquals(projectId, updatedProject.getId());
+        Assertions.assertEquals(List.of(INVITED_USER_ID), updatedProject.getUsers().stream()
+            .map(UserTo::getId)
+            .toList());
+        Assertions.assertEquals(0, outboxRepository.count());
+    }
+
+    /**
+     * Тест откладывания доставки, если у служебного пользователя нет роли сервиса.
+     */
+    @Test
+    @DisplayName("Тест откладывания доставки, если у служебного пользователя нет роли сервиса")
+    public void dispatchIsPostponedForServiceUserWithoutRoleTest() {
+        createServiceUser(UserRole.USER);
+        ProjectMembershipOutboxEntity entry = outboxRepository.save(entry(UUID.randomUUID()));
+
+        dispatcher.dispatch();
+
+        Assertions.assertEquals(List.of(), updatedProjects);
+        Assertions.assertEquals(1, outboxRepository.findById(entry.getId())
+            .orElseThrow()
+            .getAttempts());
+        Assertions.assertThrows(IllegalStateException.class,
+            serviceCredentialInterceptor::verifyServiceUser);
+    }
+
+    /**
+     * Тест откладывания доставки без служебного пользователя.
+     */
+    @Test
+    @DisplayName("Тест откладывания доставки без служебного пользователя")
+    public void dispatchIsPostponedWithoutServiceUserTest() {
+        ProjectMembershipOutboxEntity entry = outboxRepository.save(entry(UUID.randomUUID()));
+
+        dispatcher.dispatch();
+
+        Assertions.assertEquals(List.of(), updatedProjects);
+        ProjectMembershipOutboxEntity postponedEntry = outboxRepository.findById(entry.getId())
+            .orElseThrow();
+        Assertions.assertEquals(1, postponedEntry.getAttempts());
+        Assertions.assertFalse(postponedEntry.isFailed());
+    }
+
+    /**
+     * Обработать запрос к заглушке сервиса проектов. Запросы без токена служебного
+     * пользователя отклоняются, получение проекта возвращает пустой проект,
+     * обновление запоминается.
+     *
+     * @param exchange - запрос и ответ
+     * @throws IOException - ошибка чтения запроса или записи ответа
+     */
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!isServiceToken(exchange.getRequestHeaders()
+                .getFirst(HttpHeaders.AUTHORIZATION))) {
+                exchange.sendResponseHeaders(401, -1);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            byte[] body;
+            if ("GET".equals(exchange.getRequestMethod())) {
+                UUID projectId = UUID.fromString(path.substring(path.lastIndexOf('/') + 1));
+                body = objectMapper.writeValueAsBytes(ProjectTo.builder()
+                    .id(projectId)
+                    .name("Existing project")
+                    .build());
+            } else {
+                updatedProjects.add(objectMapper.readValue(exchange.getRequestBody(),
+                    ProjectTo.class));
+                body = "{}".getBytes(StandardCharsets.UTF_8);
+            }
+
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    /**
+     * Выпущен ли токен из заголовка для служебного пользователя.
+     *
+     * @param authorization - заголовок Authorization
+     * @return выпущен ли токен для служебного пользователя
+     */
+    private boolean isServiceToken(final String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+
+        try {
+            return Objects.equals(serviceCredentialProperties.getUsername(),
+                tokenExtractor.extractUsername(authorization.substring(BEARER_PREFIX.length())));
+        } catch (RuntimeException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Создать служебного пользователя.
+     *
+     * @param role - роль служебного пользователя
+     */
+    private void createServiceUser(final UserRole role) {
+        userRepository.save(UserEntity.builder()
+            .username(serviceCredentialProperties.getUsername())
+            .role(role)
+            .password("$2a$10$JqrceZDuA3g/h7dLuHbrD.GRoJKZdjmVcNvJunSbOsk1yxGOPtIie")
+            .firstName("User")
+            .lastName("Service")
+            .createdAt(ZonedDateTime.now())
+            .updatedAt(ZonedDateTime.now())
+            .build());
+    }
+
+    /**
+     * Запись outbox, готовая к доставке.
+     *
+     * @param projectId - идентификатор проекта
+     * @return запись outbox
+     */
+    private ProjectMembershipOutboxEntity entry(final UUID projectId) {
+        ZonedDateTime now = ZonedDateTime.now();
+        return ProjectMembershipOutboxEntity.builder()
+            .id(UUID.randomUUID())
+            .projectId(projectId)
+            .userId(INVITED_USER_ID)
+            .invitationId(UUID.randomUUID())
+            .createdAt(now)
+            .nextAttemptAt(now)
+            .build();
+    }
+
+    /**
+     * Создать заглушку сервиса проектов на свободном порту.
+     *
+     * @return незапущенная заглушка
+     */
+    private static HttpServer createServer() {
+        try {
+            return HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package heavenboards.user.service.user.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Реализация публикации инвалидации кэша пользователей в памяти для тестов.
+ * Запоминает опубликованные события вместо отправки на другие экземпляры.
+ */
+public class InMemoryUserCacheInvalidationPublisher implements UserCacheInvalidationPublisher {
+    /**
+     * Опубликованные события.
+     */
+    private final List<UserInvalidatedEvent> publishedEvents = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(final UserInvalidatedEvent event) {
+        publishedEvents.add(event);
+    }
+
+    /**
+     * Получить опубликованные события.
+     *
+     * @return опубликованные события
+     */
+    public List<UserInvalidatedEvent> getPublishedEvents() {
+        return List.copyOf(publishedEvents);
+    }
+
+    /**
+     * Очистить опубликованные события.
+     */
+    public void clear() {
+        publishedEvents.clear();
+    }
+}
@@ -0,0 +1,200 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.api.UserApi;
+import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+import transfer.contract.domain.user.UserTo;
+
+/**
+ * Интеграционные тесты определения пользователя по claims JWT-токена.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/invitation/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class JwtClaimsPrincipalIntegrationTest {
+    /**
+     * Username пользователя из sql/invitation/create.sql.
+     */
+    private static final String USERNAME = "invitedUser";
+
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Фабрика EntityManager для доступа к статистике hibernate.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Реестр метрик.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Mock api-клиента для сервиса пользователей.
+     */
+    @MockBean
+    private UserApi userApi;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1";
+    }
+
+    /**
+     * Тест запроса без загрузки пользователя на каждый запрос.
+     */
+    @Test
+    @DisplayName("Тест запроса без загрузки пользователя на каждый запрос")
+    public void principalFromClaimsTest() {
+        String token = authenticateAndGetToken();
+        Assertions.assertEquals(HttpStatus.OK.value(), findSentInvitations(token).getStatusCode());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Response response = findSentInvitations(token);
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertTrue(response.jsonPath().getList(".").isEmpty());
+        // Только загрузка приглашений, пользователь уже проверен в пределах интервала
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Mockito.verify(userApi, Mockito.never())
+            .findUserByUsername(ArgumentMatchers.anyString());
+    }
+
+    /**
+     * Тест проверки подписи токена только при первом предъявлении.
+     */
+    @Test
+    @DisplayName("Тест проверки подписи токена только при первом предъявлении")
+    public void verifiedTokenIsCachedTest() {
+        String token = authenticateAndGetToken();
+        double hitsBefore = verifiedTokenCacheGets("hit");
+        double missesBefore = verifiedTokenCacheGets("miss");
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(HttpStatus.OK.value(),
+                findSentInvitations(token).getStatusCode());
+        }
+
+        Assertions.assertEquals(missesBefore + 1, verifiedTokenCacheGets("miss"));
+        Assertions.assertEquals(hitsBefore + 2, verifiedTokenCacheGets("hit"));
+    }
+
+    /**
+     * Тест повторной проверки пользователя после блокировки.
+     */
+    @Test
+    @DisplayName("Тест повторной проверки пользователя после блокировки")
+    public void lockedUserIsRevalidatedTest() {
+        String token = authenticateAndGetToken();
+        Assertions.assertEquals(HttpStatus.OK.value(), findSentInvitations(token).getStatusCode());
+
+        UserEntity user = userRepository.findByUsername(USERNAME).orElseThrow();
+        userRepository.save(user.setAccountNonLocked(false));
+
+        Assertions.assertEquals(HttpStatus.UNAUTHORIZED.value(),
+            findSentInvitations(token).getStatusCode());
+    }
+
+    /**
+     * Аутентифицировать invitedUser и получить access-токен.
+     *
+     * @return access-токен
+     */
+    private String authenticateAndGetToken() {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .body(UserTo.builder()
+                .username(USERNAME)
+                .password("pAssw0rd123!")
+                .build())
+            .when()
+            .post("/auth/authenticate")
+            .getBody()
+            .as(AuthenticationOperationResultTo.class)
+            .getToken();
+    }
+
+    /**
+     * Количество обращений к кэшу проверенных токенов.
+     *
+     * @param result - hit или miss
+     * @return количество обращений
+     */
+    private double verifiedTokenCacheGets(final String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", "auth.verified-tokens")
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+
+    /**
+     * Найти отправленные приглашения.
+     *
+     * @param token - access-токен
+     * @return ответ
+     */
+    private Response findSentInvitations(final String token) {
+        return RestAssured
+            .given()
+            .header(new Header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+            .when()
+            .get("/invitation/sent");
+    }
+}
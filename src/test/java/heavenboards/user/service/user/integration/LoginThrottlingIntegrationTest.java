@@ -0,0 +1,252 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.authentication.throttling.LoginThrottle;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.user.UserTo;
+
+/**
+ * Интеграционный тест ограничения попыток входа.
+ * Запросы приходят с доверенного локального адреса, поэтому каждый тест задает
+ * свой адрес клиента в X-Forwarded-For и не расходует лимиты других тестов.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+    "auth.throttling.username-limit=3",
+    "auth.throttling.address-limit=6",
+    "auth.throttling.window=10m",
+    "auth.throttling.forwarded-header=X-Forwarded-For",
+    "auth.throttling.trusted-proxies=127.0.0.1,0:0:0:0:0:0:0:1"
+})
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class LoginThrottlingIntegrationTest {
+    /**
+     * Правильный пароль пользователя registeredUser из sql/user/create.sql.
+     */
+    private static final String VALID_PASSWORD = "pAssw0rd123!";
+
+    /**
+     * Неправильный пароль.
+     */
+    private static final String WRONG_PASSWORD = "wrongPassw0rd!";
+
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Фабрика EntityManager для доступа к статистике hibernate.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Реестр метрик.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Ограничение попыток входа.
+     */
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1/auth";
+    }
+
+    /**
+     * Сброс счетчика registeredUser, чтобы тесты не зависели от порядка запуска.
+     */
+    @BeforeEach
+    public void resetUsernameBudget() {
+        loginThrottle.succeeded("registeredUser", null);
+    }
+
+    /**
+     * Тест отказа во входе сверх лимитов по username и по адресу.
+     */
+    @Test
+    @DisplayName("Тест отказа во входе сверх лимитов по username и по адресу")
+    public void attemptsOverLimitAreRejectedTest() {
+        String address = "203.0.113.1";
+        double usernameThrottledBefore = throttled("username");
+        double addressThrottledBefore = throttled("address");
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(HttpStatus.OK.value(),
+                authenticateAndGetResponse("registeredUser", WRONG_PASSWORD, address)
+                    .getStatusCode());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Response throttledByUsername =
+            authenticateAndGetResponse("RegisteredUser", WRONG_PASSWORD, address);
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+            throttledByUsername.getStatusCode());
+        Assertions.assertNotNull(throttledByUsername.getHeader(HttpHeaders.RETRY_AFTER));
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+
+        // Пятая и шестая попытки с адреса укладываются в лимит, седьмая - нет
+        authenticateAndGetResponse("anotherUser1", WRONG_PASSWORD, address);
+        authenticateAndGetResponse("anotherUser2", WRONG_PASSWORD, address);
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+            authenticateAndGetResponse("anotherUser3", WRONG_PASSWORD, address)
+                .getStatusCode());
+
+        Assertions.assertEquals(1, throttled("username") - usernameThrottledBefore);
+        Assertions.assertEquals(1, throttled("address") - addressThrottledBefore);
+    }
+
+    /**
+     * Тест сброса лимита username после успешного входа.
+     */
+    @Test
+    @DisplayName("Тест сброса лимита username после успешного входа")
+    public void successfulAttemptResetsUsernameBudgetTest() {
+        String address = "203.0.113.2";
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertEquals(HttpStatus.OK.value(),
+                authenticateAndGetResponse("registeredUser", WRONG_PASSWORD, address)
+                    .getStatusCode());
+        }
+
+        Response response = authenticateAndGetResponse("registeredUser", VALID_PASSWORD, address);
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals(OperationStatus.OK, response.getBody()
+            .as(AuthenticationOperationResultTo.class).getStatus());
+
+        // Успешный вход сбросил счетчик username: снова доступны три неудачные попытки
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(HttpStatus.OK.value(),
+                authenticateAndGetResponse("registeredUser", WRONG_PASSWORD, address)
+                    .getStatusCode());
+        }
+    }
+
+    /**
+     * Тест того, что успешные входы не возвращают адресу неудачные попытки.
+     */
+    @Test
+    @DisplayName("Тест того, что успешные входы не возвращают адресу неудачные попытки")
+    public void successfulAttemptsDoNotRefundAddressBudgetTest() {
+        String address = "203.0.113.3";
+        double addressThrottledBefore = throttled("address");
+
+        // Подбор паролей к чужим аккаунтам вперемешку с входами в свой
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(HttpStatus.OK.value(),
+                authenticateAndGetResponse("stuffedUser" + i, WRONG_PASSWORD, address)
+                    .getStatusCode());
+            Assertions.assertEquals(HttpStatus.OK.value(),
+                authenticateAndGetResponse("registeredUser", VALID_PASSWORD, address)
+                    .getStatusCode());
+        }
+
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+            authenticateAndGetResponse("stuffedUser3", WRONG_PASSWORD, address)
+                .getStatusCode());
+        Assertions.assertEquals(1, throttled("address") - addressThrottledBefore);
+    }
+
+    /**
+     * Тест ограничения по адресу клиента из заголовка доверенного прокси.
+     */
+    @Test
+    @DisplayName("Тест ограничения по адресу клиента из заголовка доверенного прокси")
+    public void forwardedAddressIsThrottledTest() {
+        String address = "198.51.100.1";
+        for (int i = 0; i < 6; i++) {
+            Assertions.assertNotEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+                authenticateAndGetResponse("forwardedUser" + i, WRONG_PASSWORD, address)
+                    .getStatusCode());
+        }
+
+        // Адрес клиента - последний в цепочке, не являющийся доверенным прокси
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+            authenticateAndGetResponse("forwardedUser6", WRONG_PASSWORD,
+                "192.0.2.1, " + address + ", 127.0.0.1").getStatusCode());
+
+        // Другой клиент за тем же прокси не ограничен
+        Assertions.assertEquals(HttpStatus.OK.value(),
+            authenticateAndGetResponse("registeredUser", WRONG_PASSWORD, "198.51.100.2")
+                .getStatusCode());
+    }
+
+    /**
+     * Количество отклоненных попыток входа.
+     *
+     * @param key - ключ ограничения
+     * @return значение счетчика
+     */
+    private double throttled(final String key) {
+        return meterRegistry.get("login.throttled").tag("key", key).counter().count();
+    }
+
+    /**
+     * Аутентифицировать пользователя через прокси и получить ответ.
+     *
+     * @param username  - имя пользователя
+     * @param password  - пароль
+     * @param forwarded - значение X-Forwarded-For
+     * @return ответ
+     */
+    private Response authenticateAndGetResponse(final String username,
+                                                final String password,
+                                                final String forwarded) {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .header("X-Forwarded-For", forwarded)
+            .body(UserTo.builder()
+                .username(username)
+                .password(password)
+                .build())
+            .when()
+            .post("/authenticate");
+    }
+}
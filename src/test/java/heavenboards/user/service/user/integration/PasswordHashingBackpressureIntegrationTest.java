@@ -0,0 +1,186 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.authentication.hashing.PasswordHashingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.domain.user.UserTo;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Интеграционный тест отказа в хэшировании паролей при заполненном пуле.
+ * Пул из одного потока с очередью на одну задачу занимается задачами,
+ * которые ждут разрешения на завершение.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+    "password.hashing.threads=1",
+    "password.hashing.queue-capacity=1"
+})
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class PasswordHashingBackpressureIntegrationTest {
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Сервис хэширования паролей.
+     */
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    /**
+     * Реестр метрик.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Mock кодировщика паролей, задачи которого ждут разрешения на завершение.
+     */
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    /**
+     * Разрешение на завершение задач хэширования.
+     */
+    private CountDownLatch release;
+
+    /**
+     * Задачи, занимающие пул.
+     */
+    private List<CompletableFuture<String>> blockingTasks;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1";
+    }
+
+    /**
+     * Освобождение пула после теста.
+     */
+    @AfterEach
+    public void releasePool() {
+        release.countDown();
+        blockingTasks.forEach(CompletableFuture::join);
+    }
+
+    /**
+     * Тест быстрого отказа в аутентификации при заполненном пуле.
+     *
+     * @throws InterruptedException - если ожидание заполнения пула прервано
+     */
+    @Test
+    @DisplayName("Тест быстрого отказа в аутентификации при заполненном пуле")
+    public void saturatedPoolRejectsAuthenticationTest() throws InterruptedException {
+        saturatePool();
+        double rejectedBefore = meterRegistry.get("password.hashing.rejected").counter().count();
+
+        Response authentication = RestAssured
+            .given()
+            .contentType("application/json")
+            .body(UserTo.builder()
+                .username("registeredUser")
+                .password("pAssw0rd123!")
+                .build())
+            .when()
+            .post("/auth/authenticate");
+
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(),
+            authentication.getStatusCode());
+        Assertions.assertNotNull(authentication.getHeader(HttpHeaders.RETRY_AFTER));
+        Assertions.assertEquals(1, meterRegistry.get("password.hashing.rejected").counter()
+            .count() - rejectedBefore);
+    }
+
+    /**
+     * Тест чтения пользователя при заполненном пуле хэширования.
+     *
+     * @throws InterruptedException - если ожидание заполнения пула прервано
+     */
+    @Test
+    @DisplayName("Тест чтения пользователя при заполненном пуле хэширования")
+    public void saturatedPoolDoesNotBlockReadsTest() throws InterruptedException {
+        saturatePool();
+
+        Response response = RestAssured
+            .given()
+            .contentType("application/json")
+            .when()
+            .get("/user/registeredUser");
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertTrue(response.getTime() < TimeUnit.SECONDS.toMillis(1));
+    }
+
+    /**
+     * Занять единственный поток пула и единственное место в очереди.
+     *
+     * @throws InterruptedException - если ожидание прервано
+     */
+    private void saturatePool() throws InterruptedException {
+        release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Mockito.when(passwordEncoder.encode(Mockito.any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+
+        CompletableFuture<String> running = CompletableFuture
+            .supplyAsync(() -> passwordHashingService.encode("running"));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture
+            .supplyAsync(() -> passwordHashingService.encode("queued"));
+        blockingTasks = List.of(running, queued);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge()
+            .value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
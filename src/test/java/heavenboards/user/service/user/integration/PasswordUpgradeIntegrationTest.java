@@ -0,0 +1,217 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.authentication.credentials.VerifiedCredentialCache;
+import heavenboards.user.service.authentication.hashing.PasswordUpgradeService;
+import heavenboards.user.service.user.cache.UserInvalidatedEvent;
+import heavenboards.user.service.user.domain.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.user.UserTo;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Интеграционный тест перехэширования пароля после входа.
+ * Хэш из sql/user/create.sql имеет стоимость 10 и не имеет префикса,
+ * целевая стоимость в тесте - 4. Кэш проверенных учетных данных включен, чтобы проверить
+ * его сброс после массового обновления хэша.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+    "password.hashing.upgrade-enabled=true",
+    "password.hashing.target-cost=4",
+    "auth.credential-cache.enabled=true"
+})
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class PasswordUpgradeIntegrationTest {
+    /**
+     * Username пользователя из sql/user/create.sql.
+     */
+    private static final String USERNAME = "registeredUser";
+
+    /**
+     * Пароль пользователя registeredUser.
+     */
+    private static final String PASSWORD = "pAssw0rd123!";
+
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Кодировщик паролей.
+     */
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    /**
+     * Сервис перехэширования паролей.
+     */
+    @Autowired
+    private PasswordUpgradeService passwordUpgradeService;
+
+    /**
+     * Кэш проверенных учетных данных.
+     */
+    @Autowired
+    private VerifiedCredentialCache verifiedCredentialCache;
+
+    /**
+     * Реестр метрик.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1/auth";
+    }
+
+    /**
+     * Тест перехэширования пароля с другой стоимостью после входа.
+     *
+     * @throws InterruptedException - если ожидание перехэширования прервано
+     */
+    @Test
+    @DisplayName("Тест перехэширования пароля с другой стоимостью после входа")
+    public void outdatedHashIsUpgradedAfterLoginTest() throws InterruptedException {
+        passwordUpgradeService.refreshOutdatedCount();
+        Assertions.assertEquals(1, outdatedHashes());
+
+        Assertions.assertEquals(OperationStatus.OK, authenticate().getStatus());
+        String upgradedPassword = awaitPasswordWithPrefix("{bcrypt}$2a$04$");
+
+        Assertions.assertFalse(passwordEncoder.upgradeEncoding(upgradedPassword));
+        Assertions.assertEquals(OperationStatus.OK, authenticate().getStatus());
+
+        passwordUpgradeService.refreshOutdatedCount();
+        Assertions.assertEquals(0, outdatedHashes());
+    }
+
+    /**
+     * Очистка кэша после каждого теста, так как clear-all.sql не публикует событий.
+     */
+    @AfterEach
+    public void clearCache() {
+        verifiedCredentialCache.evict(new UserInvalidatedEvent(null, USERNAME));
+    }
+
+    /**
+     * Тест сброса закэшированных учетных данных после перехэширования пароля.
+     * Хэш обновляется запросом UPDATE мимо persistence context, поэтому без явной
+     * инвалидации в кэше остался бы пользователь со старым хэшем.
+     *
+     * @throws InterruptedException - если ожидание перехэширования прервано
+     */
+    @Test
+    @DisplayName("Тест сброса закэшированных учетных данных после перехэширования пароля")
+    public void upgradeEvictsCachedCredentialsTest() throws InterruptedException {
+        Assertions.assertEquals(OperationStatus.OK, authenticate().getStatus());
+        String upgradedPassword = awaitPasswordWithPrefix("{bcrypt}$2a$04$");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (verifiedCredentialCache.findVerified(USERNAME, PASSWORD).isPresent()
+            && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        Assertions.assertTrue(verifiedCredentialCache.findVerified(USERNAME, PASSWORD).isEmpty());
+
+        Assertions.assertEquals(OperationStatus.OK, authenticate().getStatus());
+
+        Assertions.assertEquals(upgradedPassword, verifiedCredentialCache
+            .findVerified(USERNAME, PASSWORD)
+            .orElseThrow()
+            .getPassword());
+    }
+
+    /**
+     * Аутентифицировать registeredUser.
+     *
+     * @return результат аутентификации
+     */
+    private AuthenticationOperationResultTo authenticate() {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .body(UserTo.builder()
+                .username(USERNAME)
+                .password(PASSWORD)
+                .build())
+            .when()
+            .post("/authenticate")
+            .getBody()
+            .as(AuthenticationOperationResultTo.class);
+    }
+
+    /**
+     * Дождаться сохранения хэша с префиксом.
+     *
+     * @param prefix - ожидаемый префикс хэша
+     * @return сохраненный хэш
+     * @throws InterruptedException - если ожидание прервано
+     */
+    private String awaitPasswordWithPrefix(final String prefix) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String password = userRepository.findByUsername(USERNAME).orElseThrow()
+            .getPassword();
+        while (!password.startsWith(prefix) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            password = userRepository.findByUsername(USERNAME).orElseThrow()
+                .getPassword();
+        }
+
+        Assertions.assertTrue(password.startsWith(prefix), password);
+        return password;
+    }
+
+    /**
+     * Значение метрики хэшей с устаревшими параметрами.
+     *
+     * @return количество хэшей
+     */
+    private double outdatedHashes() {
+        return meterRegistry.get("password.hashes.outdated").gauge().value();
+    }
+}
@@ -0,0 +1,240 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.authentication.controller.AuthenticationController;
+import heavenboards.user.service.authentication.domain.RefreshTokenEntity;
+import heavenboards.user.service.authentication.domain.RefreshTokenRepository;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserRepository;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import security.service.jwt.JwtTokenExtractor;
+import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.user.UserTo;
+
+import java.util.List;
+
+/**
+ * Интеграционные тесты обновления access-токена по refresh-токену.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class RefreshTokenIntegrationTest {
+    /**
+     * Username пользователя из sql/user/create.sql.
+     */
+    private static final String USERNAME = "registeredUser";
+
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Репозиторий для refresh-токенов.
+     */
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * Класс для извлечения данных из JWT-токенов.
+     */
+    @Autowired
+    private JwtTokenExtractor tokenExtractor;
+
+    /**
+     * Фабрика EntityManager для доступа к статистике hibernate.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1/auth";
+    }
+
+    /**
+     * Тест обновления access-токена одним запросом в базу.
+     */
+    @Test
+    @DisplayName("Тест обновления access-токена одним запросом в базу")
+    public void validRefreshTest() {
+        String refreshToken = authenticateAndGetRefreshToken();
+        List<RefreshTokenEntity> stored = refreshTokenRepository.findAll();
+        Assertions.assertEquals(1, stored.size());
+        Assertions.assertNotEquals(refreshToken, stored.get(0).getTokenHash());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Response response = refresh(refreshToken);
+        AuthenticationOperationResultTo result = response.getBody()
+            .as(AuthenticationOperationResultTo.class);
+        String rotatedToken = response.getHeader(AuthenticationController.REFRESH_TOKEN_HEADER);
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals(OperationStatus.OK, result.getStatus());
+        Assertions.assertEquals(USERNAME, tokenExtractor.extractUsername(result.getToken()));
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertNotNull(rotatedToken);
+        Assertions.assertNotEquals(refreshToken, rotatedToken);
+        Assertions.assertEquals(HttpStatus.OK.value(), refresh(rotatedToken).getStatusCode());
+    }
+
+    /**
+     * Тест отзыва семейства токенов при повторном использовании ротированного токена.
+     */
+    @Test
+    @DisplayName("Тест отзыва семейства токенов при повторном использовании ротированного токена")
+    public void reusedRefreshTokenRevokesFamilyTest() {
+        String refreshToken = authenticateAndGetRefreshToken();
+        String rotatedToken = refresh(refreshToken)
+            .getHeader(AuthenticationController.REFRESH_TOKEN_HEADER);
+
+        Assertions.assertEquals(HttpStatus.UNAUTHORIZED.value(),
+            refresh(refreshToken).getStatusCode());
+        Assertions.assertEquals(HttpStatus.UNAUTHORIZED.value(),
+            refresh(rotatedToken).getStatusCode());
+    }
+
+    /**
+     * Тест отзыва refresh-токена.
+     */
+    @Test
+    @DisplayName("Тест отзыва refresh-токена")
+    public void revokedRefreshTokenTest() {
+        String refreshToken = authenticateAndGetRefreshToken();
+
+        Response revokeResponse = RestAssured
+            .given()
+            .header(AuthenticationController.REFRESH_TOKEN_HEADER, refreshToken)
+            .when()
+            .post("/revoke");
+
+        Assertions.assertEquals(HttpStatus.NO_CONTENT.value(), revokeResponse.getStatusCode());
+        Assertions.assertEquals(HttpStatus.UNAUTHORIZED.value(),
+            refresh(refreshToken).getStatusCode());
+    }
+
+    /**
+     * Тест обновления токена заблокированного пользователя.
+     */
+    @Test
+    @DisplayName("Тест обновления токена заблокированного пользователя")
+    public void lockedAccountRefreshTest() {
+        String refreshToken = authenticateAndGetRefreshToken();
+        UserEntity user = userRepository.findByUsername(USERNAME).orElseThrow();
+        userRepository.save(user.setAccountNonLocked(false));
+
+        Assertions.assertEquals(HttpStatus.UNAUTHORIZED.value(),
+            refresh(refreshToken).getStatusCode());
+    }
+
+    /**
+     * Тест обновления по неизвестному токену.
+     */
+    @Test
+    @DisplayName("Тест обновления по неизвестному токену")
+    public void unknownRefreshTokenTest() {
+        Assertions.assertEquals(HttpStatus.UNAUTHORIZED.value(),
+            refresh("unknownRefreshToken").getStatusCode());
+    }
+
+    /**
+     * Тест входа без запроса refresh-токена.
+     */
+    @Test
+    @DisplayName("Тест входа без запроса refresh-токена")
+    public void refreshTokenIsNotIssuedUnlessRequestedTest() {
+        Response response = RestAssured
+            .given()
+            .contentType("application/json")
+            .body(UserTo.builder()
+                .username(USERNAME)
+                .password("pAssw0rd123!")
+                .build())
+            .when()
+            .post("/authenticate");
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertNull(response.getHeader(AuthenticationController.REFRESH_TOKEN_HEADER));
+        Assertions.assertEquals(0, refreshTokenRepository.count());
+    }
+
+    /**
+     * Аутентифицировать registeredUser и получить refresh-токен.
+     *
+     * @return refresh-токен
+     */
+    private String authenticateAndGetRefreshToken() {
+        Response response = RestAssured
+            .given()
+            .contentType("application/json")
+            .header(AuthenticationController.REQUEST_REFRESH_TOKEN_HEADER, "true")
+            .body(UserTo.builder()
+                .username(USERNAME)
+                .password("pAssw0rd123!")
+                .build())
+            .when()
+            .post("/authenticate");
+
+        String refreshToken = response.getHeader(AuthenticationController.REFRESH_TOKEN_HEADER);
+        Assertions.assertNotNull(refreshToken);
+        return refreshToken;
+    }
+
+    /**
+     * Обновить access-токен.
+     *
+     * @param refreshToken - refresh-токен
+     * @return ответ
+     */
+    private Response refresh(final String refreshToken) {
+        return RestAssured
+            .given()
+            .header(AuthenticationController.REFRESH_TOKEN_HEADER, refreshToken)
+            .when()
+            .post("/refresh");
+    }
+}
@@ -0,0 +1,154 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.metrics.UseCaseMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.domain.authentication.AuthenticationOperationErrorCode;
+import transfer.contract.domain.user.UserTo;
+
+/**
+ * Интеграционные тесты метрик use case.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class UseCaseMetricsIntegrationTest {
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Реестр метрик.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1/auth";
+    }
+
+    /**
+     * Тест метрик успешной аутентификации.
+     */
+    @Test
+    @DisplayName("Тест метрик успешной аутентификации")
+    public void successfulAuthenticationMetricsTest() {
+        long before = authenticationCount("success", "none");
+
+        authenticateUserAndGetResponse("registeredUser", "pAssw0rd123!");
+
+        Assertions.assertEquals(before + 1, authenticationCount("success", "none"));
+    }
+
+    /**
+     * Тест метрик аутентификации с неправильным паролем.
+     */
+    @Test
+    @DisplayName("Тест метрик аутентификации с неправильным паролем")
+    public void failedAuthenticationMetricsTest() {
+        long before = authenticationCount("failed", "none");
+        double errorsBefore = invalidPasswordErrors();
+
+        authenticateUserAndGetResponse("registeredUser", "wrongPassword1!");
+
+        Assertions.assertEquals(before + 1, authenticationCount("failed", "none"));
+        Assertions.assertEquals(errorsBefore + 1, invalidPasswordErrors());
+    }
+
+    /**
+     * Тест метрик аутентификации несуществующего пользователя.
+     */
+    @Test
+    @DisplayName("Тест метрик аутентификации несуществующего пользователя")
+    public void notExistingUsernameMetricsTest() {
+        long before = authenticationCount("error", "ClientApplicationException");
+
+        authenticateUserAndGetResponse("notExistingUsername", "pAssw0rd123!");
+
+        Assertions.assertEquals(before + 1,
+            authenticationCount("error", "ClientApplicationException"));
+    }
+
+    /**
+     * Количество замеров аутентификации с заданным исходом.
+     *
+     * @param outcome   - исход
+     * @param exception - класс исключения
+     * @return количество замеров
+     */
+    private long authenticationCount(final String outcome, final String exception) {
+        Timer timer = meterRegistry.find(UseCaseMetricsAspect.EXECUTION_TIMER)
+            .tag("usecase", "AuthenticationUseCase")
+            .tag("method", "authenticate")
+            .tag("outcome", outcome)
+            .tag("exception", exception)
+            .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    /**
+     * Количество ошибок INVALID_USERNAME_PASSWORD.
+     *
+     * @return количество ошибок
+     */
+    private double invalidPasswordErrors() {
+        return meterRegistry.get(UseCaseMetricsAspect.AUTHENTICATION_ERRORS)
+            .tag("code", AuthenticationOperationErrorCode.INVALID_USERNAME_PASSWORD.name())
+            .counter()
+            .count();
+    }
+
+    /**
+     * Аутентифицировать пользователя и получить ответ.
+     *
+     * @param username - имя пользователя
+     * @param password - пароль
+     * @return ответ
+     */
+    private Response authenticateUserAndGetResponse(final String username,
+                                                    final String password) {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .body(UserTo.builder()
+                .username(username)
+                .password(password)
+                .build())
+            .when()
+            .post("/authenticate");
+    }
+}
@@ -4,7 +4,10 @@ import heavenboards.user.service.user.mapping.UserMapper;
 import heavenboards.user.service.user.domain.UserRepository;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -74,6 +77,12 @@ public class UserAuthenticationIntegrationTest {
     @Autowired
     private UserMapper userMapper;
 
+    /**
+     * Фабрика EntityManager для доступа к статистике hibernate.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     /**
      * Mock api-клиента для сервиса пользователей.
      */
@@ -101,6 +110,9 @@ public class UserAuthenticationIntegrationTest {
                 .orElseThrow(() -> new ClientApplicationException(BaseErrorCode.NOT_FOUND,
                     "Пользователь не найден")));
 
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
         String username = "registeredUser";
         Response response = authenticateUserAndGetResponse(username);
 
@@ -110,6 +122,7 @@ public class UserAuthenticationIntegrationTest {
 
         Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
         Assertions.assertEquals(OperationStatus.OK, operationResult.getStatus());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
         Assertions.assertEquals(username, tokenExtractor
             .extractUsername(operationResult.getToken()));
     }
@@ -0,0 +1,244 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.user.cache.InMemoryUserCacheInvalidationPublisher;
+import heavenboards.user.service.user.cache.UserCacheInvalidator;
+import heavenboards.user.service.user.cache.UserInvalidatedEvent;
+import heavenboards.user.service.user.service.UserFindUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.domain.user.UserTo;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Интеграционные тесты кэша пользователей.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "user.cache.enabled=true")
+@Import(UserCacheIntegrationTest.InvalidationPublisherConfiguration.class)
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class UserCacheIntegrationTest {
+    /**
+     * Идентификатор пользователя из sql/user/create.sql.
+     */
+    private static final UUID REGISTERED_USER_ID =
+        UUID.fromString("e8e20bfc-0d9c-49e7-b30f-1a6abf3b2795");
+
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Фабрика EntityManager для доступа к статистике hibernate.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Инвалидация кэша пользователей.
+     */
+    @Autowired
+    private UserCacheInvalidator userCacheInvalidator;
+
+    /**
+     * Публикация инвалидации в памяти.
+     */
+    @Autowired
+    private InMemoryUserCacheInvalidationPublisher invalidationPublisher;
+
+    /**
+     * Use case поиска пользователей.
+     */
+    @Autowired
+    private UserFindUseCase userFindUseCase;
+
+    /**
+     * Реестр метрик.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Статистика hibernate.
+     */
+    private Statistics statistics;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1";
+    }
+
+    /**
+     * Очистка кэша, статистики и опубликованных событий перед каждым тестом.
+     */
+    @BeforeEach
+    public void setUp() {
+        userCacheInvalidator.evictLocally(new UserInvalidatedEvent(REGISTERED_USER_ID,
+            "registeredUser"));
+        invalidationPublisher.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Тест повторного получения пользователя по username из кэша.
+     */
+    @Test
+    @DisplayName("Тест повторного получения пользователя по username из кэша")
+    public void findUserByUsernameFromCacheTest() {
+        double hitsBefore = cacheGets("user.by-username", "hit");
+
+        Response first = findUserByUsernameAndGetResponse("registeredUser");
+        Response second = findUserByUsernameAndGetResponse("registeredUser");
+
+        Assertions.assertEquals(HttpStatus.OK.value(), first.getStatusCode());
+        Assertions.assertEquals(HttpStatus.OK.value(), second.getStatusCode());
+        Assertions.assertEquals(REGISTERED_USER_ID, second.getBody().as(UserTo.class).getId());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(hitsBefore + 1, cacheGets("user.by-username", "hit"));
+    }
+
+    /**
+     * Тест получения пользователя по идентификатору из кэша, заполненного по username.
+     */
+    @Test
+    @DisplayName("Тест получения пользователя по идентификатору из кэша")
+    public void findUsersByIdsFromCacheTest() {
+        findUserByUsernameAndGetResponse("registeredUser");
+        statistics.clear();
+
+        List<UserTo> users = userFindUseCase.findUsersByIds(Set.of(REGISTERED_USER_ID));
+
+        Assertions.assertEquals(1, users.size());
+        Assertions.assertEquals("registeredUser", users.get(0).getUsername());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Тест инвалидации кэша событием от другого экземпляра сервиса.
+     */
+    @Test
+    @DisplayName("Тест инвалидации кэша событием от другого экземпляра сервиса")
+    public void remoteInvalidationTest() {
+        findUserByUsernameAndGetResponse("registeredUser");
+        userCacheInvalidator.evictLocally(new UserInvalidatedEvent(REGISTERED_USER_ID, null));
+        statistics.clear();
+
+        findUserByUsernameAndGetResponse("registeredUser");
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertTrue(invalidationPublisher.getPublishedEvents().isEmpty());
+    }
+
+    /**
+     * Тест публикации инвалидации при регистрации пользователя.
+     */
+    @Test
+    @DisplayName("Тест публикации инвалидации при регистрации пользователя")
+    public void registrationPublishesInvalidationTest() {
+        Response response = RestAssured
+            .given()
+            .contentType("application/json")
+            .body(UserTo.builder()
+                .username("newUser")
+                .password("pAssw0rd123!")
+                .firstName("Ivan")
+                .lastName("Ivanov")
+                .build())
+            .when()
+            .post("/auth/register");
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertTrue(invalidationPublisher.getPublishedEvents().stream()
+            .anyMatch(event -> "newUser".equals(event.username())));
+    }
+
+    /**
+     * Получить количество обращений к кэшу с результатом.
+     *
+     * @param cache  - название кэша
+     * @param result - hit или miss
+     * @return количество обращений
+     */
+    private double cacheGets(final String cache, final String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", cache)
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+
+    /**
+     * Найти пользователя по username и получить ответ.
+     *
+     * @param username - username
+     * @return ответ
+     */
+    private Response findUserByUsernameAndGetResponse(final String username) {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .when()
+            .get("/user/" + username);
+    }
+
+    /**
+     * Конфигурация с публикацией инвалидации в памяти.
+     */
+    @TestConfiguration
+    static class InvalidationPublisherConfiguration {
+        /**
+         * Публикация инвалидации в памяти.
+         *
+         * @return бин публикации инвалидации
+         */
+        @Bean
+        public InMemoryUserCacheInvalidationPublisher inMemoryUserCacheInvalidationPublisher() {
+            return new InMemoryUserCacheInvalidationPublisher();
+        }
+    }
+}
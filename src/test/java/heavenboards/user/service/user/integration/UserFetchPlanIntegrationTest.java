@@ -0,0 +1,133 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.invitation.domain.InvitationEntity;
+import heavenboards.user.service.invitation.domain.InvitationRepository;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Интеграционные тесты количества sql-запросов при загрузке пользователей.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/invitation/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class UserFetchPlanIntegrationTest {
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Репозиторий для приглашений.
+     */
+    @Autowired
+    private InvitationRepository invitationRepository;
+
+    /**
+     * Фабрика EntityManager для доступа к статистике hibernate.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Статистика hibernate.
+     */
+    private Statistics statistics;
+
+    /**
+     * Сброс статистики перед каждым тестом.
+     */
+    @BeforeEach
+    public void clearStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Тест загрузки пользователя по username без приглашений.
+     */
+    @Test
+    @DisplayName("Тест загрузки пользователя по username без приглашений")
+    public void findByUsernameDoesNotLoadInvitationsTest() {
+        UserEntity user = userRepository.findByUsername("invitedUser").orElseThrow();
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertFalse(Hibernate.isInitialized(user.getInvitations()));
+        Assertions.assertFalse(Hibernate.isInitialized(user.getSentInvitations()));
+    }
+
+    /**
+     * Тест загрузки пользователей по идентификаторам без приглашений.
+     */
+    @Test
+    @DisplayName("Тест загрузки пользователей по идентификаторам без приглашений")
+    public void findAllByIdDoesNotLoadInvitationsTest() {
+        List<UserEntity> users = userRepository.findAllById(Set.of(
+            UUID.fromString("e8e20bfc-0d9c-49e7-b30f-1a6abf3b2795"),
+            UUID.fromString("2baed0f0-49b2-43fa-bec2-c3b4af8b2918")
+        ));
+
+        Assertions.assertEquals(2, users.size());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Тест явной загрузки пользователя вместе с входящими приглашениями.
+     */
+    @Test
+    @DisplayName("Тест явной загрузки пользователя вместе с входящими приглашениями")
+    public void findWithInvitationsByUsernameTest() {
+        UserEntity user = userRepository.findWithInvitationsByUsername("invitedUser")
+            .orElseThrow();
+
+        Assertions.assertTrue(Hibernate.isInitialized(user.getInvitations()));
+        Assertions.assertEquals(2, user.getInvitations().size());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Тест загрузки входящих приглашений вместе с пользователями.
+     */
+    @Test
+    @DisplayName("Тест загрузки входящих приглашений вместе с пользователями")
+    public void findAllByInvitedUserIdTest() {
+        List<InvitationEntity> invitations = invitationRepository.findAllByInvitedUserId(
+            UUID.fromString("e8e20bfc-0d9c-49e7-b30f-1a6abf3b2795"));
+
+        Assertions.assertEquals(2, invitations.size());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
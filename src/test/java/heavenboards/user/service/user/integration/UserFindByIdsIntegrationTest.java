@@ -0,0 +1,158 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserRepository;
+import io.restassured.RestAssured;
+import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.domain.user.UserTo;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Интеграционные тесты получения пользователей по идентификаторам, в том числе потокового.
+ * Размер части уменьшен до 2, чтобы запрос делился на несколько частей.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = "user.lookup.chunk-size=2")
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class UserFindByIdsIntegrationTest {
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Идентификаторы созданных пользователей.
+     */
+    private List<UUID> userIds;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1/user";
+        RestAssured.defaultParser = Parser.JSON;
+    }
+
+    /**
+     * Создание пользователей перед каждым тестом.
+     */
+    @BeforeEach
+    public void createUsers() {
+        userIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            userIds.add(userRepository.save(UserEntity.builder()
+                .username("lookupUser" + i)
+                .password("$2a$10$JqrceZDuA3g/h7dLuHbrD.GRoJKZdjmVcNvJunSbOsk1yxGOPtIie")
+                .firstName("Ivan")
+                .lastName("Ivanov")
+                .createdAt(ZonedDateTime.now())
+                .updatedAt(ZonedDateTime.now())
+                .build()).getId());
+        }
+    }
+
+    /**
+     * Тест получения пользователей несколькими частями.
+     */
+    @Test
+    @DisplayName("Тест получения пользователей несколькими частями")
+    public void findUsersByIdsInChunksTest() {
+        Set<UUID> requestedIds = new HashSet<>(userIds);
+        requestedIds.add(UUID.randomUUID());
+
+        Response response = RestAssured
+            .given()
+            .contentType("application/json")
+            .body(requestedIds)
+            .when()
+            .post();
+        List<UUID> foundIds = response.jsonPath().getList(".", UserTo.class).stream()
+            .map(UserTo::getId)
+            .toList();
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals(userIds.stream().sorted().toList(), foundIds);
+    }
+
+    /**
+     * Тест потокового получения пользователей.
+     */
+    @Test
+    @DisplayName("Тест потокового получения пользователей")
+    public void streamUsersByIdsTest() {
+        Set<UUID> requestedIds = new HashSet<>(userIds);
+        requestedIds.add(UUID.randomUUID());
+
+        Response response = RestAssured
+            .given()
+            .contentType("application/json")
+            .body(requestedIds)
+            .when()
+            .post("/stream");
+        List<UserTo> users = response.jsonPath().getList(".", UserTo.class);
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals(userIds.stream().sorted().toList(), users.stream()
+            .map(UserTo::getId)
+            .toList());
+        users.forEach(user -> {
+            Assertions.assertTrue(user.getUsername().startsWith("lookupUser"));
+            Assertions.assertNull(user.getPassword());
+        });
+    }
+
+    /**
+     * Тест потокового получения по пустому набору идентификаторов.
+     */
+    @Test
+    @DisplayName("Тест потокового получения по пустому набору идентификаторов")
+    public void streamUsersByEmptyIdsTest() {
+        Response response = RestAssured
+            .given()
+            .contentType("application/json")
+            .body(Set.of())
+            .when()
+            .post("/stream");
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals("[]", response.getBody().asString());
+    }
+}
@@ -2,19 +2,28 @@ package heavenboards.user.service.user.integration;
 
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.domain.user.UserTo;
 import transfer.contract.exception.ApplicationException;
 import transfer.contract.exception.BaseErrorCode;
 
+import java.util.UUID;
+
 /**
  * Интеграционный тест поиска пользователя по username.
  */
@@ -29,6 +38,12 @@ public class UserFindByUsernameIntegrationTest {
     @LocalServerPort
     private int port;
 
+    /**
+     * Фабрика EntityManager для доступа к статистике hibernate.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     /**
      * Конфигурация класса перед тестами.
      */
@@ -38,6 +53,38 @@ public class UserFindByUsernameIntegrationTest {
         RestAssured.baseURI = "http://localhost:" + port + "/api/v1/user";
     }
 
+    /**
+     * Тест нахождения существующего пользователя по username.
+     */
+    @Test
+    @DisplayName("Тест нахождения существующего пользователя по username")
+    @Sql(
+        scripts = "classpath:sql/user/create.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+        config = @SqlConfig(encoding = "UTF-8")
+    )
+    @Sql(
+        scripts = "classpath:sql/clear-all.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+        config = @SqlConfig(encoding = "UTF-8")
+    )
+    public void findUserByExistingUsernameTest() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        Response response = findUserByUsernameAndGetResponse("registeredUser");
+        UserTo user = response.getBody().as(UserTo.class);
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals(UUID.fromString("e8e20bfc-0d9c-49e7-b30f-1a6abf3b2795"),
+            user.getId());
+        Assertions.assertEquals("registeredUser", user.getUsername());
+        Assertions.assertNull(user.getPassword());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
     @Test
     @DisplayName("Тест нахождения пользователя с несуществующим username")
     public void findUserByNotExistingUsernameTest() {
@@ -51,6 +98,20 @@ public class UserFindByUsernameIntegrationTest {
         Assertions.assertEquals(BaseErrorCode.NOT_FOUND, applicationException.getErrorCode());
     }
 
+    /**
+     * Найти пользователя по username и получить ответ.
+     *
+     * @param username - username
+     * @return ответ
+     */
+    private Response findUserByUsernameAndGetResponse(final String username) {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .when()
+            .get("/" + username);
+    }
+
     /**
      * Аутентифицировать пользователя и получить ответ.
      *
@@ -0,0 +1,104 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.user.domain.UserRepository;
+import io.restassured.RestAssured;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+import transfer.contract.domain.user.UserTo;
+
+/**
+ * Интеграционный тест доступа к пакетному импорту пользователей.
+ * Используются настройки по умолчанию: импорт разрешен только роли ADMIN.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class UserImportAccessIntegrationTest {
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1";
+    }
+
+    /**
+     * Тест отказа в импорте пользователю без роли администратора.
+     */
+    @Test
+    @DisplayName("Тест отказа в импорте пользователю без роли администратора")
+    public void nonAdminImportIsForbiddenTest() {
+        Response response = RestAssured
+            .given()
+            .header(new Header(HttpHeaders.AUTHORIZATION, "Bearer " + authenticateAndGetToken()))
+            .contentType("application/x-ndjson")
+            .body("{\"username\":\"importedUser\",\"password\":\"pAssw0rd123!\","
+                + "\"firstName\":\"Ivan\",\"lastName\":\"Ivanov\"}")
+            .when()
+            .post("/user/import");
+
+        Assertions.assertEquals(HttpStatus.FORBIDDEN.value(), response.getStatusCode());
+        Assertions.assertTrue(userRepository.findByUsername("importedUser").isEmpty());
+    }
+
+    /**
+     * Аутентифицировать registeredUser с ролью USER и получить access-токен.
+     *
+     * @return access-токен
+     */
+    private String authenticateAndGetToken() {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .body(UserTo.builder()
+                .username("registeredUser")
+                .password("pAssw0rd123!")
+                .build())
+            .when()
+            .post("/auth/authenticate")
+            .getBody()
+            .as(AuthenticationOperationResultTo.class)
+            .getToken();
+    }
+}
@@ -0,0 +1,253 @@
+package heavenboards.user.service.user.integration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import heavenboards.user.service.user.domain.UserRepository;
+import heavenboards.user.service.user.importing.UserImportRowResult;
+import heavenboards.user.service.user.importing.UserImportRowStatus;
+import heavenboards.user.service.user.importing.UserImportSummary;
+import io.restassured.RestAssured;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+import transfer.contract.domain.user.UserTo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Интеграционные тесты пакетного импорта пользователей.
+ * Импорт разрешен роли USER, чтобы его мог выполнить пользователь из sql/user/create.sql.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+    "user.import.allowed-roles=USER",
+    "user.import.chunk-size=2"
+})
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class UserImportIntegrationTest {
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Кодировщик паролей.
+     */
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    /**
+     * Маппер для разбора ответа.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1";
+    }
+
+    /**
+     * Тест импорта NDJSON с дубликатами и некорректными строками.
+     *
+     * @throws JsonProcessingException - если ответ не удалось разобрать
+     */
+    @Test
+    @DisplayName("Тест импорта NDJSON с дубликатами и некорректными строками")
+    public void ndjsonImportTest() throws JsonProcessingException {
+        String body = String.join("\n",
+            "{\"username\":\"importedUser\",\"password\":\"pAssw0rd123!\","
+                + "\"firstName\":\"Ivan\",\"lastName\":\"Ivanov\"}",
+            "{\"username\":\"registeredUser\",\"password\":\"pAssw0rd123!\","
+                + "\"firstName\":\"Ivan\",\"lastName\":\"Ivanov\"}",
+            "{not a json",
+            "{\"username\":\"importedUser\",\"password\":\"pAssw0rd123!\","
+                + "\"firstName\":\"Petr\",\"lastName\":\"Petrov\"}",
+            "{\"username\":\"noLastName\",\"password\":\"pAssw0rd123!\","
+                + "\"firstName\":\"Petr\",\"lastName\":\"\"}");
+
+        Response response = importUsers("application/x-ndjson", body);
+        List<String> lines = responseLines(response);
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals(6, lines.size());
+        List<UserImportRowStatus> statuses = new ArrayList<>();
+        for (String line : lines.subList(0, 5)) {
+            statuses.add(objectMapper.readValue(line, UserImportRowResult.class).status());
+        }
+        Assertions.assertEquals(List.of(
+            UserImportRowStatus.CREATED,
+            UserImportRowStatus.DUPLICATE,
+            UserImportRowStatus.INVALID,
+            UserImportRowStatus.DUPLICATE,
+            UserImportRowStatus.INVALID
+        ), statuses);
+
+        UserImportSummary summary = objectMapper.readValue(lines.get(5), UserImportSummary.class);
+        Assertions.assertEquals(5, summary.total());
+        Assertions.assertEquals(1, summary.created());
+        Assertions.assertEquals(2, summary.duplicates());
+        Assertions.assertEquals(2, summary.invalid());
+        Assertions.assertTrue(summary.rowsPerSecond() > 0);
+
+        Assertions.assertTrue(passwordEncoder.matches("pAssw0rd123!", userRepository
+            .findByUsername("importedUser").orElseThrow().getPassword()));
+    }
+
+    /**
+     * Тест импорта NDJSON со строкой null.
+     *
+     * @throws JsonProcessingException - если ответ не удалось разобрать
+     */
+    @Test
+    @DisplayName("Тест импорта NDJSON со строкой null")
+    public void ndjsonNullRowTest() throws JsonProcessingException {
+        String body = String.join("\n",
+            "null",
+            "{\"username\":\"importedUser\",\"password\":\"pAssw0rd123!\","
+                + "\"firstName\":\"Ivan\",\"lastName\":\"Ivanov\"}");
+
+        Response response = importUsers("application/x-ndjson", body);
+        List<String> lines = responseLines(response);
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertEquals(UserImportRowStatus.INVALID,
+            objectMapper.readValue(lines.get(0), UserImportRowResult.class).status());
+        Assertions.assertEquals(UserImportRowStatus.CREATED,
+            objectMapper.readValue(lines.get(1), UserImportRowResult.class).status());
+        Assertions.assertTrue(userRepository.findByUsername("importedUser").isPresent());
+    }
+
+    /**
+     * Тест импорта CSV с колонками в другом порядке и кавычками.
+     *
+     * @throws JsonProcessingException - если ответ не удалось разобрать
+     */
+    @Test
+    @DisplayName("Тест импорта CSV с колонками в другом порядке и кавычками")
+    public void csvImportTest() throws JsonProcessingException {
+        String body = String.join("\n",
+            "firstName,lastName,username,password",
+            "Ivan,Ivanov,csvUser1,\"pass,word\"\"1\"",
+            "Petr,Petrov,csvUser2,pAssw0rd123!",
+            "Anna,Ivanova,csvUser3,pAssw0rd123!");
+
+        List<String> lines = responseLines(importUsers("text/csv", body));
+
+        UserImportSummary summary = objectMapper.readValue(lines.get(lines.size() - 1),
+            UserImportSummary.class);
+        Assertions.assertEquals(3, summary.created());
+        Assertions.assertTrue(passwordEncoder.matches("pass,word\"1", userRepository
+            .findByUsername("csvUser1").orElseThrow().getPassword()));
+        Assertions.assertEquals("Anna", userRepository.findByUsername("csvUser3")
+            .orElseThrow().getFirstName());
+    }
+
+    /**
+     * Тест отказа в импорте CSV без обязательной колонки до начала ответа.
+     */
+    @Test
+    @DisplayName("Тест отказа в импорте CSV без обязательной колонки до начала ответа")
+    public void csvWithoutRequiredColumnTest() {
+        String body = String.join("\n",
+            "firstName,lastName,username",
+            "Ivan,Ivanov,csvUser1");
+
+        Response response = importUsers("text/csv", body);
+
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST.value(), response.getStatusCode());
+        Assertions.assertTrue(userRepository.findByUsername("csvUser1").isEmpty());
+    }
+
+    /**
+     * Отправить файл импорта от имени registeredUser.
+     *
+     * @param contentType - тип содержимого файла
+     * @param body        - файл
+     * @return ответ
+     */
+    private Response importUsers(final String contentType, final String body) {
+        return RestAssured
+            .given()
+            .header(new Header(HttpHeaders.AUTHORIZATION, "Bearer " + authenticateAndGetToken()))
+            .contentType(contentType)
+            .body(body)
+            .when()
+            .post("/user/import");
+    }
+
+    /**
+     * Аутентифицировать registeredUser и получить access-токен.
+     *
+     * @return access-токен
+     */
+    private String authenticateAndGetToken() {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .body(UserTo.builder()
+                .username("registeredUser")
+                .password("pAssw0rd123!")
+                .build())
+            .when()
+            .post("/auth/authenticate")
+            .getBody()
+            .as(AuthenticationOperationResultTo.class)
+            .getToken();
+    }
+
+    /**
+     * Строки ответа NDJSON.
+     *
+     * @param response - ответ
+     * @return непустые строки
+     */
+    private List<String> responseLines(final Response response) {
+        return response.getBody().asString().lines()
+            .filter(line -> !line.isBlank())
+            .toList();
+    }
+}
@@ -1,5 +1,7 @@
 package heavenboards.user.service.user.integration;
 
+import heavenboards.user.service.project.client.ServiceCredentialProperties;
+import heavenboards.user.service.user.domain.UserRepository;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +23,13 @@ import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
 import transfer.contract.domain.common.OperationStatus;
 import transfer.contract.domain.user.UserTo;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Интеграционные тесты для регистрации пользователей.
@@ -48,6 +56,18 @@ public class UserRegistrationIntegrationTest {
     @Autowired
     private JwtTokenExtractor tokenExtractor;
 
+    /**
+     * Настройки учетных данных сервиса.
+     */
+    @Autowired
+    private ServiceCredentialProperties serviceCredentialProperties;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
     /**
      * Конфигурация класса перед тестами.
      */
@@ -105,6 +125,78 @@ public class UserRegistrationIntegrationTest {
         ), failedResult.getErrors());
     }
 
+    /**
+     * Тест регистрации с username служебного пользователя.
+     */
+    @Test
+    @DisplayName("Тест регистрации с username служебного пользователя")
+    public void serviceUsernameIsReservedTest() {
+        Response response = registerUserAndGetResponse(
+            serviceCredentialProperties.getUsername().toUpperCase(Locale.ROOT));
+        AuthenticationOperationResultTo operationResult = response
+            .getBody()
+            .as(AuthenticationOperationResultTo.class);
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals(OperationStatus.FAILED, operationResult.getStatus());
+        Assertions.assertNull(operationResult.getToken());
+        Assertions.assertEquals(AuthenticationOperationErrorCode.USERNAME_ALREADY_EXIST,
+            operationResult.getErrors().get(0).getErrorCode());
+        Assertions.assertTrue(userRepository.findByUsername(
+            serviceCredentialProperties.getUsername()).isEmpty());
+    }
+
+    /**
+     * Тест параллельной регистрации одного username.
+     *
+     * @throws Exception - если ожидание запросов прервано или запрос завершился ошибкой
+     */
+    @Test
+    @DisplayName("Тест параллельной регистрации одного username")
+    public void concurrentRegistrationTest() throws Exception {
+        String username = "concurrentUsername";
+        int requests = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        List<Future<Response>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return registerUserAndGetResponse(username);
+                }));
+            }
+            start.countDown();
+
+            List<AuthenticationOperationResultTo> results = new ArrayList<>();
+            for (Future<Response> future : futures) {
+                Response response = future.get();
+                Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+                results.add(response.getBody().as(AuthenticationOperationResultTo.class));
+            }
+
+            List<AuthenticationOperationResultTo> winners = results.stream()
+                .filter(result -> result.getStatus() == OperationStatus.OK)
+                .toList();
+            Assertions.assertEquals(1, winners.size());
+            for (AuthenticationOperationResultTo result : results) {
+                if (result.getStatus() == OperationStatus.OK) {
+                    continue;
+                }
+
+                Assertions.assertEquals(List.of(
+                    AuthenticationOperationResultTo.AuthenticationOperationErrorTo
+                        .builder()
+                        .failedUserId(winners.get(0).getUserId())
+                        .errorCode(AuthenticationOperationErrorCode.USERNAME_ALREADY_EXIST)
+                        .build()
+                ), result.getErrors());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Зарегистрировать пользователя и получить ответ.
      *
@@ -0,0 +1,181 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserRepository;
+import io.restassured.RestAssured;
+import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import transfer.contract.domain.user.UserTo;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Интеграционные тесты поиска пользователей по части username, имени или фамилии.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class UserSearchIntegrationTest {
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Фабрика EntityManager для доступа к статистике hibernate.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1/user";
+        RestAssured.defaultParser = Parser.JSON;
+    }
+
+    /**
+     * Создание пользователя, username которого похож на имя registeredUser.
+     */
+    @BeforeEach
+    public void createSimilarUser() {
+        userRepository.save(UserEntity.builder()
+            .username("ivanko")
+            .password("$2a$10$JqrceZDuA3g/h7dLuHbrD.GRoJKZdjmVcNvJunSbOsk1yxGOPtIie")
+            .firstName("Petr")
+            .lastName("Petrov")
+            .createdAt(ZonedDateTime.now())
+            .updatedAt(ZonedDateTime.now())
+            .build());
+    }
+
+    /**
+     * Тест поиска по имени с сортировкой по релевантности.
+     */
+    @Test
+    @DisplayName("Тест поиска по имени с сортировкой по релевантности")
+    public void searchByNameTest() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        Response response = searchUsersAndGetResponse("Ivan", 20);
+        List<UserTo> users = response.jsonPath().getList(".", UserTo.class);
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals(List.of("registeredUser", "ivanko"), users.stream()
+            .map(UserTo::getUsername)
+            .toList());
+        Assertions.assertNull(users.get(0).getPassword());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    /**
+     * Тест поиска по части username и ограничения количества результатов.
+     */
+    @Test
+    @DisplayName("Тест поиска по части username и ограничения количества результатов")
+    public void searchByUsernamePartAndLimitTest() {
+        List<UserTo> byPart = searchUsersAndGetResponse("stered", 20)
+            .jsonPath().getList(".", UserTo.class);
+        List<UserTo> limited = searchUsersAndGetResponse("iv", 1)
+            .jsonPath().getList(".", UserTo.class);
+
+        Assertions.assertEquals(1, byPart.size());
+        Assertions.assertEquals("registeredUser", byPart.get(0).getUsername());
+        Assertions.assertEquals(1, limited.size());
+    }
+
+    /**
+     * Тест поиска по строке со спецсимволами LIKE.
+     */
+    @Test
+    @DisplayName("Тест поиска по строке со спецсимволами LIKE")
+    public void searchWithLikeWildcardsTest() {
+        List<UserTo> users = searchUsersAndGetResponse("%_", 20)
+            .jsonPath().getList(".", UserTo.class);
+
+        Assertions.assertTrue(users.isEmpty());
+    }
+
+    /**
+     * Тест получения пользователя с username search по username.
+     */
+    @Test
+    @DisplayName("Тест получения пользователя с username search по username")
+    public void userNamedSearchIsFoundByUsernameTest() {
+        userRepository.save(UserEntity.builder()
+            .username("search")
+            .password("$2a$10$JqrceZDuA3g/h7dLuHbrD.GRoJKZdjmVcNvJunSbOsk1yxGOPtIie")
+            .firstName("Anna")
+            .lastName("Ivanova")
+            .createdAt(ZonedDateTime.now())
+            .updatedAt(ZonedDateTime.now())
+            .build());
+
+        Response response = RestAssured
+            .when()
+            .get("/search");
+
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        Assertions.assertEquals("search", response.as(UserTo.class).getUsername());
+    }
+
+    /**
+     * Найти пользователей и получить ответ.
+     *
+     * @param query - строка поиска
+     * @param limit - максимальное количество пользователей
+     * @return ответ
+     */
+    private Response searchUsersAndGetResponse(final String query, final int limit) {
+        return RestAssured
+            .given()
+            .queryParam("q", query)
+            .queryParam("limit", limit)
+            .when()
+            .get();
+    }
+}
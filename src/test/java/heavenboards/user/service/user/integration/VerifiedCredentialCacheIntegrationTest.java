@@ -0,0 +1,234 @@
+package heavenboards.user.service.user.integration;
+
+import heavenboards.user.service.authentication.credentials.VerifiedCredentialCache;
+import heavenboards.user.service.user.cache.UserInvalidatedEvent;
+import heavenboards.user.service.user.domain.UserEntity;
+import heavenboards.user.service.user.domain.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import security.service.jwt.JwtTokenExtractor;
+import transfer.contract.domain.authentication.AuthenticationOperationResultTo;
+import transfer.contract.domain.common.OperationStatus;
+import transfer.contract.domain.user.UserTo;
+
+/**
+ * Интеграционные тесты кэша проверенных учетных данных.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@RequiredArgsConstructor
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = "auth.credential-cache.enabled=true")
+@Sql(
+    scripts = {
+        "classpath:sql/user/create.sql"
+    },
+    executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+@Sql(
+    scripts = "classpath:sql/clear-all.sql",
+    executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD,
+    config = @SqlConfig(encoding = "UTF-8")
+)
+public class VerifiedCredentialCacheIntegrationTest {
+    /**
+     * Username пользователя из sql/user/create.sql.
+     */
+    private static final String USERNAME = "registeredUser";
+
+    /**
+     * Пароль пользователя registeredUser.
+     */
+    private static final String PASSWORD = "pAssw0rd123!";
+
+    /**
+     * Порт приложения.
+     */
+    @LocalServerPort
+    private int port;
+
+    /**
+     * Репозиторий для пользователей.
+     */
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Кодировщик паролей.
+     */
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    /**
+     * Кэш проверенных учетных данных.
+     */
+    @Autowired
+    private VerifiedCredentialCache verifiedCredentialCache;
+
+    /**
+     * Класс для извлечения данных из JWT-токенов.
+     */
+    @Autowired
+    private JwtTokenExtractor tokenExtractor;
+
+    /**
+     * Фабрика EntityManager для доступа к статистике hibernate.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Реестр метрик.
+     */
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Конфигурация класса перед тестами.
+     */
+    @BeforeAll
+    public void setUpRestAssured() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost:" + port + "/api/v1/auth";
+    }
+
+    /**
+     * Очистка кэша после каждого теста, так как clear-all.sql не публикует событий.
+     */
+    @AfterEach
+    public void clearCache() {
+        verifiedCredentialCache.evict(new UserInvalidatedEvent(null, USERNAME));
+    }
+
+    /**
+     * Тест повторного входа без вычисления хэша и обращения к базе.
+     */
+    @Test
+    @DisplayName("Тест повторного входа без вычисления хэша и обращения к базе")
+    public void repeatedLoginSkipsHashCheckTest() {
+        Assertions.assertEquals(OperationStatus.OK, authenticate(PASSWORD).getStatus());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long hashedBefore = hashedPasswords();
+
+        AuthenticationOperationResultTo result = authenticate(PASSWORD);
+
+        Assertions.assertEquals(OperationStatus.OK, result.getStatus());
+        Assertions.assertEquals(USERNAME, tokenExtractor.extractUsername(result.getToken()));
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(hashedBefore, hashedPasswords());
+    }
+
+    /**
+     * Тест входа с другим паролем при закэшированных учетных данных.
+     */
+    @Test
+    @DisplayName("Тест входа с другим паролем при закэшированных учетных данных")
+    public void wrongPasswordIsCheckedByHashTest() {
+        Assertions.assertEquals(OperationStatus.OK, authenticate(PASSWORD).getStatus());
+        long hashedBefore = hashedPasswords();
+
+        Assertions.assertEquals(OperationStatus.FAILED,
+            authenticate("wrongPassw0rd!").getStatus());
+        Assertions.assertEquals(hashedBefore + 1, hashedPasswords());
+    }
+
+    /**
+     * Тест сброса кэша после блокировки аккаунта.
+     */
+    @Test
+    @DisplayName("Тест сброса кэша после блокировки аккаунта")
+    public void accountFlagChangeEvictsCredentialsTest() {
+        Assertions.assertEquals(OperationStatus.OK, authenticate(PASSWORD).getStatus());
+
+        UserEntity user = userRepository.findByUsername(USERNAME).orElseThrow();
+        userRepository.save(user.setAccountNonLocked(false));
+
+        Assertions.assertEquals(OperationStatus.FAILED, authenticate(PASSWORD).getStatus());
+    }
+
+    /**
+     * Тест сброса кэша после смены пароля.
+     */
+    @Test
+    @DisplayName("Тест сброса кэша после смены пароля")
+    public void passwordChangeEvictsCredentialsTest() {
+        Assertions.assertEquals(OperationStatus.OK, authenticate(PASSWORD).getStatus());
+
+        String newPassword = "n3wPassw0rd!";
+        UserEntity user = userRepository.findByUsername(USERNAME).orElseThrow();
+        userRepository.save(user.setPassword(passwordEncoder.encode(newPassword)));
+
+        Assertions.assertEquals(OperationStatus.FAILED, authenticate(PASSWORD).getStatus());
+        Assertions.assertEquals(OperationStatus.OK, authenticate(newPassword).getStatus());
+    }
+
+    /**
+     * Тест смены пароля между загрузкой пользователя и записью в кэш.
+     * Вход, загрузивший пользователя до смены пароля, не должен закэшировать старый пароль.
+     */
+    @Test
+    @DisplayName("Тест смены пароля между загрузкой пользователя и записью в кэш")
+    public void passwordChangeDuringLoginIsNotCachedTest() {
+        long generation = verifiedCredentialCache.generation(USERNAME);
+        UserEntity loadedUser = userRepository.findByUsername(USERNAME).orElseThrow();
+
+        String newPassword = "n3wPassw0rd!";
+        UserEntity user = userRepository.findByUsername(USERNAME).orElseThrow();
+        userRepository.save(user.setPassword(passwordEncoder.encode(newPassword)));
+
+        verifiedCredentialCache.put(loadedUser, PASSWORD, generation);
+
+        Assertions.assertTrue(verifiedCredentialCache.findVerified(USERNAME, PASSWORD).isEmpty());
+        Assertions.assertEquals(OperationStatus.FAILED, authenticate(PASSWORD).getStatus());
+    }
+
+    /**
+     * Аутентифицировать registeredUser.
+     *
+     * @param password - пароль
+     * @return результат аутентификации
+     */
+    private AuthenticationOperationResultTo authenticate(final String password) {
+        return RestAssured
+            .given()
+            .contentType("application/json")
+            .body(UserTo.builder()
+                .username(USERNAME)
+                .password(password)
+                .build())
+            .when()
+            .post("/authenticate")
+            .getBody()
+            .as(AuthenticationOperationResultTo.class);
+    }
+
+    /**
+     * Количество операций в пуле хэширования паролей.
+     *
+     * @return количество операций
+     */
+    private long hashedPasswords() {
+        return meterRegistry.get("password.hashing.queue.wait").timer().count();
+    }
+}
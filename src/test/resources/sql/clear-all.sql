@@ -1,4 +1,6 @@
 -- noinspection SqlWithoutWhereForFile
 
+TRUNCATE refresh_token CASCADE;
+TRUNCATE project_membership_outbox CASCADE;
 TRUNCATE invitation_entity CASCADE;
 TRUNCATE user_entity CASCADE;